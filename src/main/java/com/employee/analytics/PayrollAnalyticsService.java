@@ -0,0 +1,191 @@
+package com.employee.analytics;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.employee.tax.FinancialYearCalendar;
+import com.employee.tax.TaxEngine;
+import com.employee.tax.TaxRegime;
+
+/**
+ * Full-population aggregates over {@link PayrollSnapshot}. Year-to-date gross
+ * is monthly salary times {@link FinancialYearCalendar#monthsWorked(int, int)},
+ * the same rule as the single-employee tax path.
+ */
+@Service
+public class PayrollAnalyticsService {
+
+	@Autowired
+	private PayrollSnapshot payrollSnapshot;
+
+	@Autowired
+	private TaxEngine taxEngine;
+
+	/**
+	 * Year-to-date tax split by slab. Each slab reports how many employees earn
+	 * into it and the tax collected on the part of their salary inside it.
+	 */
+	public Map<String, Object> taxBySlab(LocalDate asOf, String regimeName) {
+		PayrollSnapshot.Columns columns = payrollSnapshot.columns();
+		TaxRegime regime = regimeFor(asOf, regimeName);
+		int slabs = regime.slabCount();
+		int asOfMonth = FinancialYearCalendar.monthIndex(asOf);
+
+		// per top slab: employee count and salary above the slab's lower bound
+		long[] topSlabCount = new long[slabs];
+		double[] topSlabExcess = new double[slabs];
+		long employees = 0;
+		double totalGross = 0;
+		double[] salary = columns.salary;
+		int[] joinMonth = columns.joinMonth;
+		for (int i = 0; i < columns.size; i++) {
+			int months = FinancialYearCalendar.monthsWorked(joinMonth[i], asOfMonth);
+			if (months == 0) {
+				continue;
+			}
+			double gross = salary[i] * months;
+			int slab = regime.slabOf(gross);
+			topSlabCount[slab]++;
+			topSlabExcess[slab] += gross - regime.slabFrom(slab);
+			employees++;
+			totalGross += gross;
+		}
+
+		List<Map<String, Object>> bySlab = new ArrayList<>(slabs);
+		double totalTax = 0;
+		long reachingAbove = 0;
+		for (int slab = slabs - 1; slab >= 0; slab--) {
+			double tax = topSlabExcess[slab] * regime.slabRate(slab);
+			if (slab < slabs - 1) {
+				tax += regime.fullSlabTax(slab) * reachingAbove;
+			}
+			reachingAbove += topSlabCount[slab];
+			totalTax += tax;
+
+			Map<String, Object> row = new LinkedHashMap<>();
+			row.put("from", regime.slabFrom(slab));
+			row.put("to", slab < slabs - 1 ? regime.slabFrom(slab + 1) : null);
+			row.put("rate", regime.slabRate(slab));
+			row.put("employees", reachingAbove);
+			row.put("taxAmount", tax);
+			bySlab.add(0, row);
+		}
+
+		Map<String, Object> response = header(asOf, regime, columns);
+		response.put("employees", employees);
+		response.put("yearlySalary", totalGross);
+		response.put("taxAmount", totalTax);
+		response.put("slabs", bySlab);
+		return response;
+	}
+
+	public Map<String, Object> cessLiability(LocalDate asOf, String regimeName) {
+		PayrollSnapshot.Columns columns = payrollSnapshot.columns();
+		TaxRegime regime = regimeFor(asOf, regimeName);
+		int asOfMonth = FinancialYearCalendar.monthIndex(asOf);
+
+		long liable = 0;
+		double totalCess = 0;
+		double[] salary = columns.salary;
+		int[] joinMonth = columns.joinMonth;
+		for (int i = 0; i < columns.size; i++) {
+			int months = FinancialYearCalendar.monthsWorked(joinMonth[i], asOfMonth);
+			double cess = months > 0 ? regime.cess(salary[i] * months) : 0;
+			liable += cess > 0 ? 1 : 0;
+			totalCess += cess;
+		}
+
+		Map<String, Object> response = header(asOf, regime, columns);
+		response.put("employeesLiable", liable);
+		response.put("cessAmount", totalCess);
+		return response;
+	}
+
+	/**
+	 * Monthly salary histogram per joining month. Buckets are
+	 * {@code bucketWidth} wide starting at zero; the last bucket also holds
+	 * everything above it.
+	 */
+	public Map<String, Object> salaryHistogramByJoiningMonth(double bucketWidth, int buckets) {
+		PayrollSnapshot.Columns columns = payrollSnapshot.columns();
+		Map<String, Object> response = new LinkedHashMap<>();
+		response.put("bucketWidth", bucketWidth);
+		response.put("buckets", buckets);
+		response.put("snapshotSize", columns.size);
+		if (columns.size == 0) {
+			response.put("months", new LinkedHashMap<>());
+			return response;
+		}
+
+		double[] salary = columns.salary;
+		int[] joinMonth = columns.joinMonth;
+		int firstMonth = Integer.MAX_VALUE;
+		int lastMonth = Integer.MIN_VALUE;
+		for (int i = 0; i < columns.size; i++) {
+			firstMonth = Math.min(firstMonth, joinMonth[i]);
+			lastMonth = Math.max(lastMonth, joinMonth[i]);
+		}
+
+		int months = lastMonth - firstMonth + 1;
+		long[] counts = new long[months * buckets];
+		double[] totals = new double[months];
+		for (int i = 0; i < columns.size; i++) {
+			int month = joinMonth[i] - firstMonth;
+			int bucket = (int) Math.min(Math.max(salary[i] / bucketWidth, 0), buckets - 1);
+			counts[month * buckets + bucket]++;
+			totals[month] += salary[i];
+		}
+
+		Map<String, Object> byMonth = new LinkedHashMap<>();
+		for (int month = 0; month < months; month++) {
+			long employees = 0;
+			long[] histogram = new long[buckets];
+			for (int bucket = 0; bucket < buckets; bucket++) {
+				histogram[bucket] = counts[month * buckets + bucket];
+				employees += histogram[bucket];
+			}
+			if (employees == 0) {
+				continue;
+			}
+			int index = firstMonth + month;
+			Map<String, Object> row = new LinkedHashMap<>();
+			row.put("employees", employees);
+			row.put("totalSalary", totals[month]);
+			row.put("averageSalary", totals[month] / employees);
+			row.put("histogram", histogram);
+			byMonth.put(YearMonth.of(index / 12, index % 12 + 1).toString(), row);
+		}
+		response.put("months", byMonth);
+		return response;
+	}
+
+	public Map<String, Object> snapshotInfo() {
+		PayrollSnapshot.Columns columns = payrollSnapshot.columns();
+		Map<String, Object> response = new LinkedHashMap<>();
+		response.put("employees", columns.size());
+		response.put("builtAtMillis", columns.getBuiltAtMillis());
+		response.put("columnBytes", columns.columnBytes());
+		return response;
+	}
+
+	private TaxRegime regimeFor(LocalDate asOf, String regimeName) {
+		return regimeName != null ? taxEngine.regime(regimeName, TaxEngine.financialYearOf(asOf)) : taxEngine.regimeFor(asOf);
+	}
+
+	private Map<String, Object> header(LocalDate asOf, TaxRegime regime, PayrollSnapshot.Columns columns) {
+		Map<String, Object> response = new LinkedHashMap<>();
+		response.put("asOf", asOf.toString());
+		response.put("regime", regime.getName());
+		response.put("regimeVersion", regime.getFinancialYear());
+		response.put("snapshotSize", columns.size);
+		return response;
+	}
+
+}
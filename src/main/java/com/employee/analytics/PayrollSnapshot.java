@@ -0,0 +1,209 @@
+package com.employee.analytics;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.employee.cache.EmployeeIdFilter;
+import com.employee.dto.EmployeeTaxView;
+import com.employee.event.EmployeeSavedEvent;
+import com.employee.repository.EmployeeRepository;
+import com.employee.tax.FinancialYearCalendar;
+
+/**
+ * Columnar in-memory copy of the payroll fields analytics needs: monthly salary
+ * and joining month, one primitive array each, row-aligned. With the id hashes
+ * below that is 20 bytes per employee, about 20MB for a million employees, and
+ * aggregates are plain indexed loops the JIT can unroll and vectorise.
+ * <p>
+ * The snapshot is built once the application is ready and then kept current by
+ * appending employees reported through {@link EmployeeSavedEvent} on every
+ * refresh; a scheduled rebuild is the safety net. Employees are insert-only in
+ * this application, so appending is enough. To keep an employee from being
+ * counted twice when it is saved while a build is scanning, the snapshot keeps
+ * the 64-bit hash of every id it holds: sorted for the built rows, in a set for
+ * the appended ones.
+ */
+@Component
+public class PayrollSnapshot {
+
+	private static final Logger log = LoggerFactory.getLogger(PayrollSnapshot.class);
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Value("${analytics.snapshot.build-chunk-size:5000}")
+	private int buildChunkSize = 5000;
+
+	private final ReentrantLock writeLock = new ReentrantLock();
+
+	private final ConcurrentLinkedQueue<String> saved = new ConcurrentLinkedQueue<>();
+
+	private volatile Columns columns = new Columns(new double[0], new int[0], 0, 0);
+
+	private long[] builtIdHashes = new long[0];
+
+	private Set<Long> appendedIdHashes = new HashSet<>();
+
+	public Columns columns() {
+		return columns;
+	}
+
+	@EventListener
+	public void onEmployeeSaved(EmployeeSavedEvent event) {
+		saved.add(event.getEmployeeId());
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void onApplicationReady() {
+		rebuild();
+	}
+
+	/**
+	 * Reads every employee in keyset chunks into fresh columns and swaps them in.
+	 */
+	@Scheduled(cron = "${analytics.snapshot.rebuild-cron:0 30 3 * * *}")
+	public void rebuild() {
+		writeLock.lock();
+		try {
+			long start = System.currentTimeMillis();
+			double[] salary = new double[Math.max(columns.size, 1024)];
+			int[] joinMonth = new int[salary.length];
+			long[] idHashes = new long[salary.length];
+			int size = 0;
+
+			String cursor = "";
+			List<EmployeeTaxView> chunk;
+			do {
+				chunk = employeeRepository.findTaxViewsAfter(cursor, PageRequest.of(0, buildChunkSize));
+				if (chunk.isEmpty()) {
+					break;
+				}
+				cursor = chunk.get(chunk.size() - 1).getEmployeeId();
+				if (size + chunk.size() > salary.length) {
+					int capacity = Math.max(salary.length * 2, size + chunk.size());
+					salary = Arrays.copyOf(salary, capacity);
+					joinMonth = Arrays.copyOf(joinMonth, capacity);
+					idHashes = Arrays.copyOf(idHashes, capacity);
+				}
+				for (EmployeeTaxView employee : chunk) {
+					salary[size] = employee.getSalary();
+					joinMonth[size] = monthIndex(employee.getDoj());
+					idHashes[size] = EmployeeIdFilter.hash(employee.getEmployeeId());
+					size++;
+				}
+			} while (chunk.size() == buildChunkSize);
+
+			idHashes = Arrays.copyOf(idHashes, size);
+			Arrays.sort(idHashes);
+			builtIdHashes = idHashes;
+			appendedIdHashes = new HashSet<>();
+			columns = new Columns(salary, joinMonth, size, System.currentTimeMillis());
+			log.info("Built payroll snapshot of {} employees in {} ms", size, System.currentTimeMillis() - start);
+		} finally {
+			writeLock.unlock();
+		}
+		refresh();
+	}
+
+	/**
+	 * Appends employees saved since the last refresh. Rows are written past the
+	 * published size and only then made visible by publishing a new
+	 * {@link Columns}, so readers never see a partially written row.
+	 */
+	@Scheduled(fixedDelayString = "${analytics.snapshot.refresh-interval-ms:5000}")
+	public void refresh() {
+		if (saved.isEmpty()) {
+			return;
+		}
+		writeLock.lock();
+		try {
+			Set<String> ids = new HashSet<>();
+			for (String id = saved.poll(); id != null; id = saved.poll()) {
+				if (!contains(EmployeeIdFilter.hash(id))) {
+					ids.add(id);
+				}
+			}
+			if (ids.isEmpty()) {
+				return;
+			}
+
+			Columns current = columns;
+			List<EmployeeTaxView> added = new ArrayList<>(employeeRepository.findTaxViewsByIds(ids));
+			double[] salary = current.salary;
+			int[] joinMonth = current.joinMonth;
+			int size = current.size;
+			if (size + added.size() > salary.length) {
+				int capacity = Math.max(salary.length * 2, size + added.size());
+				salary = Arrays.copyOf(salary, capacity);
+				joinMonth = Arrays.copyOf(joinMonth, capacity);
+			}
+			for (EmployeeTaxView employee : added) {
+				salary[size] = employee.getSalary();
+				joinMonth[size] = monthIndex(employee.getDoj());
+				appendedIdHashes.add(EmployeeIdFilter.hash(employee.getEmployeeId()));
+				size++;
+			}
+			columns = new Columns(salary, joinMonth, size, current.builtAtMillis);
+		} finally {
+			writeLock.unlock();
+		}
+	}
+
+	private boolean contains(long idHash) {
+		return Arrays.binarySearch(builtIdHashes, idHash) >= 0 || appendedIdHashes.contains(idHash);
+	}
+
+	/** Months since year 0: {@code year * 12 + month - 1}. */
+	public static int monthIndex(LocalDate date) {
+		return FinancialYearCalendar.monthIndex(date);
+	}
+
+	/**
+	 * Immutable view of the first {@code size} rows. Arrays may be longer than
+	 * {@code size}; rows past it belong to a later view.
+	 */
+	public static final class Columns {
+
+		final double[] salary;
+		final int[] joinMonth;
+		final int size;
+		final long builtAtMillis;
+
+		Columns(double[] salary, int[] joinMonth, int size, long builtAtMillis) {
+			this.salary = salary;
+			this.joinMonth = joinMonth;
+			this.size = size;
+			this.builtAtMillis = builtAtMillis;
+		}
+
+		public int size() {
+			return size;
+		}
+
+		public long getBuiltAtMillis() {
+			return builtAtMillis;
+		}
+
+		/** Bytes held by the column arrays, including unused capacity. */
+		public long columnBytes() {
+			return (long) salary.length * Double.BYTES + (long) joinMonth.length * Integer.BYTES;
+		}
+	}
+
+}
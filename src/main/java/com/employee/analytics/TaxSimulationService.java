@@ -0,0 +1,260 @@
+package com.employee.analytics;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.employee.tax.FinancialYearCalendar;
+import com.employee.tax.TaxEngine;
+import com.employee.tax.TaxRegime;
+import com.employee.tax.TaxRegimeProperties;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * What-if evaluation of candidate regimes against the whole workforce. All
+ * candidates and the configured baseline are evaluated in a single fork-join
+ * pass over {@link PayrollSnapshot}: each row's full-year gross is computed once
+ * and fed to every regime, so adding a scenario adds a binary search per
+ * employee rather than another pass.
+ * <p>
+ * Full-year gross is monthly salary times the months employed in the financial
+ * year, so mid-year joiners count only from their joining month. Percentiles
+ * of per-employee liability (tax plus cess) come from a log-linear histogram
+ * with 64 sub-buckets per power of two, i.e. within about 1.6% of the exact
+ * value.
+ */
+@Service
+public class TaxSimulationService {
+
+	private static final int LEAF_ROWS = 65_536;
+
+	private static final double[] PERCENTILES = {0.5, 0.9, 0.99};
+
+	@Autowired
+	private PayrollSnapshot payrollSnapshot;
+
+	@Autowired
+	private TaxEngine taxEngine;
+
+	@Value("${analytics.simulation.max-scenarios:50}")
+	private int maxScenarios = 50;
+
+	private final ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+	/**
+	 * @throws IllegalArgumentException if there are no candidates, too many, or a
+	 *                                  candidate's slabs are not ascending
+	 */
+	public Map<String, Object> simulate(int financialYear, List<TaxRegimeProperties.Regime> candidates) {
+		if (candidates == null || candidates.isEmpty() || candidates.size() > maxScenarios) {
+			throw new IllegalArgumentException("Between 1 and " + maxScenarios + " candidate regimes are required");
+		}
+
+		TaxRegime[] regimes = new TaxRegime[candidates.size() + 1];
+		regimes[0] = taxEngine.regimeFor(LocalDate.of(financialYear, 4, 1));
+		for (int i = 0; i < candidates.size(); i++) {
+			TaxRegimeProperties.Regime candidate = candidates.get(i);
+			if (candidate.getName() == null) {
+				candidate.setName("scenario-" + (i + 1));
+			}
+			candidate.setFinancialYear(financialYear);
+			regimes[i + 1] = TaxEngine.compile(candidate, taxEngine.getMemoCapacity());
+		}
+
+		long start = System.nanoTime();
+		PayrollSnapshot.Columns columns = payrollSnapshot.columns();
+		Totals totals = pool.invoke(new Pass(columns, regimes, financialYear, 0, columns.size()));
+		long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+		List<Map<String, Object>> scenarios = new ArrayList<>(regimes.length);
+		double baseline = totals.tax[0] + totals.cess[0];
+		for (int r = 0; r < regimes.length; r++) {
+			double liability = totals.tax[r] + totals.cess[r];
+			Map<String, Object> scenario = new LinkedHashMap<>();
+			scenario.put("regime", regimes[r].getName());
+			scenario.put("baseline", r == 0);
+			scenario.put("taxAmount", totals.tax[r]);
+			scenario.put("cessAmount", totals.cess[r]);
+			scenario.put("liability", liability);
+			scenario.put("delta", liability - baseline);
+			scenario.put("deltaPercent", baseline != 0 ? (liability - baseline) * 100 / baseline : null);
+			scenario.put("employeesPayingMore", totals.payingMore[r]);
+			scenario.put("employeesPayingLess", totals.payingLess[r]);
+			Map<String, Object> percentiles = new LinkedHashMap<>();
+			for (double percentile : PERCENTILES) {
+				percentiles.put("p" + Math.round(percentile * 100), Histogram.percentile(totals.histograms[r], totals.employees, percentile));
+			}
+			percentiles.put("max", totals.max[r]);
+			scenario.put("liabilityPercentiles", percentiles);
+			scenarios.add(scenario);
+		}
+
+		Map<String, Object> response = new LinkedHashMap<>();
+		response.put("financialYear", financialYear);
+		response.put("employees", totals.employees);
+		response.put("elapsedMillis", elapsedMillis);
+		response.put("scenarios", scenarios);
+		return response;
+	}
+
+	@PreDestroy
+	void shutdown() {
+		pool.shutdown();
+	}
+
+	private static final class Pass extends RecursiveTask<Totals> {
+
+		private final PayrollSnapshot.Columns columns;
+		private final TaxRegime[] regimes;
+		private final int financialYear;
+		private final int from;
+		private final int to;
+
+		Pass(PayrollSnapshot.Columns columns, TaxRegime[] regimes, int financialYear, int from, int to) {
+			this.columns = columns;
+			this.regimes = regimes;
+			this.financialYear = financialYear;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected Totals compute() {
+			if (to - from > LEAF_ROWS) {
+				int mid = (from + to) >>> 1;
+				Pass left = new Pass(columns, regimes, financialYear, from, mid);
+				left.fork();
+				Totals right = new Pass(columns, regimes, financialYear, mid, to).compute();
+				return left.join().merge(right);
+			}
+
+			Totals totals = new Totals(regimes.length);
+			double[] salary = columns.salary;
+			int[] joinMonth = columns.joinMonth;
+			for (int i = from; i < to; i++) {
+				int months = FinancialYearCalendar.monthsInFinancialYear(joinMonth[i], financialYear);
+				if (months == 0) {
+					continue;
+				}
+				double gross = salary[i] * months;
+				totals.employees++;
+
+				double baseline = 0;
+				for (int r = 0; r < regimes.length; r++) {
+					double tax = regimes[r].tax(gross);
+					double cess = regimes[r].cess(gross);
+					double liability = tax + cess;
+					totals.tax[r] += tax;
+					totals.cess[r] += cess;
+					totals.max[r] = Math.max(totals.max[r], liability);
+					totals.histograms[r][Histogram.bucket(liability)]++;
+					if (r == 0) {
+						baseline = liability;
+					} else if (liability > baseline) {
+						totals.payingMore[r]++;
+					} else if (liability < baseline) {
+						totals.payingLess[r]++;
+					}
+				}
+			}
+			return totals;
+		}
+	}
+
+	private static final class Totals {
+
+		long employees;
+		final double[] tax;
+		final double[] cess;
+		final double[] max;
+		final long[] payingMore;
+		final long[] payingLess;
+		final long[][] histograms;
+
+		Totals(int regimes) {
+			tax = new double[regimes];
+			cess = new double[regimes];
+			max = new double[regimes];
+			payingMore = new long[regimes];
+			payingLess = new long[regimes];
+			histograms = new long[regimes][Histogram.BUCKETS];
+		}
+
+		Totals merge(Totals other) {
+			employees += other.employees;
+			for (int r = 0; r < tax.length; r++) {
+				tax[r] += other.tax[r];
+				cess[r] += other.cess[r];
+				max[r] = Math.max(max[r], other.max[r]);
+				payingMore[r] += other.payingMore[r];
+				payingLess[r] += other.payingLess[r];
+				for (int b = 0; b < Histogram.BUCKETS; b++) {
+					histograms[r][b] += other.histograms[r][b];
+				}
+			}
+			return this;
+		}
+	}
+
+	/**
+	 * Log-linear buckets: bucket 0 holds values below 1, then 64 equal-width
+	 * sub-buckets for every power of two up to 2^48.
+	 */
+	static final class Histogram {
+
+		static final int SUB_BUCKET_BITS = 6;
+		static final int MAX_EXPONENT = 48;
+		static final int BUCKETS = 1 + (MAX_EXPONENT << SUB_BUCKET_BITS);
+
+		private Histogram() {
+		}
+
+		static int bucket(double value) {
+			if (value < 1) {
+				return 0;
+			}
+			long bits = Double.doubleToRawLongBits(value);
+			int exponent = (int) (bits >>> 52) - 1023;
+			if (exponent >= MAX_EXPONENT) {
+				return BUCKETS - 1;
+			}
+			int subBucket = (int) (bits >>> (52 - SUB_BUCKET_BITS)) & ((1 << SUB_BUCKET_BITS) - 1);
+			return 1 + (exponent << SUB_BUCKET_BITS) + subBucket;
+		}
+
+		/** Lower bound of the bucket. */
+		static double lowerBound(int bucket) {
+			if (bucket == 0) {
+				return 0;
+			}
+			int exponent = (bucket - 1) >>> SUB_BUCKET_BITS;
+			int subBucket = (bucket - 1) & ((1 << SUB_BUCKET_BITS) - 1);
+			return Math.scalb(1.0 + (double) subBucket / (1 << SUB_BUCKET_BITS), exponent);
+		}
+
+		static double percentile(long[] counts, long total, double percentile) {
+			if (total == 0) {
+				return 0;
+			}
+			long rank = (long) Math.ceil(percentile * total);
+			long seen = 0;
+			for (int b = 0; b < counts.length; b++) {
+				seen += counts[b];
+				if (seen >= rank) {
+					return lowerBound(b);
+				}
+			}
+			return lowerBound(counts.length - 1);
+		}
+	}
+
+}
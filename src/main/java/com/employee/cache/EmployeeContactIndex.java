@@ -0,0 +1,204 @@
+package com.employee.cache;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.employee.entity.Employee;
+import com.employee.repository.EmployeeRepository;
+
+/**
+ * In-memory email and phone number to employee id maps, so contact lookups and
+ * the duplicate-email check on the write paths are a hash probe rather than a
+ * query. Filled from the employee table once the application is ready; until
+ * then lookups and reservations fall back to the database. Only writes made on
+ * this node are added afterwards, so a lookup the index cannot answer still
+ * goes to the database, and the database's unique constraint stays the final
+ * word on duplicate emails.
+ * <p>
+ * Emails are keyed lower-case, matching the case-insensitive unique constraint
+ * on {@code employee.email}. A phone number may be shared, so it maps to an
+ * array of ids that is replaced, never mutated. Writers call
+ * {@link #reserveEmail(String, String)} before persisting and {@link #add(Employee)}
+ * after: {@link com.employee.event.EmployeeSavedEvent} carries only the id.
+ * Employees are never updated or deleted, so entries are only ever added, apart
+ * from reservations released when a write fails.
+ */
+@Component
+public class EmployeeContactIndex {
+
+	private static final Logger log = LoggerFactory.getLogger(EmployeeContactIndex.class);
+
+	private static final String[] NO_IDS = new String[0];
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private final Map<String, String> idByEmail = new ConcurrentHashMap<>();
+
+	private final Map<String, String[]> idsByPhoneNumber = new ConcurrentHashMap<>();
+
+	private volatile boolean loaded;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void load() {
+		long start = System.currentTimeMillis();
+		long count = new TransactionTemplate(transactionManager).execute(status -> {
+			long rows = 0;
+			try (Stream<Object[]> emails = employeeRepository.streamAllEmails()) {
+				for (Iterator<Object[]> it = emails.iterator(); it.hasNext();) {
+					Object[] row = it.next();
+					putEmail((String) row[1], (String) row[0]);
+					rows++;
+				}
+			}
+			try (Stream<Object[]> phoneNumbers = employeeRepository.streamAllPhoneNumbers()) {
+				for (Iterator<Object[]> it = phoneNumbers.iterator(); it.hasNext();) {
+					Object[] row = it.next();
+					putPhoneNumber((String) row[1], (String) row[0]);
+					rows++;
+				}
+			}
+			return rows;
+		});
+		loaded = true;
+		log.info("Loaded {} emails and phone numbers into the contact index in {} ms", count,
+				System.currentTimeMillis() - start);
+	}
+
+	/**
+	 * Claims the email for the employee. False if another employee already holds
+	 * it; true if it was free or already held by this employee, so retries are
+	 * safe. Before the index is loaded a fresh claim is also checked against the
+	 * database.
+	 */
+	public boolean reserveEmail(String email, String employeeId) {
+		if (email == null) {
+			return true;
+		}
+		String key = key(email);
+		String owner = idByEmail.putIfAbsent(key, employeeId);
+		if (owner != null) {
+			return owner.equals(employeeId);
+		}
+		if (!loaded && employeeRepository.existsByEmail(email)) {
+			idByEmail.remove(key, employeeId);
+			return false;
+		}
+		return true;
+	}
+
+	/** Drops a reservation whose write did not happen. */
+	public void release(String email, String employeeId) {
+		if (email != null) {
+			idByEmail.remove(key(email), employeeId);
+		}
+	}
+
+	/** Indexes a persisted employee's email and phone numbers. */
+	public void add(Employee employee) {
+		putEmail(employee.getEmail(), employee.getEmployeeId());
+		List<String> phoneNumbers = employee.getPhoneNumbers();
+		if (phoneNumbers != null) {
+			for (int i = 0; i < phoneNumbers.size(); i++) {
+				putPhoneNumber(phoneNumbers.get(i), employee.getEmployeeId());
+			}
+		}
+	}
+
+	/**
+	 * Answered from the index when it holds the email; otherwise, including for
+	 * an employee written on another node, by the indexed query, whose result is
+	 * then indexed.
+	 */
+	public Optional<String> findByEmail(String email) {
+		String employeeId = loaded ? idByEmail.get(key(email)) : null;
+		if (employeeId != null) {
+			return Optional.of(employeeId);
+		}
+		Optional<String> found = employeeRepository.findEmployeeIdByEmail(email);
+		if (loaded) {
+			found.ifPresent(id -> putEmail(email, id));
+		}
+		return found;
+	}
+
+	/**
+	 * Answered from the index when it holds the number, and otherwise by the
+	 * indexed query, as for {@link #findByEmail(String)}.
+	 */
+	public List<String> findByPhoneNumber(String phoneNumber) {
+		String[] ids = loaded ? idsByPhoneNumber.getOrDefault(phoneNumber, NO_IDS) : NO_IDS;
+		if (ids.length > 0) {
+			return Collections.unmodifiableList(Arrays.asList(ids));
+		}
+		List<String> found = employeeRepository.findEmployeeIdsByPhoneNumber(phoneNumber);
+		if (loaded) {
+			for (int i = 0; i < found.size(); i++) {
+				putPhoneNumber(phoneNumber, found.get(i));
+			}
+		}
+		return found;
+	}
+
+	void markLoaded() {
+		loaded = true;
+	}
+
+	public boolean isLoaded() {
+		return loaded;
+	}
+
+	public int emailCount() {
+		return idByEmail.size();
+	}
+
+	public int phoneNumberCount() {
+		return idsByPhoneNumber.size();
+	}
+
+	private void putEmail(String email, String employeeId) {
+		if (email != null) {
+			idByEmail.put(key(email), employeeId);
+		}
+	}
+
+	private void putPhoneNumber(String phoneNumber, String employeeId) {
+		if (phoneNumber == null) {
+			return;
+		}
+		idsByPhoneNumber.merge(phoneNumber, new String[] {employeeId}, (ids, added) -> {
+			for (String id : ids) {
+				if (id.equals(employeeId)) {
+					return ids;
+				}
+			}
+			String[] merged = Arrays.copyOf(ids, ids.length + 1);
+			merged[ids.length] = employeeId;
+			return merged;
+		});
+	}
+
+	private static String key(String email) {
+		return email.toLowerCase(Locale.ROOT);
+	}
+
+}
@@ -0,0 +1,188 @@
+package com.employee.cache;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.employee.entity.EmployeeChange;
+import com.employee.event.EmployeeSavedEvent;
+import com.employee.repository.EmployeeRepository;
+import com.employee.service.EmployeeChangeFeedService;
+
+/**
+ * Bloom filter over every known employee id, used as a negative-lookup cache:
+ * when {@link #mightContain(String)} is false the employee does not exist and
+ * the database is not consulted. The filter is filled from the employee table
+ * once the application is ready. Writes on this node are added at once through
+ * {@link EmployeeSavedEvent}; writes on other nodes are picked up from the
+ * employee change feed every {@code tax.lookup.filter.refresh-interval-ms}, so
+ * an employee created elsewhere can be reported missing here for that long
+ * after its write commits. Until the first load completes every id is
+ * <p>
+ * Bits are only ever set, so an id once added is never reported missing; the
+ * false-positive rate grows past {@code tax.lookup.filter.fpp} once the number
+ * of employees exceeds {@code tax.lookup.filter.expected-ids}.
+ */
+@Component
+public class EmployeeIdFilter {
+
+	private static final Logger log = LoggerFactory.getLogger(EmployeeIdFilter.class);
+
+	private static final int REFRESH_BATCH = 1000;
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Autowired
+	private EmployeeChangeFeedService employeeChangeFeedService;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private final AtomicLongArray bits;
+
+	private final long bitCount;
+
+	private final int hashCount;
+
+	private final LongAdder rejections = new LongAdder();
+
+	private volatile long changeCursor;
+
+	private volatile boolean loaded;
+
+	public EmployeeIdFilter(@Value("${tax.lookup.filter.expected-ids:1000000}") long expectedIds,
+			@Value("${tax.lookup.filter.fpp:0.01}") double fpp) {
+		long n = Math.max(expectedIds, 1);
+		long m = (long) Math.ceil(-n * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+		int words = (int) Math.min((m + 63) / 64, Integer.MAX_VALUE);
+		this.bits = new AtomicLongArray(words);
+		this.bitCount = (long) words * 64;
+		this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void load() {
+		long start = System.currentTimeMillis();
+		changeCursor = employeeChangeFeedService.settledSeq();
+		long count = new TransactionTemplate(transactionManager).execute(status -> {
+			long loadedIds = 0;
+			try (Stream<String> ids = employeeRepository.streamAllEmployeeIds()) {
+				for (Iterator<String> it = ids.iterator(); it.hasNext();) {
+					put(it.next());
+					loadedIds++;
+				}
+			}
+			return loadedIds;
+		});
+		loaded = true;
+		log.info("Loaded {} employee ids into the lookup filter in {} ms", count, System.currentTimeMillis() - start);
+	}
+
+	@EventListener
+	public void onEmployeeSaved(EmployeeSavedEvent event) {
+		put(event.getEmployeeId());
+	}
+
+	/**
+	 * Adds the ids in the change feed since the last refresh, which includes
+	 * employees created on other nodes.
+	 */
+	@Scheduled(fixedDelayString = "${tax.lookup.filter.refresh-interval-ms:1000}")
+	public void refresh() {
+		if (!loaded) {
+			return;
+		}
+		List<EmployeeChange> changes;
+		do {
+			changes = employeeChangeFeedService.readAfter(changeCursor, REFRESH_BATCH);
+			for (EmployeeChange change : changes) {
+				put(change.getEmployeeId());
+			}
+			if (!changes.isEmpty()) {
+				changeCursor = changes.get(changes.size() - 1).getSeq();
+			}
+		} while (changes.size() == REFRESH_BATCH);
+	}
+
+	public void put(String employeeId) {
+		long hash = hash(employeeId);
+		int h1 = (int) hash;
+		int h2 = (int) (hash >>> 32);
+		for (int i = 1; i <= hashCount; i++) {
+			long bit = index(h1 + i * h2);
+			int word = (int) (bit >>> 6);
+			long mask = 1L << bit;
+			long current;
+			while (((current = bits.get(word)) & mask) == 0 && !bits.compareAndSet(word, current, current | mask)) {
+				// retry until this bit or a concurrent writer has set it
+			}
+		}
+	}
+
+	/**
+	 * False only if the id was never added; every id is possibly present until
+	 * the filter has been loaded.
+	 */
+	public boolean mightContain(String employeeId) {
+		if (!loaded) {
+			return true;
+		}
+		long hash = hash(employeeId);
+		int h1 = (int) hash;
+		int h2 = (int) (hash >>> 32);
+		for (int i = 1; i <= hashCount; i++) {
+			long bit = index(h1 + i * h2);
+			if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+				rejections.increment();
+				return false;
+			}
+		}
+		return true;
+	}
+
+	void markLoaded() {
+		loaded = true;
+	}
+
+	public boolean isLoaded() {
+		return loaded;
+	}
+
+	public long getRejections() {
+		return rejections.sum();
+	}
+
+	private long index(int combined) {
+		return (combined < 0 ? ~combined : combined) % bitCount;
+	}
+
+	/** 64-bit FNV-1a over the id's chars, finished with the MurmurHash3 mixer. */
+	public static long hash(String employeeId) {
+		long h = 0xcbf29ce484222325L;
+		for (int i = 0; i < employeeId.length(); i++) {
+			h ^= employeeId.charAt(i);
+			h *= 0x100000001b3L;
+		}
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		h *= 0xc4ceb9fe1a85ec53L;
+		h ^= h >>> 33;
+		return h;
+	}
+
+}
@@ -0,0 +1,166 @@
+package com.employee.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.employee.dto.EmployeeTaxInfo;
+import com.employee.event.EmployeeSavedEvent;
+import com.employee.json.EmployeeTaxInfoJsonWriter;
+import com.employee.tax.FinancialYearCalendar;
+
+/**
+ * Bounded LRU cache of computed tax deductions keyed by employee id and the
+ * month they were computed in. Entries hold the response already serialised to
+ * JSON, so a hit is written out as is. Entries from an earlier month are treated as
+ * misses, and the whole cache is dropped when the month rolls over. Writes to
+ * an employee evict its entry through {@link EmployeeSavedEvent}.
+ */
+@Component
+public class TaxDeductionCache {
+
+	@Autowired
+	private FinancialYearCalendar financialYearCalendar = new FinancialYearCalendar();
+
+	private final int maxEntries;
+
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private final LinkedHashMap<String, Entry> entries;
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+
+	private volatile long generation;
+
+	private volatile int currentMonth;
+
+	public TaxDeductionCache(@Value("${tax.cache.max-entries:100000}") int maxEntries) {
+		this.maxEntries = maxEntries;
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+				if (size() > TaxDeductionCache.this.maxEntries) {
+					evictions.increment();
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	/**
+	 * Returns the cached deductions JSON for the employee, or computes, serialises
+	 * and caches it. A {@code null} result from the loader (employee not found) is
+	 * not cached.
+	 */
+	public byte[] get(String employeeId, Supplier<EmployeeTaxInfo> loader) {
+		int month = currentMonth();
+		long loadGeneration;
+
+		lock.lock();
+		try {
+			Entry entry = entries.get(employeeId);
+			if (entry != null && entry.month == month) {
+				hits.increment();
+				return entry.value;
+			}
+			loadGeneration = generation;
+		} finally {
+			lock.unlock();
+		}
+
+		misses.increment();
+		EmployeeTaxInfo info = loader.get();
+		if (info == null) {
+			return null;
+		}
+		byte[] value = EmployeeTaxInfoJsonWriter.toJson(info);
+
+		lock.lock();
+		try {
+			// an invalidation while loading means the value may already be stale
+			if (loadGeneration == generation && month == currentMonth) {
+				entries.put(employeeId, new Entry(month, value));
+			}
+		} finally {
+			lock.unlock();
+		}
+		return value;
+	}
+
+	public void invalidate(String employeeId) {
+		lock.lock();
+		try {
+			generation++;
+			entries.remove(employeeId);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public void invalidateAll() {
+		lock.lock();
+		try {
+			generation++;
+			entries.clear();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@EventListener
+	public void onEmployeeSaved(EmployeeSavedEvent event) {
+		invalidate(event.getEmployeeId());
+	}
+
+	public long getHits() {
+		return hits.sum();
+	}
+
+	public long getMisses() {
+		return misses.sum();
+	}
+
+	public long getEvictions() {
+		return evictions.sum();
+	}
+
+	public int size() {
+		lock.lock();
+		try {
+			return entries.size();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private int currentMonth() {
+		int month = financialYearCalendar.currentMonth();
+		if (month != currentMonth) {
+			invalidateAll();
+			currentMonth = month;
+		}
+		return month;
+	}
+
+	private static final class Entry {
+
+		private final int month;
+		private final byte[] value;
+
+		Entry(int month, byte[] value) {
+			this.month = month;
+			this.value = value;
+		}
+	}
+
+}
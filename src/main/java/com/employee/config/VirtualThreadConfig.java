@@ -0,0 +1,53 @@
+package com.employee.config;
+
+import java.time.Duration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Active only when {@code spring.threads.virtual.enabled=true} on Java 21+, in
+ * which case Spring Boot already runs Tomcat requests and the application task
+ * executor on virtual threads.
+ * <p>
+ * With virtual threads the request thread pool no longer limits concurrency,
+ * so the connection pool becomes the bulkhead in front of MySQL. It is sized to
+ * what the database can serve rather than to the number of request threads, and
+ * callers wait a bounded time for a connection instead of piling up.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+	private static final Logger log = LoggerFactory.getLogger(VirtualThreadConfig.class);
+
+	@Bean
+	static BeanPostProcessor virtualThreadHikariSizing(
+			@Value("${employee.virtual-threads.db-pool-size:0}") int poolSize,
+			@Value("${employee.virtual-threads.connection-timeout:2s}") Duration connectionTimeout) {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessBeforeInitialization(Object bean, String beanName) {
+				if (bean instanceof HikariDataSource dataSource) {
+					// (cores * 2) + 1 is the usual starting point for a pool in front of one database
+					int size = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors() * 2 + 1;
+					dataSource.setMaximumPoolSize(size);
+					dataSource.setMinimumIdle(size);
+					dataSource.setConnectionTimeout(connectionTimeout.toMillis());
+					log.info("Virtual threads enabled: Hikari pool fixed at {} connections, {} ms connection timeout",
+							size, connectionTimeout.toMillis());
+				}
+				return bean;
+			}
+		};
+	}
+
+}
@@ -0,0 +1,74 @@
+package com.employee.config;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * Guard against carrier-thread pinning in virtual-thread mode. Listens to the
+ * JFR {@code jdk.VirtualThreadPinned} event and logs where a virtual thread
+ * blocked while pinned (typically inside a {@code synchronized} block, e.g. in
+ * an older JDBC driver) for longer than the threshold.
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor implements InitializingBean, DisposableBean {
+
+	private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+	private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+	private final Duration threshold;
+
+	private final LongAdder pinnedCount = new LongAdder();
+
+	private RecordingStream stream;
+
+	public VirtualThreadPinningMonitor(@Value("${employee.virtual-threads.pinning-threshold:20ms}") Duration threshold) {
+		this.threshold = threshold;
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+		stream = new RecordingStream();
+		stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+		stream.onEvent(PINNED_EVENT, this::onPinned);
+		stream.startAsync();
+	}
+
+	private void onPinned(RecordedEvent event) {
+		pinnedCount.increment();
+		String frames = event.getStackTrace() == null ? "<no stack trace>"
+				: event.getStackTrace().getFrames().stream()
+						.limit(8)
+						.map(RecordedFrame::getMethod)
+						.map(method -> method.getType().getName() + "." + method.getName())
+						.collect(Collectors.joining(" <- "));
+		log.warn("Virtual thread pinned for {} ms: {}", event.getDuration().toMillis(), frames);
+	}
+
+	public long getPinnedCount() {
+		return pinnedCount.sum();
+	}
+
+	@Override
+	public void destroy() {
+		if (stream != null) {
+			stream.close();
+		}
+	}
+
+}
@@ -0,0 +1,23 @@
+package com.employee.config;
+
+import java.util.List;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.employee.json.EmployeeTaxInfoMessageConverter;
+
+/**
+ * Puts the hand-written tax response converter ahead of Jackson, so tax
+ * bodies never reach the reflective serializer.
+ */
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+	@Override
+	public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+		converters.add(0, new EmployeeTaxInfoMessageConverter());
+	}
+
+}
@@ -0,0 +1,90 @@
+package com.employee.controller;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.employee.entity.EmployeeChange;
+import com.employee.service.EmployeeChangeFeedService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Incremental reads of the employee change feed. A consumer keeps the last
+ * sequence number it has processed and asks for what came after it, either by
+ * long polling or over one server-sent event stream. Neither holds a request
+ * thread while it waits.
+ */
+@RestController
+@RequestMapping("/api/employees/changes")
+public class EmployeeChangeController {
+
+	@Autowired
+	private EmployeeChangeFeedService changeFeedService;
+
+	@Value("${employee.changes.max-batch:1000}")
+	private int maxBatch = 1000;
+
+	@Value("${employee.changes.max-wait-ms:30000}")
+	private long maxWaitMillis = 30000;
+
+	@Value("${employee.changes.heartbeat-ms:15000}")
+	private long heartbeatMillis = 15000;
+
+	@Operation(summary = "Read employee changes after a sequence number",
+            description = "Returns up to limit changes with a sequence number above after, oldest first. With waitMs, waits up to that long (capped by employee.changes.max-wait-ms) for a change when there is none yet. Pass lastSeq back as after on the next call.",
+            responses = {
+                @ApiResponse(responseCode = "200", description = "Changes and the sequence number to continue from"),
+                @ApiResponse(responseCode = "400", description = "Negative after or waitMs, or limit below 1")
+            })
+	@GetMapping
+	public Mono<ResponseEntity<?>> getChanges(@RequestParam(defaultValue = "0") long after,
+			@RequestParam(required = false) Integer limit, @RequestParam(defaultValue = "0") long waitMs) {
+		if (after < 0 || waitMs < 0 || (limit != null && limit < 1)) {
+			return Mono.<ResponseEntity<?>>just(ResponseEntity.badRequest()
+					.body(List.of("after and waitMs must not be negative and limit must be at least 1")));
+		}
+		return changeFeedService.poll(after, limit != null ? limit : maxBatch, Duration.ofMillis(Math.min(waitMs, maxWaitMillis)))
+				.<ResponseEntity<?>>map(changes -> ResponseEntity.ok(page(after, changes)));
+	}
+
+	@Operation(summary = "Stream employee changes as server-sent events",
+            description = "Sends the changes after the given sequence number in batches, then each new batch as it is written. Each event carries a batch of changes and has the last sequence number in it as its id, so a reconnecting client resumes from Last-Event-ID. A keep-alive comment is sent after employee.changes.heartbeat-ms without changes.")
+	@GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public Flux<ServerSentEvent<List<EmployeeChange>>> streamChanges(@RequestParam(defaultValue = "0") long after,
+			@RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId,
+			@RequestParam(required = false) Integer limit) {
+		long from = Math.max(lastEventId != null ? lastEventId : after, 0);
+		return changeFeedService.stream(from, limit != null ? limit : maxBatch, Duration.ofMillis(heartbeatMillis))
+				.map(changes -> changes.isEmpty()
+						? ServerSentEvent.<List<EmployeeChange>>builder().comment("keep-alive").build()
+						: ServerSentEvent.builder(changes).id(String.valueOf(lastSeq(0, changes))).event("changes").build());
+	}
+
+	private static Map<String, Object> page(long after, List<EmployeeChange> changes) {
+		Map<String, Object> page = new LinkedHashMap<>();
+		page.put("changes", changes);
+		page.put("lastSeq", lastSeq(after, changes));
+		return page;
+	}
+
+	private static long lastSeq(long after, List<EmployeeChange> changes) {
+		return changes.isEmpty() ? after : changes.get(changes.size() - 1).getSeq();
+	}
+
+}
@@ -1,32 +1,44 @@
 package com.employee.controller;
 
-import java.time.LocalDate;
+import java.io.IOException;
 
-import java.time.temporal.ChronoUnit;
+import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
-
-import javax.validation.Valid;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.validation.BindingResult;
-import org.springframework.validation.ObjectError;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.employee.cache.TaxDeductionCache;
+import com.employee.dto.EmployeeTaxInfo;
+import com.employee.dto.ImportReport;
+import com.employee.dto.WriteBehindStatus;
 import com.employee.entity.Employee;
+import com.employee.metrics.EmployeeMetrics;
+import com.employee.service.EmployeeImportService;
 import com.employee.service.EmployeeService;
+import com.employee.service.EmployeeWriteBehindService;
+import com.employee.service.TaxDeductionService;
+import com.employee.service.TaxExportService;
+import com.employee.validation.EmployeeValidator;
 
+import io.micrometer.core.annotation.Timed;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -39,70 +51,225 @@ public class EmployeeController {
 	
 	@Autowired
 	private EmployeeService employeeService;
+
+	@Autowired
+	private TaxExportService taxExportService;
+
+	@Autowired
+	private TaxDeductionCache taxDeductionCache;
+
+	@Autowired
+	private EmployeeImportService employeeImportService;
+
+	@Autowired
+	private EmployeeMetrics employeeMetrics;
+
+	@Autowired
+	private TaxDeductionService taxDeductionService;
+
+	@Autowired
+	private EmployeeValidator employeeValidator;
+
+	@Autowired
+	private EmployeeWriteBehindService writeBehindService;
+
+	@Value("${tax.batch.max-ids:1000}")
+	private int maxBatchIds = 1000;
+
+	@Value("${employee.batch.max-size:10000}")
+	private int maxBatchEmployees = 10000;
 	
 	@Operation(summary = "Add a new employee",
             description = "Stores the details of a new employee. Validates all fields and returns appropriate error messages if the data is invalid.",
             responses = {
                 @ApiResponse(responseCode = "200", description = "Employee saved successfully"),
+                @ApiResponse(responseCode = "202", description = "Write-behind mode: employee queued; body carries the tracking id",
+                    content = @Content(mediaType = "application/json",
+                        schema = @Schema(implementation = WriteBehindStatus.class))),
                 @ApiResponse(responseCode = "400", description = "Validation errors",
                     content = @Content(mediaType = "application/json",
                         schema = @Schema(implementation = List.class)))
             })
 	@PostMapping
-	public ResponseEntity<?> addEmployee(@Valid @RequestBody Employee employee, BindingResult bindingResult) {
-	    if (bindingResult.hasErrors()) {
-	        List<String> errors = bindingResult.getAllErrors().stream()
-	                .map(ObjectError::getDefaultMessage)
-	                .collect(Collectors.toList());
-	        
+	@Timed(value = "employee.api.add", histogram = true)
+	public ResponseEntity<?> addEmployee(@RequestBody Employee employee) {
+	    List<String> errors = employeeValidator.validate(employee);
+	    if (!errors.isEmpty()) {
+	        employeeMetrics.validationFailed();
 	        return ResponseEntity.badRequest().body(errors);
 	    }
+
+	    if (writeBehindService.isEnabled()) {
+	        Optional<WriteBehindStatus> accepted = writeBehindService.accept(employee);
+	        if (!accepted.isPresent()) {
+	            return ResponseEntity.badRequest().body(List.of("Employee ID already exists"));
+	        }
+	        return ResponseEntity.status(HttpStatus.ACCEPTED).body(accepted.get());
+	    }
 	    
 	    employeeService.saveEmployee(employee);
 	    return ResponseEntity.ok("Employee saved successfully");
 	}
 
+	@Operation(summary = "Find employees by email or phone number",
+            description = "Exactly one of email or phone is required. Served from the in-memory contact index; an email matches case-insensitively and belongs to at most one employee, a phone number may be shared by several.",
+            responses = {
+                @ApiResponse(responseCode = "200", description = "Matching employees in id order",
+                    content = @Content(mediaType = "application/json",
+                        schema = @Schema(implementation = List.class))),
+                @ApiResponse(responseCode = "400", description = "Neither or both of email and phone given"),
+                @ApiResponse(responseCode = "404", description = "No employee has the email or phone number")
+            })
+	@GetMapping("/lookup")
+	@Timed(value = "employee.api.lookup", histogram = true)
+	public ResponseEntity<?> lookupEmployees(@RequestParam(required = false) String email,
+			@RequestParam(required = false) String phone) {
+		if ((email == null) == (phone == null)) {
+			employeeMetrics.validationFailed();
+			return ResponseEntity.badRequest().body(List.of("Exactly one of email or phone is required"));
+		}
+		List<Employee> employees = email != null ? employeeService.findByEmail(email)
+				: employeeService.findByPhoneNumber(phone);
+
+		if (employees.isEmpty()) {
+			employeeMetrics.employeeNotFound();
+			return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Employee not found");
+		}
+		return ResponseEntity.ok(employees);
+	}
+
+	@Operation(summary = "Get the status of a write-behind add",
+            responses = {
+                @ApiResponse(responseCode = "200", description = "Pending, persisted or failed with a reason",
+                    content = @Content(mediaType = "application/json",
+                        schema = @Schema(implementation = WriteBehindStatus.class))),
+                @ApiResponse(responseCode = "404", description = "Tracking id not found")
+            })
+	@GetMapping("/write-behind/{trackingId}")
+	public ResponseEntity<?> getWriteBehindStatus(@PathVariable String trackingId) {
+		Optional<WriteBehindStatus> status = writeBehindService.getStatus(trackingId);
+
+		if (!status.isPresent()) {
+			return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Tracking id not found");
+		}
+		return ResponseEntity.ok(status.get());
+	}
+
+	@Operation(summary = "Add employees in one batch",
+            description = "Validates every employee with the same rules as a single add and writes the valid ones in batches. Invalid and duplicate employees are listed in the report; they do not fail the request.",
+            responses = {
+                @ApiResponse(responseCode = "200", description = "Import report",
+                    content = @Content(mediaType = "application/json",
+                        schema = @Schema(implementation = ImportReport.class))),
+                @ApiResponse(responseCode = "400", description = "Too many employees")
+            })
+	@PostMapping("/batch")
+	@Timed(value = "employee.api.add.batch", histogram = true)
+	public ResponseEntity<?> addEmployees(@RequestBody List<Employee> employees) {
+		if (employees.size() > maxBatchEmployees) {
+			employeeMetrics.validationFailed();
+			return ResponseEntity.badRequest().body(List.of("At most " + maxBatchEmployees + " employees per request"));
+		}
+		ImportReport report = employeeImportService.importEmployees(employees);
+		if (report.getFailedRows() > 0) {
+			employeeMetrics.validationFailed();
+		}
+		return ResponseEntity.ok(report);
+	}
+
+	@Operation(summary = "Bulk import employees",
+            description = "Imports employees from a CSV file (header row, phone numbers separated by ';') or a JSON array. Valid rows are written in batches; the response lists every rejected row with its errors.",
+            responses = {
+                @ApiResponse(responseCode = "200", description = "Import report",
+                    content = @Content(mediaType = "application/json",
+                        schema = @Schema(implementation = ImportReport.class)))
+            })
+	@PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+	public ResponseEntity<ImportReport> importEmployees(@RequestParam("file") MultipartFile file) throws IOException {
+		return ResponseEntity.ok(employeeImportService.importEmployees(file));
+	}
+
 	 @Operation(summary = "Get tax deductions for an employee",
-             description = "Returns tax deduction details for an employee for the current financial year (April to March). Calculates deductions based on employee's salary and date of joining.",
+             description = "Returns tax deduction details for an employee for the current financial year (April to March). Calculates deductions based on employee's salary and date of joining. With asOf, returns the year-to-date figures of that date's financial year instead.",
              responses = {
                  @ApiResponse(responseCode = "200", description = "Tax deduction details",
                      content = @Content(mediaType = "application/json",
-                         schema = @Schema(implementation = Map.class))),
+                         schema = @Schema(implementation = EmployeeTaxInfo.class))),
                  @ApiResponse(responseCode = "404", description = "Employee not found")
              })
     @GetMapping("/{employeeId}/tax-deductions")
-    public ResponseEntity<?> getTaxDeductions(@PathVariable String employeeId) {
-        Optional<Employee> employeeOpt = employeeService.getEmployeeById(employeeId);
+    @Timed(value = "employee.api.tax-deductions", histogram = true)
+    public ResponseEntity<?> getTaxDeductions(@PathVariable String employeeId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf) {
+        if (asOf != null) {
+            Optional<EmployeeTaxInfo> response = taxDeductionService.getTaxDeductions(employeeId, asOf);
+            if (response.isEmpty()) {
+                employeeMetrics.employeeNotFound();
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Employee not found");
+            }
+            return ResponseEntity.ok(response.get());
+        }
+
+        byte[] response = taxDeductionCache.get(employeeId, () -> taxDeductionService.getTaxDeductions(employeeId).orElse(null));
 
-        if (!employeeOpt.isPresent()) {
+        if (response == null) {
+            employeeMetrics.employeeNotFound();
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Employee not found");
         }
 
-        Employee employee = employeeOpt.get();
-
-       
-        LocalDate doj = employee.getDoj();
-        LocalDate now = LocalDate.now();
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(response);
+    }
 
-        LocalDate financialYearStart = now.getMonthValue() < 4 ? LocalDate.of(now.getYear() - 1, 4, 1) : LocalDate.of(now.getYear(), 4, 1);
-        LocalDate effectiveStart = doj.isBefore(financialYearStart) ? financialYearStart : doj;
-        long monthsWorked = ChronoUnit.MONTHS.between(effectiveStart.withDayOfMonth(1), now.withDayOfMonth(1)) + 1;
+	@Operation(summary = "Get tax deductions for many employees",
+            description = "Resolves up to tax.batch.max-ids employee ids in one call, optionally as of a date. Returns one entry per id in request order; unknown ids carry an error field instead of failing the request.",
+            responses = {
+                @ApiResponse(responseCode = "200", description = "Tax deduction details per id",
+                    content = @Content(mediaType = "application/json",
+                        schema = @Schema(implementation = List.class))),
+                @ApiResponse(responseCode = "400", description = "Too many ids")
+            })
+	@PostMapping("/tax-deductions:batch")
+	@Timed(value = "employee.api.tax-deductions.batch", histogram = true)
+	public ResponseEntity<?> getTaxDeductionsBatch(@RequestBody List<String> employeeIds,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf) {
+		if (employeeIds.size() > maxBatchIds) {
+			employeeMetrics.validationFailed();
+			return ResponseEntity.badRequest().body(List.of("At most " + maxBatchIds + " employee ids per request"));
+		}
+		List<EmployeeTaxInfo> results = asOf != null ? taxDeductionService.getTaxDeductions(employeeIds, asOf)
+				: taxDeductionService.getTaxDeductions(employeeIds);
+		return ResponseEntity.ok(results.toArray(new EmployeeTaxInfo[0]));
+	}
 
-        double yearlySalary = employee.getSalary() * monthsWorked;
-        double taxAmount = employeeService.calculateTax(yearlySalary); 
-        double cessAmount = yearlySalary > 2500000 ? (yearlySalary - 2500000) * 0.02 : 0;
+	@Operation(summary = "Get tax deduction cache statistics",
+            description = "Returns hit, miss and eviction counts and the current size of the tax deduction cache.")
+	@GetMapping("/tax-deductions/cache-stats")
+	public ResponseEntity<Map<String, Long>> getTaxDeductionCacheStats() {
+		Map<String, Long> stats = new HashMap<>();
+		stats.put("hits", taxDeductionCache.getHits());
+		stats.put("misses", taxDeductionCache.getMisses());
+		stats.put("evictions", taxDeductionCache.getEvictions());
+		stats.put("size", (long) taxDeductionCache.size());
+		return ResponseEntity.ok(stats);
+	}
 
-        
-        Map<String, Object> response = new HashMap<>();
-        response.put("employeeId", employee.getEmployeeId());
-        response.put("firstName", employee.getFirstName());
-        response.put("lastName", employee.getLastName());
-        response.put("yearlySalary", yearlySalary);
-        response.put("taxAmount", taxAmount);
-        response.put("cessAmount", cessAmount);
+	@Operation(summary = "Export tax deductions for all employees as NDJSON",
+            description = "Streams one JSON object per line for every employee, read through a database cursor.")
+	@GetMapping(value = "/tax-deductions/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> exportTaxDeductionsNdjson() {
+		return ResponseEntity.ok()
+				.contentType(MediaType.APPLICATION_NDJSON)
+				.body(out -> taxExportService.exportTaxDeductions(out, TaxExportService.Format.NDJSON));
+	}
 
-        return ResponseEntity.ok(response);
-    }
+	@Operation(summary = "Export tax deductions for all employees as CSV",
+            description = "Streams a CSV row for every employee, read through a database cursor.")
+	@GetMapping(value = "/tax-deductions/export", produces = "text/csv")
+	public ResponseEntity<StreamingResponseBody> exportTaxDeductionsCsv() {
+		return ResponseEntity.ok()
+				.contentType(MediaType.parseMediaType("text/csv"))
+				.body(out -> taxExportService.exportTaxDeductions(out, TaxExportService.Format.CSV));
+	}
 
 	
 }
@@ -0,0 +1,105 @@
+package com.employee.controller;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.employee.analytics.PayrollAnalyticsService;
+import com.employee.analytics.TaxSimulationService;
+import com.employee.tax.TaxEngine;
+import com.employee.tax.TaxRegimeProperties;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+
+@RestController
+@RequestMapping("/api/analytics")
+public class PayrollAnalyticsController {
+
+	@Autowired
+	private PayrollAnalyticsService payrollAnalyticsService;
+
+	@Autowired
+	private TaxSimulationService taxSimulationService;
+
+	@Operation(summary = "Year-to-date tax by slab",
+            description = "Aggregates year-to-date tax over the whole workforce from the in-memory payroll snapshot. Defaults to today and the default regime.",
+            responses = {
+                @ApiResponse(responseCode = "200", description = "Totals and per-slab employee counts and tax"),
+                @ApiResponse(responseCode = "400", description = "Unknown tax regime")
+            })
+	@GetMapping("/tax-by-slab")
+	public ResponseEntity<?> taxBySlab(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf,
+			@RequestParam(required = false) String regime) {
+		try {
+			return ResponseEntity.ok(payrollAnalyticsService.taxBySlab(asOf != null ? asOf : LocalDate.now(), regime));
+		} catch (IllegalArgumentException ex) {
+			return ResponseEntity.badRequest().body(ex.getMessage());
+		}
+	}
+
+	@Operation(summary = "Year-to-date cess liability",
+            responses = {
+                @ApiResponse(responseCode = "200", description = "Number of employees liable for cess and total cess"),
+                @ApiResponse(responseCode = "400", description = "Unknown tax regime")
+            })
+	@GetMapping("/cess-liability")
+	public ResponseEntity<?> cessLiability(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf,
+			@RequestParam(required = false) String regime) {
+		try {
+			return ResponseEntity.ok(payrollAnalyticsService.cessLiability(asOf != null ? asOf : LocalDate.now(), regime));
+		} catch (IllegalArgumentException ex) {
+			return ResponseEntity.badRequest().body(ex.getMessage());
+		}
+	}
+
+	@Operation(summary = "Monthly salary histogram by joining month",
+            responses = {
+                @ApiResponse(responseCode = "200", description = "Per joining month: employee count, salary totals and bucket counts"),
+                @ApiResponse(responseCode = "400", description = "Invalid bucket settings")
+            })
+	@GetMapping("/salary-histogram")
+	public ResponseEntity<?> salaryHistogram(@RequestParam(defaultValue = "10000") double bucketWidth,
+			@RequestParam(defaultValue = "20") int buckets) {
+		if (bucketWidth <= 0 || buckets < 1 || buckets > 1000) {
+			return ResponseEntity.badRequest().body("bucketWidth must be positive and buckets between 1 and 1000");
+		}
+		return ResponseEntity.ok(payrollAnalyticsService.salaryHistogramByJoiningMonth(bucketWidth, buckets));
+	}
+
+	@Operation(summary = "Simulate candidate tax regimes",
+            description = "Evaluates every candidate regime and the configured baseline against the whole workforce for a financial year in one parallel pass. Defaults to the current financial year.",
+            responses = {
+                @ApiResponse(responseCode = "200", description = "Per-regime totals, deltas against the baseline and liability percentiles"),
+                @ApiResponse(responseCode = "400", description = "No candidates, too many, or slabs not ascending")
+            })
+	@PostMapping("/simulations")
+	public ResponseEntity<?> simulate(@RequestParam(required = false) Integer financialYear,
+			@RequestBody List<TaxRegimeProperties.Regime> candidates) {
+		try {
+			int year = financialYear != null ? financialYear : TaxEngine.financialYearOf(LocalDate.now());
+			return ResponseEntity.ok(taxSimulationService.simulate(year, candidates));
+		} catch (IllegalArgumentException ex) {
+			return ResponseEntity.badRequest().body(ex.getMessage());
+		}
+	}
+
+	@Operation(summary = "Payroll snapshot status",
+            responses = {
+                @ApiResponse(responseCode = "200", description = "Snapshot size, build time and memory held by its columns")
+            })
+	@GetMapping("/snapshot")
+	public ResponseEntity<?> snapshot() {
+		return ResponseEntity.ok(payrollAnalyticsService.snapshotInfo());
+	}
+
+}
@@ -0,0 +1,37 @@
+package com.employee.controller;
+
+import java.time.YearMonth;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.employee.service.PayrollLedgerService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+
+@RestController
+@RequestMapping("/api/payroll/ledger")
+public class PayrollLedgerController {
+
+	@Autowired
+	private PayrollLedgerService payrollLedgerService;
+
+	@Operation(summary = "Close a payroll month",
+            description = "Appends a year-to-date ledger row for every employee that does not have one for the month yet. Defaults to the current month.",
+            responses = {
+                @ApiResponse(responseCode = "200", description = "Number of rows appended and employees skipped")
+            })
+	@PostMapping("/close")
+	public ResponseEntity<Map<String, Long>> closeMonth(
+			@RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth month) {
+		return ResponseEntity.ok(payrollLedgerService.closeMonth(month != null ? month : YearMonth.now()));
+	}
+
+}
@@ -0,0 +1,48 @@
+package com.employee.controller;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.employee.dto.EmployeeTaxInfo;
+import com.employee.service.TaxDeductionService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Non-blocking fan-out of tax deductions for many employees. The servlet thread
+ * is released as soon as the {@link Flux} is returned; ids are resolved in
+ * chunks on the bounded elastic scheduler, one chunk at a time, and the next
+ * chunk is only fetched once the client has consumed the previous one.
+ */
+@RestController
+@RequestMapping("/api/reactive/employees")
+public class ReactiveTaxController {
+
+	@Autowired
+	private TaxDeductionService taxDeductionService;
+
+	@Value("${tax.reactive.chunk-size:100}")
+	private int chunkSize = 100;
+
+	@Operation(summary = "Stream tax deductions for a list of employees",
+            description = "Streams one NDJSON object per requested id, in request order. Unknown ids are reported inline with an error field.")
+	@PostMapping(value = "/tax-deductions", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public Flux<EmployeeTaxInfo> streamTaxDeductions(@RequestBody List<String> employeeIds) {
+		return Flux.fromIterable(employeeIds)
+				.buffer(chunkSize)
+				.concatMap(chunk -> Mono.fromCallable(() -> taxDeductionService.getTaxDeductions(chunk))
+						.subscribeOn(Schedulers.boundedElastic()), 1)
+				.flatMapIterable(results -> results);
+	}
+
+}
@@ -0,0 +1,116 @@
+package com.employee.controller;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.employee.entity.TaxRun;
+import com.employee.entity.TaxRunPartition;
+import com.employee.service.DistributedTaxRunService;
+import com.employee.service.TaxRunService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+
+@RestController
+@RequestMapping("/api/employees/tax-runs")
+public class TaxRunController {
+
+	@Autowired
+	private TaxRunService taxRunService;
+
+	@Autowired
+	private DistributedTaxRunService distributedTaxRunService;
+
+	@Operation(summary = "Start a bulk tax run",
+            description = "Computes tax and cess for every employee in chunks, in the background. Returns the run id and its progress counters.",
+            responses = {
+                @ApiResponse(responseCode = "202", description = "Tax run started",
+                    content = @Content(mediaType = "application/json",
+                        schema = @Schema(implementation = TaxRun.class)))
+            })
+	@PostMapping
+	public ResponseEntity<?> startRun(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf) {
+		return ResponseEntity.status(HttpStatus.ACCEPTED).body(taxRunService.startRun(asOf));
+	}
+
+	@Operation(summary = "Start a distributed bulk tax run",
+            description = "Splits the workforce into hash partitions that every application node sharing the database leases and processes. Partitions of a node that stops are taken over when their lease expires.",
+            responses = {
+                @ApiResponse(responseCode = "202", description = "Distributed tax run started",
+                    content = @Content(mediaType = "application/json",
+                        schema = @Schema(implementation = TaxRun.class))),
+                @ApiResponse(responseCode = "400", description = "Invalid partition count"),
+                @ApiResponse(responseCode = "409", description = "Distributed tax runs are disabled on this node")
+            })
+	@PostMapping("/distributed")
+	public ResponseEntity<?> startDistributedRun(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf,
+			@RequestParam(required = false) Integer partitions) {
+		try {
+			return ResponseEntity.status(HttpStatus.ACCEPTED).body(distributedTaxRunService.startRun(asOf, partitions));
+		} catch (IllegalArgumentException ex) {
+			return ResponseEntity.badRequest().body(ex.getMessage());
+		} catch (IllegalStateException ex) {
+			return ResponseEntity.status(HttpStatus.CONFLICT).body(ex.getMessage());
+		}
+	}
+
+	@Operation(summary = "Get the partitions of a distributed tax run",
+            description = "Returns each partition's bucket range, lease owner, cursor and totals.")
+	@GetMapping("/{runId}/partitions")
+	public ResponseEntity<?> getPartitions(@PathVariable String runId) {
+		List<TaxRunPartition> partitions = distributedTaxRunService.getPartitions(runId);
+
+		if (partitions.isEmpty()) {
+			return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Tax run not found");
+		}
+		return ResponseEntity.ok(partitions);
+	}
+
+	@Operation(summary = "Get progress of a bulk tax run",
+            responses = {
+                @ApiResponse(responseCode = "200", description = "Tax run progress and throughput",
+                    content = @Content(mediaType = "application/json",
+                        schema = @Schema(implementation = TaxRun.class))),
+                @ApiResponse(responseCode = "404", description = "Tax run not found")
+            })
+	@GetMapping("/{runId}")
+	public ResponseEntity<?> getRun(@PathVariable String runId) {
+		Optional<TaxRun> runOpt = taxRunService.getRun(runId);
+
+		if (!runOpt.isPresent()) {
+			return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Tax run not found");
+		}
+		return ResponseEntity.ok(runOpt.get());
+	}
+
+	@Operation(summary = "Resume a bulk tax run",
+            description = "Continues a failed or interrupted run from the last completed chunk.",
+            responses = {
+                @ApiResponse(responseCode = "202", description = "Tax run resumed"),
+                @ApiResponse(responseCode = "404", description = "Tax run not found")
+            })
+	@PostMapping("/{runId}/resume")
+	public ResponseEntity<?> resumeRun(@PathVariable String runId) {
+		Optional<TaxRun> runOpt = taxRunService.resumeRun(runId);
+
+		if (!runOpt.isPresent()) {
+			return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Tax run not found");
+		}
+		return ResponseEntity.status(HttpStatus.ACCEPTED).body(runOpt.get());
+	}
+
+}
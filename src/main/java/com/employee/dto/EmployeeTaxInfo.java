@@ -0,0 +1,38 @@
+package com.employee.dto;
+
+import com.employee.json.EmployeeTaxInfoSerializer;
+import com.employee.tax.Money;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+/**
+ * Tax deductions of one employee as returned by the tax endpoints. Written to
+ * responses by {@code EmployeeTaxInfoJsonWriter}, or by
+ * {@link EmployeeTaxInfoSerializer} where Jackson is in charge, never by
+ * reflection. A batch entry for an unknown id has only {@code employeeId} and
+ * {@code error}.
+ */
+@JsonSerialize(using = EmployeeTaxInfoSerializer.class)
+public record EmployeeTaxInfo(String employeeId, String firstName, String lastName, double yearlySalary,
+		double taxAmount, double cessAmount, String error) {
+
+	public EmployeeTaxInfo(String employeeId, String firstName, String lastName, double yearlySalary,
+			double taxAmount, double cessAmount) {
+		this(employeeId, firstName, lastName, yearlySalary, taxAmount, cessAmount, null);
+	}
+
+	/** From {@link Money} paise; the rupee doubles are exact to the paisa. */
+	public static EmployeeTaxInfo ofPaise(String employeeId, String firstName, String lastName, long yearlySalary,
+			long taxAmount, long cessAmount) {
+		return new EmployeeTaxInfo(employeeId, firstName, lastName, Money.toRupees(yearlySalary),
+				Money.toRupees(taxAmount), Money.toRupees(cessAmount));
+	}
+
+	public static EmployeeTaxInfo notFound(String employeeId, String error) {
+		return new EmployeeTaxInfo(employeeId, null, null, 0, 0, 0, error);
+	}
+
+	public boolean hasError() {
+		return error != null;
+	}
+
+}
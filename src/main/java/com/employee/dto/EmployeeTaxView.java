@@ -0,0 +1,40 @@
+package com.employee.dto;
+
+import java.time.LocalDate;
+
+import com.employee.tax.Money;
+
+import lombok.Value;
+
+/**
+ * Read model for the tax path: the employee columns tax needs, without the
+ * phone number collection. Built by JPQL constructor expressions, which pass
+ * the salary column as rupees; it is held as {@link Money} paise from here on.
+ */
+@Value
+public class EmployeeTaxView {
+
+	String employeeId;
+
+	String firstName;
+
+	String lastName;
+
+	long salaryPaise;
+
+	LocalDate doj;
+
+	public EmployeeTaxView(String employeeId, String firstName, String lastName, Double salary, LocalDate doj) {
+		this.employeeId = employeeId;
+		this.firstName = firstName;
+		this.lastName = lastName;
+		this.salaryPaise = Money.ofRupees(salary);
+		this.doj = doj;
+	}
+
+	/** Monthly salary in rupees. */
+	public double getSalary() {
+		return Money.toRupees(salaryPaise);
+	}
+
+}
@@ -0,0 +1,42 @@
+package com.employee.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class ImportReport {
+
+	private long totalRows;
+
+	private long importedRows;
+
+	private long failedRows;
+
+	private long elapsedMillis;
+
+	private List<RowError> errors = new ArrayList<>();
+
+	public void addError(long row, String employeeId, List<String> messages) {
+		failedRows++;
+		errors.add(new RowError(row, employeeId, messages));
+	}
+
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class RowError {
+
+		private long row;
+
+		private String employeeId;
+
+		private List<String> messages;
+
+	}
+
+}
@@ -0,0 +1,28 @@
+package com.employee.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Progress of an employee accepted in write-behind mode, looked up by the
+ * tracking id returned with the 202.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WriteBehindStatus {
+
+	public enum State {
+		PENDING, PERSISTED, FAILED
+	}
+
+	private String trackingId;
+
+	private String employeeId;
+
+	private State state;
+
+	private String message;
+
+}
@@ -14,19 +14,38 @@ import javax.validation.constraints.Pattern;
 import javax.validation.constraints.Positive;
 import javax.validation.constraints.Size;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import com.employee.tax.Money;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
 import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import lombok.ToString;
 
 @Entity
+@Table(name = "employee",
+		uniqueConstraints = @UniqueConstraint(name = "uk_employee_email", columnNames = "email"),
+		indexes = @Index(name = "idx_employee_partition_bucket", columnList = "partition_bucket, employee_id"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
@@ -39,7 +58,6 @@ public class Employee {
 	}
 
 	@Id
-	@Pattern(regexp = "E\\d{3}", message = "Employee ID must be in the format 'E123'")
 	@NotNull(message = "Employee ID is mandatory")
     private String employeeId;
 
@@ -55,8 +73,12 @@ public class Employee {
     @NotBlank(message = "Email is mandatory")
     private String email;
 
-	@ElementCollection
-    @CollectionTable(name = "employee_phone_numbers", joinColumns = @JoinColumn(name = "employee_id"))
+	@ElementCollection(fetch = FetchType.LAZY)
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	@ToString.Exclude
+	@EqualsAndHashCode.Exclude
+    @CollectionTable(name = "employee_phone_numbers", joinColumns = @JoinColumn(name = "employee_id"),
+			indexes = @Index(name = "idx_employee_phone_number", columnList = "phone_number"))
 	@Column(name = "phone_number")
 	@Size(min = 1, message = "At least one phone number is required")
 	@NotEmpty(message = "Phone number list cannot be empty")
@@ -70,4 +92,22 @@ public class Employee {
 	@Positive(message = "Salary must be a positive number")
     private Double salary;
 
+	/** {@link TaxRunPartition#bucketOf(String)} of the id, for partitioned tax runs. */
+	@JsonIgnore
+	@ToString.Exclude
+	@EqualsAndHashCode.Exclude
+	@Column(name = "partition_bucket")
+	private Integer partitionBucket;
+
+	/** Monthly salary as {@link Money} paise, the form the tax path works in. */
+	@JsonIgnore
+	public long getSalaryPaise() {
+		return Money.ofRupees(salary);
+	}
+
+	@PrePersist
+	void assignPartitionBucket() {
+		partitionBucket = TaxRunPartition.bucketOf(employeeId);
+	}
+
 }
@@ -0,0 +1,54 @@
+package com.employee.entity;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One employee write in the change feed, appended in the same transaction as
+ * the write itself. {@code seq} is the table's auto-increment column, so it
+ * grows across every node sharing the database; {@code payload} is the
+ * employee as written, in the JSON the API returns, and {@code recordedAt} is
+ * stamped by the database on insert, so it is comparable with the database's
+ * clock regardless of which node wrote the row.
+ * <p>
+ * Rows are inserted by {@link com.employee.service.EmployeeChangeFeedService}
+ * as one JDBC batch per transaction and never updated.
+ */
+@Entity
+@Table(name = "employee_change")
+@NoArgsConstructor
+@Data
+public class EmployeeChange {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long seq;
+
+	@Column(nullable = false)
+	private String employeeId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false)
+	private EmployeeChangeType changeType;
+
+	@Column(insertable = false, updatable = false, columnDefinition = "timestamp(3) default localtimestamp(3)")
+	private LocalDateTime recordedAt;
+
+	@Lob
+	@JsonRawValue
+	private String payload;
+
+}
@@ -0,0 +1,7 @@
+package com.employee.entity;
+
+public enum EmployeeChangeType {
+
+	CREATED
+
+}
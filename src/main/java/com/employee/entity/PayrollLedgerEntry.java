@@ -0,0 +1,68 @@
+package com.employee.entity;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One closed payroll month for an employee, carrying the running year-to-date
+ * totals for its financial year. {@code payMonth} is stored as {@code yyyyMM}.
+ */
+@Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(name = "payroll_ledger")
+@IdClass(PayrollLedgerEntry.Key.class)
+@NoArgsConstructor
+@Data
+public class PayrollLedgerEntry {
+
+	@Id
+	@Column(name = "employee_id")
+	private String employeeId;
+
+	@Id
+	@Column(name = "pay_month")
+	private int payMonth;
+
+	private int financialYear;
+
+	private double monthlySalary;
+
+	private double ytdGross;
+
+	private double ytdTax;
+
+	private double ytdCess;
+
+	private LocalDateTime closedAt;
+
+	public static int monthKey(YearMonth month) {
+		return month.getYear() * 100 + month.getMonthValue();
+	}
+
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class Key implements Serializable {
+
+		private String employeeId;
+
+		private int payMonth;
+
+	}
+
+}
@@ -0,0 +1,64 @@
+package com.employee.entity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Progress of a bulk payroll tax run. The keyset cursor and the running totals
+ * are saved together after every chunk, so a run can be resumed from the last
+ * completed chunk. A distributed run keeps its cursors and totals per
+ * {@link TaxRunPartition} instead and sums them here when the last partition
+ * completes.
+ */
+@Entity
+@Table(name = "tax_run")
+@NoArgsConstructor
+@Data
+public class TaxRun {
+
+	@Id
+	private String runId;
+
+	@Enumerated(EnumType.STRING)
+	private TaxRunStatus status;
+
+	private LocalDate asOf;
+
+	private String lastEmployeeId;
+
+	private long chunksCompleted;
+
+	private long employeesProcessed;
+
+	private double totalYearlySalary;
+
+	private double totalTaxAmount;
+
+	private double totalCessAmount;
+
+	private long elapsedMillis;
+
+	private LocalDateTime startedAt;
+
+	private LocalDateTime updatedAt;
+
+	private LocalDateTime finishedAt;
+
+	private String failureReason;
+
+	/** Number of lease partitions for a distributed run; 0 for a single-node run. */
+	private int partitions;
+
+	public double getEmployeesPerSecond() {
+		return elapsedMillis == 0 ? 0 : employeesProcessed * 1000.0 / elapsedMillis;
+	}
+
+}
@@ -0,0 +1,104 @@
+package com.employee.entity;
+
+import java.io.Serializable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One partition of a distributed tax run and its lease. A partition covers the
+ * employees whose {@link #bucketOf(String) bucket} lies in
+ * {@code [fromBucket, toBucket)}, processed bucket by bucket in employee id
+ * order. The node in {@code owner} holds the lease until
+ * {@code leaseExpiresAt}, epoch milliseconds. Claims and progress are saved
+ * through {@code @Version}, so a node whose lease was taken over fails its
+ * next save and stops without counting anything twice.
+ */
+@Entity
+@Table(name = "tax_run_partition")
+@IdClass(TaxRunPartition.Key.class)
+@NoArgsConstructor
+@Data
+public class TaxRunPartition {
+
+	/** Fixed number of hash buckets. Persisted on every employee; never change it. */
+	public static final int BUCKETS = 1024;
+
+	@Id
+	@Column(name = "run_id")
+	private String runId;
+
+	@Id
+	@Column(name = "partition_no")
+	private int partitionNo;
+
+	private int fromBucket;
+
+	private int toBucket;
+
+	@Enumerated(EnumType.STRING)
+	private TaxRunPartitionStatus status;
+
+	private String owner;
+
+	private long leaseExpiresAt;
+
+	private int cursorBucket;
+
+	private String lastEmployeeId;
+
+	private long employeesProcessed;
+
+	private double totalYearlySalary;
+
+	private double totalTaxAmount;
+
+	private double totalCessAmount;
+
+	private long elapsedMillis;
+
+	private int attempts;
+
+	@Version
+	private Long version;
+
+	/**
+	 * Stable bucket of an employee id: the murmur3 finaliser over
+	 * {@link String#hashCode()}, which is defined by the language spec and so
+	 * agrees across nodes and JVM versions.
+	 */
+	public static int bucketOf(String employeeId) {
+		int h = employeeId.hashCode();
+		h ^= h >>> 16;
+		h *= 0x85ebca6b;
+		h ^= h >>> 13;
+		h *= 0xc2b2ae35;
+		h ^= h >>> 16;
+		return (h & Integer.MAX_VALUE) % BUCKETS;
+	}
+
+	public boolean leaseExpired(long nowMillis) {
+		return status == TaxRunPartitionStatus.LEASED && leaseExpiresAt < nowMillis;
+	}
+
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class Key implements Serializable {
+
+		private String runId;
+
+		private int partitionNo;
+
+	}
+
+}
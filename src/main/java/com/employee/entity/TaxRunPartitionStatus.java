@@ -0,0 +1,10 @@
+package com.employee.entity;
+
+public enum TaxRunPartitionStatus {
+
+	PENDING,
+	LEASED,
+	COMPLETED,
+	FAILED
+
+}
@@ -0,0 +1,9 @@
+package com.employee.entity;
+
+public enum TaxRunStatus {
+
+	RUNNING,
+	COMPLETED,
+	FAILED
+
+}
@@ -0,0 +1,19 @@
+package com.employee.event;
+
+/**
+ * Published after an employee row has been written, so derived data keyed by
+ * the employee can be refreshed.
+ */
+public class EmployeeSavedEvent {
+
+	private final String employeeId;
+
+	public EmployeeSavedEvent(String employeeId) {
+		this.employeeId = employeeId;
+	}
+
+	public String getEmployeeId() {
+		return employeeId;
+	}
+
+}
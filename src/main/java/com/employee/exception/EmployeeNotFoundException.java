@@ -1,9 +1,14 @@
 package com.employee.exception;
 
+/**
+ * Thrown for lookups of an unknown employee id. Misses are routine (bad links,
+ * clients probing ids), so the exception carries no stack trace and is not
+ * suppressible; the message is all the handler needs.
+ */
 public class EmployeeNotFoundException extends RuntimeException {
 
 	public EmployeeNotFoundException(String employeeId) {
-		super("Employee with ID " + employeeId + " not found.");
+		super("Employee with ID " + employeeId + " not found.", null, false, false);
 	}
 
 }
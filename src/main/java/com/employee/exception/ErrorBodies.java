@@ -0,0 +1,70 @@
+package com.employee.exception;
+
+import java.time.LocalDateTime;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * JSON error bodies rendered from fixed templates, so error responses cost one
+ * string concatenation instead of a map and a Jackson pass. The field set
+ * matches what the handlers used to return: timestamp, status, error, message
+ * and path.
+ */
+public final class ErrorBodies {
+
+	static final String PATH = "/api/employees";
+
+	private static final String NOT_FOUND_PREFIX = template(HttpStatus.NOT_FOUND);
+
+	private static final String INTERNAL_ERROR_PREFIX = template(HttpStatus.INTERNAL_SERVER_ERROR);
+
+	private ErrorBodies() {
+	}
+
+	public static String notFound(String message) {
+		return render(NOT_FOUND_PREFIX, message);
+	}
+
+	public static String internalError(String message) {
+		return render(INTERNAL_ERROR_PREFIX, message);
+	}
+
+	private static String template(HttpStatus status) {
+		return "{\"status\":" + status.value() + ",\"error\":\"" + status.getReasonPhrase() + "\",\"path\":\"" + PATH
+				+ "\",\"timestamp\":\"";
+	}
+
+	private static String render(String prefix, String message) {
+		StringBuilder json = new StringBuilder(prefix.length() + 64 + (message != null ? message.length() : 4));
+		json.append(prefix).append(LocalDateTime.now()).append("\",\"message\":");
+		if (message == null) {
+			json.append("null");
+		} else {
+			json.append('"');
+			escape(message, json);
+			json.append('"');
+		}
+		return json.append('}').toString();
+	}
+
+	static void escape(String value, StringBuilder out) {
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			switch (c) {
+				case '"' -> out.append("\\\"");
+				case '\\' -> out.append("\\\\");
+				case '\n' -> out.append("\\n");
+				case '\r' -> out.append("\\r");
+				case '\t' -> out.append("\\t");
+				default -> {
+					if (c < 0x20) {
+						out.append(String.format("\\u%04x", (int) c));
+					} else {
+						out.append(c);
+					}
+				}
+			}
+		}
+	}
+
+}
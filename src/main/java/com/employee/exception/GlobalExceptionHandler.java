@@ -1,47 +1,44 @@
 package com.employee.exception;
 
-import java.time.LocalDateTime;
-
 import java.util.HashMap;
 import java.util.Map;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
+import com.employee.metrics.EmployeeMetrics;
+
 
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
+	@Autowired
+	private EmployeeMetrics employeeMetrics;
+
 	@ExceptionHandler(EmployeeNotFoundException.class)
-	public ResponseEntity<Map<String, Object>> handleEmployeeNotFoundException(EmployeeNotFoundException ex) {
-		Map<String, Object> response = new HashMap<>();
-		response.put("timestamp", LocalDateTime.now());
-		response.put("status", HttpStatus.NOT_FOUND.value());
-		response.put("error", "Not Found");
-		response.put("message", ex.getMessage());
-		response.put("path", "/api/employees");
-
-		return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
+	public ResponseEntity<String> handleEmployeeNotFoundException(EmployeeNotFoundException ex) {
+		employeeMetrics.employeeNotFound();
+		return ResponseEntity.status(HttpStatus.NOT_FOUND)
+				.contentType(MediaType.APPLICATION_JSON)
+				.body(ErrorBodies.notFound(ex.getMessage()));
 	}
 
 	@ExceptionHandler(Exception.class)
-	public ResponseEntity<Map<String, Object>> handleGenericException(Exception ex) {
-		Map<String, Object> response = new HashMap<>();
-		response.put("timestamp", LocalDateTime.now());
-		response.put("status", HttpStatus.INTERNAL_SERVER_ERROR.value());
-		response.put("error", "Internal Server Error");
-		response.put("message", ex.getMessage());
-		response.put("path", "/api/employees");
-
-		return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
+	public ResponseEntity<String> handleGenericException(Exception ex) {
+		return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+				.contentType(MediaType.APPLICATION_JSON)
+				.body(ErrorBodies.internalError(ex.getMessage()));
 	}
 	
 	@ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<?> handleValidationExceptions(MethodArgumentNotValidException ex) {
+        employeeMetrics.validationFailed();
         Map<String, String> errors = new HashMap<>();
         ex.getBindingResult().getAllErrors().forEach((error) -> {
             String fieldName = ((FieldError) error).getField();
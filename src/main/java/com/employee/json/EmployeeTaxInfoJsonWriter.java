@@ -0,0 +1,218 @@
+package com.employee.json;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import com.employee.dto.EmployeeTaxInfo;
+
+/**
+ * Hand-written JSON for tax rows, encoded straight into a reusable UTF-8 byte
+ * buffer. Field names are pre-encoded, strings are escaped char by char, and
+ * whole-number amounts below 10^7 (salaries and slab taxes in practice) are
+ * written as digits without going through {@link Double#toString(double)}.
+ * The output is byte-for-byte what Jackson produces for the same values.
+ * <p>
+ * Not thread-safe: one writer per response or export.
+ */
+public final class EmployeeTaxInfoJsonWriter {
+
+	private static final byte[] EMPLOYEE_ID = ascii("{\"employeeId\":");
+	private static final byte[] FIRST_NAME = ascii(",\"firstName\":");
+	private static final byte[] LAST_NAME = ascii(",\"lastName\":");
+	private static final byte[] YEARLY_SALARY = ascii(",\"yearlySalary\":");
+	private static final byte[] TAX_AMOUNT = ascii(",\"taxAmount\":");
+	private static final byte[] CESS_AMOUNT = ascii(",\"cessAmount\":");
+	private static final byte[] ERROR = ascii(",\"error\":");
+	private static final byte[] NULL = ascii("null");
+	private static final byte[] HEX = ascii("0123456789ABCDEF");
+
+	private static final long NEGATIVE_ZERO_BITS = Double.doubleToRawLongBits(-0.0);
+
+	// Double.toString switches to scientific notation from 10^7
+	private static final double PLAIN_LIMIT = 1e7;
+
+	private byte[] buffer;
+
+	private int size;
+
+	public EmployeeTaxInfoJsonWriter() {
+		this(256);
+	}
+
+	public EmployeeTaxInfoJsonWriter(int capacity) {
+		buffer = new byte[capacity];
+	}
+
+	public static byte[] toJson(EmployeeTaxInfo info) {
+		return new EmployeeTaxInfoJsonWriter(160).write(info).toByteArray();
+	}
+
+	public EmployeeTaxInfoJsonWriter write(EmployeeTaxInfo info) {
+		if (info.hasError()) {
+			append(EMPLOYEE_ID);
+			string(info.employeeId());
+			append(ERROR);
+			string(info.error());
+			return append('}');
+		}
+		return write(info.employeeId(), info.firstName(), info.lastName(), info.yearlySalary(), info.taxAmount(),
+				info.cessAmount());
+	}
+
+	/** Writes a row without materialising an {@link EmployeeTaxInfo}. */
+	public EmployeeTaxInfoJsonWriter write(String employeeId, String firstName, String lastName, double yearlySalary,
+			double taxAmount, double cessAmount) {
+		append(EMPLOYEE_ID);
+		string(employeeId);
+		append(FIRST_NAME);
+		string(firstName);
+		append(LAST_NAME);
+		string(lastName);
+		append(YEARLY_SALARY);
+		number(yearlySalary);
+		append(TAX_AMOUNT);
+		number(taxAmount);
+		append(CESS_AMOUNT);
+		number(cessAmount);
+		return append('}');
+	}
+
+	/** Appends a single ASCII character, e.g. an array bracket, comma or newline. */
+	public EmployeeTaxInfoJsonWriter append(char c) {
+		ensureCapacity(1);
+		buffer[size++] = (byte) c;
+		return this;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	/** Writes the buffered bytes to {@code out} and empties the buffer. */
+	public void writeTo(OutputStream out) throws IOException {
+		out.write(buffer, 0, size);
+		size = 0;
+	}
+
+	public byte[] toByteArray() {
+		return Arrays.copyOf(buffer, size);
+	}
+
+	private void append(byte[] bytes) {
+		ensureCapacity(bytes.length);
+		System.arraycopy(bytes, 0, buffer, size, bytes.length);
+		size += bytes.length;
+	}
+
+	private void string(String value) {
+		if (value == null) {
+			append(NULL);
+			return;
+		}
+		// worst case: every char a six-byte \\u escape, plus the quotes
+		ensureCapacity(value.length() * 6 + 2);
+		byte[] out = buffer;
+		int position = size;
+		out[position++] = '"';
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c < 0x80) {
+				if (c >= 0x20 && c != '"' && c != '\\') {
+					out[position++] = (byte) c;
+				} else {
+					position = escape(out, position, c);
+				}
+			} else if (c < 0x800) {
+				out[position++] = (byte) (0xC0 | (c >> 6));
+				out[position++] = (byte) (0x80 | (c & 0x3F));
+			} else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+					&& Character.isLowSurrogate(value.charAt(i + 1))) {
+				int codePoint = Character.toCodePoint(c, value.charAt(++i));
+				out[position++] = (byte) (0xF0 | (codePoint >> 18));
+				out[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+				out[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+				out[position++] = (byte) (0x80 | (codePoint & 0x3F));
+			} else {
+				out[position++] = (byte) (0xE0 | (c >> 12));
+				out[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+				out[position++] = (byte) (0x80 | (c & 0x3F));
+			}
+		}
+		out[position++] = '"';
+		size = position;
+	}
+
+	private static int escape(byte[] out, int position, char c) {
+		out[position++] = '\\';
+		switch (c) {
+		case '"':
+		case '\\':
+			out[position++] = (byte) c;
+			break;
+		case '\n':
+			out[position++] = 'n';
+			break;
+		case '\r':
+			out[position++] = 'r';
+			break;
+		case '\t':
+			out[position++] = 't';
+			break;
+		case '\b':
+			out[position++] = 'b';
+			break;
+		case '\f':
+			out[position++] = 'f';
+			break;
+		default:
+			out[position++] = 'u';
+			out[position++] = '0';
+			out[position++] = '0';
+			out[position++] = HEX[c >> 4];
+			out[position++] = HEX[c & 0xF];
+		}
+		return position;
+	}
+
+	private void number(double value) {
+		if (value == (long) value && Math.abs(value) < PLAIN_LIMIT
+				&& Double.doubleToRawLongBits(value) != NEGATIVE_ZERO_BITS) {
+			long digits = (long) value;
+			ensureCapacity(12);
+			if (digits < 0) {
+				buffer[size++] = '-';
+				digits = -digits;
+			}
+			int length = 1;
+			for (long rest = digits; rest >= 10; rest /= 10) {
+				length++;
+			}
+			for (int i = size + length - 1; i >= size; i--) {
+				buffer[i] = (byte) ('0' + digits % 10);
+				digits /= 10;
+			}
+			size += length;
+			buffer[size++] = '.';
+			buffer[size++] = '0';
+			return;
+		}
+		String text = Double.toString(value);
+		ensureCapacity(text.length());
+		for (int i = 0; i < text.length(); i++) {
+			buffer[size++] = (byte) text.charAt(i);
+		}
+	}
+
+	private void ensureCapacity(int extra) {
+		if (size + extra > buffer.length) {
+			buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + extra));
+		}
+	}
+
+	private static byte[] ascii(String value) {
+		return value.getBytes(StandardCharsets.US_ASCII);
+	}
+
+}
@@ -0,0 +1,69 @@
+package com.employee.json;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import com.employee.dto.EmployeeTaxInfo;
+
+/**
+ * Writes {@link EmployeeTaxInfo} and {@code EmployeeTaxInfo[]} response bodies
+ * with {@link EmployeeTaxInfoJsonWriter}, straight to the response stream.
+ * Arrays are written in slices of about {@value #FLUSH_BYTES} bytes, so the
+ * buffer does not grow with the batch size. Write-only, and JSON only: a body
+ * is always one object or one array. NDJSON streams reach this converter one
+ * element at a time as {@code application/json}.
+ */
+public class EmployeeTaxInfoMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+	private static final int FLUSH_BYTES = 8192;
+
+	public EmployeeTaxInfoMessageConverter() {
+		super(MediaType.APPLICATION_JSON);
+	}
+
+	@Override
+	protected boolean supports(Class<?> clazz) {
+		return clazz == EmployeeTaxInfo.class || clazz == EmployeeTaxInfo[].class;
+	}
+
+	@Override
+	protected boolean canRead(MediaType mediaType) {
+		return false;
+	}
+
+	@Override
+	protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+		throw new HttpMessageNotReadableException("EmployeeTaxInfo is response-only", inputMessage);
+	}
+
+	@Override
+	protected void writeInternal(Object body, HttpOutputMessage outputMessage) throws IOException {
+		OutputStream out = outputMessage.getBody();
+		if (body instanceof EmployeeTaxInfo info) {
+			EmployeeTaxInfoJsonWriter writer = new EmployeeTaxInfoJsonWriter(160);
+			writer.write(info).writeTo(out);
+			return;
+		}
+
+		EmployeeTaxInfo[] infos = (EmployeeTaxInfo[]) body;
+		EmployeeTaxInfoJsonWriter writer = new EmployeeTaxInfoJsonWriter(FLUSH_BYTES + 256);
+		writer.append('[');
+		for (int i = 0; i < infos.length; i++) {
+			if (i > 0) {
+				writer.append(',');
+			}
+			writer.write(infos[i]);
+			if (writer.size() >= FLUSH_BYTES) {
+				writer.writeTo(out);
+			}
+		}
+		writer.append(']').writeTo(out);
+	}
+
+}
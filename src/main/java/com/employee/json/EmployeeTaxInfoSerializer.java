@@ -0,0 +1,37 @@
+package com.employee.json;
+
+import java.io.IOException;
+
+import com.employee.dto.EmployeeTaxInfo;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Jackson serializer for {@link EmployeeTaxInfo} for the paths Jackson still
+ * owns, such as elements of a streamed {@code Flux}. Produces the same fields
+ * in the same order as {@link EmployeeTaxInfoJsonWriter}.
+ */
+public class EmployeeTaxInfoSerializer extends StdSerializer<EmployeeTaxInfo> {
+
+	public EmployeeTaxInfoSerializer() {
+		super(EmployeeTaxInfo.class);
+	}
+
+	@Override
+	public void serialize(EmployeeTaxInfo info, JsonGenerator json, SerializerProvider provider) throws IOException {
+		json.writeStartObject();
+		json.writeStringField("employeeId", info.employeeId());
+		if (info.hasError()) {
+			json.writeStringField("error", info.error());
+		} else {
+			json.writeStringField("firstName", info.firstName());
+			json.writeStringField("lastName", info.lastName());
+			json.writeNumberField("yearlySalary", info.yearlySalary());
+			json.writeNumberField("taxAmount", info.taxAmount());
+			json.writeNumberField("cessAmount", info.cessAmount());
+		}
+		json.writeEndObject();
+	}
+
+}
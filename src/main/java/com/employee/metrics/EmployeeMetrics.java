@@ -0,0 +1,64 @@
+package com.employee.metrics;
+
+import org.springframework.stereotype.Component;
+
+import com.employee.cache.EmployeeIdFilter;
+import com.employee.cache.TaxDeductionCache;
+import com.employee.tax.TaxEngine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Application counters that are not covered by {@code @Timed} or Spring Boot's
+ * built-in HTTP and repository metrics.
+ */
+@Component
+public class EmployeeMetrics {
+
+	private final Counter validationFailures;
+
+	private final Counter notFound;
+
+	public EmployeeMetrics(MeterRegistry registry, TaxDeductionCache taxDeductionCache, EmployeeIdFilter employeeIdFilter,
+			TaxEngine taxEngine) {
+		this.validationFailures = Counter.builder("employee.validation.failures")
+				.description("Requests rejected by employee validation")
+				.register(registry);
+		this.notFound = Counter.builder("employee.lookup.not.found")
+				.description("Lookups for an employee id that does not exist")
+				.register(registry);
+
+		FunctionCounter.builder("tax.deductions.cache.hits", taxDeductionCache, TaxDeductionCache::getHits)
+				.register(registry);
+		FunctionCounter.builder("tax.deductions.cache.misses", taxDeductionCache, TaxDeductionCache::getMisses)
+				.register(registry);
+		FunctionCounter.builder("tax.deductions.cache.evictions", taxDeductionCache, TaxDeductionCache::getEvictions)
+				.register(registry);
+		Gauge.builder("tax.deductions.cache.size", taxDeductionCache, TaxDeductionCache::size)
+				.register(registry);
+		FunctionCounter.builder("employee.lookup.filter.rejections", employeeIdFilter, EmployeeIdFilter::getRejections)
+				.description("Lookups answered as not found by the id filter without a query")
+				.register(registry);
+		FunctionCounter.builder("tax.memo.hits", taxEngine, TaxEngine::getMemoHits)
+				.description("Slab tax evaluations answered from the per-regime salary memo")
+				.register(registry);
+		FunctionCounter.builder("tax.memo.misses", taxEngine, TaxEngine::getMemoMisses)
+				.description("Slab tax evaluations the per-regime salary memo could not answer")
+				.register(registry);
+		Gauge.builder("tax.memo.hit.ratio", taxEngine, TaxEngine::getMemoHitRatio)
+				.description("Share of memoised slab tax evaluations answered from the memo")
+				.register(registry);
+	}
+
+	public void validationFailed() {
+		validationFailures.increment();
+	}
+
+	public void employeeNotFound() {
+		notFound.increment();
+	}
+
+}
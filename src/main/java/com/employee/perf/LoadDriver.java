@@ -0,0 +1,251 @@
+package com.employee.perf;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.employee.entity.Employee;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Closed-loop load driver for a running instance, typically one started with
+ * the {@code perf} profile. Each of {@code concurrency} workers sends one
+ * request at a time: {@code addEmployee} with probability {@code write-ratio},
+ * otherwise {@code getTaxDeductions} for a uniformly chosen seeded employee.
+ * Requests during the warm-up are not recorded. Prints a JSON report with RPS
+ * and p50/p99/p999 latency per operation.
+ *
+ * <pre>
+ * java -cp &lt;classpath&gt; com.employee.perf.LoadDriver --base-url=http://localhost:8080 \
+ *     --concurrency=64 --duration-seconds=60 --warmup-seconds=10 --write-ratio=0.1 \
+ *     --employees=100000 [--id-start=500000000] [--seed=7] [--output=report.json]
+ * </pre>
+ *
+ * New employees get ids from {@code id-start} upwards; use a fresh start (or a
+ * fresh database) per run so writes do not collide with an earlier run.
+ */
+public class LoadDriver {
+
+	static final String ADD_EMPLOYEE = "addEmployee";
+
+	static final String GET_TAX_DEDUCTIONS = "getTaxDeductions";
+
+	private final String baseUrl;
+	private final int concurrency;
+	private final Duration duration;
+	private final Duration warmup;
+	private final double writeRatio;
+	private final long employees;
+	private final long seed;
+	private final AtomicLong nextId;
+
+	private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private final PerfDataGenerator generator;
+
+	LoadDriver(Map<String, String> options) {
+		baseUrl = options.getOrDefault("base-url", "http://localhost:8080");
+		concurrency = Integer.parseInt(options.getOrDefault("concurrency", "64"));
+		duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration-seconds", "60")));
+		warmup = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup-seconds", "10")));
+		writeRatio = Double.parseDouble(options.getOrDefault("write-ratio", "0.1"));
+		employees = Long.parseLong(options.getOrDefault("employees", "100000"));
+		seed = Long.parseLong(options.getOrDefault("seed", "7"));
+		nextId = new AtomicLong(Long.parseLong(options.getOrDefault("id-start", "500000000")));
+		generator = new PerfDataGenerator(seed, LocalDate.now());
+	}
+
+	public static void main(String[] args) throws Exception {
+		Map<String, String> options = parseOptions(args);
+		LoadDriver driver = new LoadDriver(options);
+		String report = driver.objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(driver.run());
+		if (options.containsKey("output")) {
+			Files.writeString(Paths.get(options.get("output")), report);
+		}
+		System.out.println(report);
+	}
+
+	static Map<String, String> parseOptions(String[] args) {
+		Map<String, String> options = new HashMap<>();
+		for (String arg : args) {
+			if (!arg.startsWith("--") || arg.indexOf('=') < 0) {
+				throw new IllegalArgumentException("Expected --name=value but got " + arg);
+			}
+			options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+		}
+		return options;
+	}
+
+	Map<String, Object> run() throws Exception {
+		long warmupEnd = System.nanoTime() + warmup.toNanos();
+		long end = warmupEnd + duration.toNanos();
+
+		ExecutorService pool = Executors.newFixedThreadPool(concurrency);
+		List<Future<Map<String, Latencies>>> workers = new ArrayList<>(concurrency);
+		for (int w = 0; w < concurrency; w++) {
+			SplittableRandom random = new SplittableRandom(seed * 31 + w);
+			workers.add(pool.submit(() -> work(random, warmupEnd, end)));
+		}
+
+		Map<String, Latencies> merged = new LinkedHashMap<>();
+		merged.put(GET_TAX_DEDUCTIONS, new Latencies());
+		merged.put(ADD_EMPLOYEE, new Latencies());
+		for (Future<Map<String, Latencies>> worker : workers) {
+			worker.get().forEach((operation, latencies) -> merged.get(operation).addAll(latencies));
+		}
+		pool.shutdown();
+
+		double seconds = duration.toNanos() / 1e9;
+		Latencies total = new Latencies();
+		Map<String, Object> operations = new LinkedHashMap<>();
+		merged.forEach((operation, latencies) -> {
+			operations.put(operation, latencies.summary(seconds));
+			total.addAll(latencies);
+		});
+
+		Map<String, Object> config = new LinkedHashMap<>();
+		config.put("baseUrl", baseUrl);
+		config.put("concurrency", concurrency);
+		config.put("durationSeconds", duration.getSeconds());
+		config.put("warmupSeconds", warmup.getSeconds());
+		config.put("writeRatio", writeRatio);
+		config.put("employees", employees);
+		config.put("seed", seed);
+
+		Map<String, Object> report = new LinkedHashMap<>();
+		report.put("config", config);
+		report.put("operations", operations);
+		report.put("total", total.summary(seconds));
+		return report;
+	}
+
+	private Map<String, Latencies> work(SplittableRandom random, long warmupEnd, long end) {
+		Latencies reads = new Latencies();
+		Latencies writes = new Latencies();
+		long now;
+		while ((now = System.nanoTime()) < end) {
+			boolean write = random.nextDouble() < writeRatio;
+			HttpRequest request = write ? addEmployeeRequest(random) : taxDeductionsRequest(random);
+			boolean ok;
+			try {
+				int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+				ok = status >= 200 && status < 300;
+			} catch (IOException ex) {
+				ok = false;
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+			if (now >= warmupEnd) {
+				(write ? writes : reads).record(System.nanoTime() - now, ok);
+			}
+		}
+		Map<String, Latencies> result = new HashMap<>();
+		result.put(GET_TAX_DEDUCTIONS, reads);
+		result.put(ADD_EMPLOYEE, writes);
+		return result;
+	}
+
+	private HttpRequest taxDeductionsRequest(SplittableRandom random) {
+		String employeeId = PerfDataGenerator.employeeId(1 + random.nextLong(employees));
+		return HttpRequest.newBuilder(URI.create(baseUrl + "/api/employees/" + employeeId + "/tax-deductions")).build();
+	}
+
+	private HttpRequest addEmployeeRequest(SplittableRandom random) {
+		long id = nextId.getAndIncrement();
+		Employee employee = generator.employee(id);
+		Map<String, Object> body = new LinkedHashMap<>();
+		body.put("employeeId", "E" + id);
+		body.put("firstName", employee.getFirstName());
+		body.put("lastName", employee.getLastName());
+		body.put("email", employee.getEmail());
+		body.put("phoneNumbers", employee.getPhoneNumbers());
+		body.put("doj", employee.getDoj().toString());
+		body.put("salary", employee.getSalary());
+		try {
+			return HttpRequest.newBuilder(URI.create(baseUrl + "/api/employees"))
+					.header("Content-Type", "application/json")
+					.POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+					.build();
+		} catch (IOException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	/** Latencies in nanoseconds of one operation, kept exactly and sorted for the report. */
+	static final class Latencies {
+
+		private long[] nanos = new long[1024];
+		private int count;
+		private long errors;
+
+		void record(long latencyNanos, boolean ok) {
+			if (count == nanos.length) {
+				nanos = Arrays.copyOf(nanos, count * 2);
+			}
+			nanos[count++] = latencyNanos;
+			if (!ok) {
+				errors++;
+			}
+		}
+
+		void addAll(Latencies other) {
+			if (count + other.count > nanos.length) {
+				nanos = Arrays.copyOf(nanos, Math.max(nanos.length * 2, count + other.count));
+			}
+			System.arraycopy(other.nanos, 0, nanos, count, other.count);
+			count += other.count;
+			errors += other.errors;
+		}
+
+		/** Nearest-rank percentile in milliseconds; call after sorting. */
+		double percentileMillis(double percentile) {
+			if (count == 0) {
+				return 0;
+			}
+			int rank = (int) Math.ceil(percentile * count);
+			return nanos[Math.max(rank, 1) - 1] / 1e6;
+		}
+
+		Map<String, Object> summary(double seconds) {
+			Arrays.sort(nanos, 0, count);
+			long sum = 0;
+			for (int i = 0; i < count; i++) {
+				sum += nanos[i];
+			}
+			Map<String, Object> latency = new LinkedHashMap<>();
+			latency.put("p50", percentileMillis(0.50));
+			latency.put("p99", percentileMillis(0.99));
+			latency.put("p999", percentileMillis(0.999));
+			latency.put("max", count == 0 ? 0 : nanos[count - 1] / 1e6);
+			latency.put("mean", count == 0 ? 0 : sum / 1e6 / count);
+
+			Map<String, Object> summary = new LinkedHashMap<>();
+			summary.put("requests", count);
+			summary.put("errors", errors);
+			summary.put("rps", count / seconds);
+			summary.put("latencyMillis", latency);
+			return summary;
+		}
+	}
+
+}
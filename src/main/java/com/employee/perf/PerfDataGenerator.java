@@ -0,0 +1,61 @@
+package com.employee.perf;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import com.employee.entity.Employee;
+
+/**
+ * Deterministic synthetic workforce. Employee {@code i} depends only on the
+ * seed, the reference date and {@code i}, so a seeded database and the ids a
+ * load driver asks for agree without sharing state. Every generated employee
+ * passes {@code EmployeeValidator} as of the reference date.
+ */
+public class PerfDataGenerator {
+
+	private static final String[] FIRST_NAMES = {"Aarav", "Diya", "Ishaan", "Kavya", "Rohan", "Ananya", "Vikram",
+			"Meera", "Arjun", "Priya", "Karan", "Sneha", "Rahul", "Pooja", "Aditya", "Nisha"};
+
+	private static final String[] LAST_NAMES = {"Sharma", "Iyer", "Patel", "Reddy", "Gupta", "Nair", "Singh",
+			"Das", "Mehta", "Rao", "Kapoor", "Joshi", "Menon", "Bose", "Kulkarni", "Verma"};
+
+	private final long seed;
+
+	private final LocalDate referenceDate;
+
+	public PerfDataGenerator(long seed, LocalDate referenceDate) {
+		this.seed = seed;
+		this.referenceDate = referenceDate;
+	}
+
+	/** Id of the {@code index}-th employee, 1-based: {@code E000001} onwards. */
+	public static String employeeId(long index) {
+		return String.format("E%06d", index);
+	}
+
+	public Employee employee(long index) {
+		SplittableRandom random = new SplittableRandom(seed * 0x9E3779B97F4A7C15L + index);
+		String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+		String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+
+		Employee employee = new Employee();
+		employee.setEmployeeId(employeeId(index));
+		employee.setFirstName(firstName);
+		employee.setLastName(lastName);
+		employee.setEmail(firstName.toLowerCase() + "." + lastName.toLowerCase() + "." + index + "@example.com");
+		int phones = 1 + random.nextInt(3);
+		List<String> phoneNumbers = new ArrayList<>(phones);
+		for (int p = 0; p < phones; p++) {
+			phoneNumbers.add(Long.toString(6_000_000_000L + random.nextLong(4_000_000_000L)));
+		}
+		employee.setPhoneNumbers(phoneNumbers);
+		employee.setDoj(referenceDate.minusDays(random.nextInt(3650)));
+		// right-skewed monthly salary between 20,000 and 400,000, in hundreds
+		double r = random.nextDouble();
+		employee.setSalary(Math.round((20_000 + 380_000 * r * r) / 100) * 100.0);
+		return employee;
+	}
+
+}
@@ -0,0 +1,84 @@
+package com.employee.perf;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.employee.entity.Employee;
+import com.employee.repository.EmployeeRepository;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Seeds {@code perf.seed.employees} generated employees when the {@code perf}
+ * profile starts against an empty database, persisting them in batches of
+ * {@code perf.seed.batch-size} the way the import path does. Runs as an
+ * {@link ApplicationRunner}, i.e. before the ready-time loads of the id filter
+ * and the payroll snapshot, so both see the seeded workforce.
+ */
+@Component
+@Profile("perf")
+public class PerfDataSeeder implements ApplicationRunner {
+
+	private static final Logger log = LoggerFactory.getLogger(PerfDataSeeder.class);
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Value("${perf.seed.employees:100000}")
+	private long employees = 100000;
+
+	@Value("${perf.seed.seed:42}")
+	private long seed = 42;
+
+	@Value("${perf.seed.reference-date:2025-03-31}")
+	private LocalDate referenceDate = LocalDate.of(2025, 3, 31);
+
+	@Value("${perf.seed.batch-size:1000}")
+	private int batchSize = 1000;
+
+	@Override
+	public void run(ApplicationArguments args) {
+		if (employeeRepository.count() > 0) {
+			log.info("Database already has employees, not seeding");
+			return;
+		}
+
+		PerfDataGenerator generator = new PerfDataGenerator(seed, referenceDate);
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		long start = System.nanoTime();
+		for (long from = 1; from <= employees; from += batchSize) {
+			List<Employee> batch = new ArrayList<>(batchSize);
+			for (long i = from; i < from + batchSize && i <= employees; i++) {
+				batch.add(generator.employee(i));
+			}
+			transactionTemplate.executeWithoutResult(status -> {
+				// persist, not saveAll: the ids are assigned, so save would merge and select each row first
+				for (Employee employee : batch) {
+					entityManager.persist(employee);
+				}
+				entityManager.flush();
+				entityManager.clear();
+			});
+		}
+		log.info("Seeded {} employees (seed {}) in {} ms", employees, seed, (System.nanoTime() - start) / 1_000_000);
+	}
+
+}
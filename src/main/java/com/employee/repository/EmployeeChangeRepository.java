@@ -0,0 +1,23 @@
+package com.employee.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import com.employee.entity.EmployeeChange;
+
+import jakarta.persistence.QueryHint;
+
+public interface EmployeeChangeRepository extends JpaRepository<EmployeeChange, Long> {
+
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+	List<EmployeeChange> findBySeqGreaterThanOrderBySeqAsc(long seq, Pageable pageable);
+
+	Optional<EmployeeChange> findFirstByRecordedAtBeforeOrderBySeqDesc(LocalDateTime recordedAt);
+
+}
@@ -1,10 +1,107 @@
 package com.employee.repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import com.employee.dto.EmployeeTaxView;
 import com.employee.entity.Employee;
 
+import jakarta.persistence.QueryHint;
+
 public interface EmployeeRepository extends JpaRepository<Employee, String>{
 	
 	boolean existsByEmail(String email);
+
+	/** Served by the {@code uk_employee_email} unique index. */
+	@Query("select e.employeeId from Employee e where e.email = :email")
+	Optional<String> findEmployeeIdByEmail(@Param("email") String email);
+
+	/** Served by {@code idx_employee_phone_number} on the phone number collection table. */
+	@Query("select e.employeeId from Employee e join e.phoneNumbers p where p = :phoneNumber order by e.employeeId")
+	List<String> findEmployeeIdsByPhoneNumber(@Param("phoneNumber") String phoneNumber);
+
+	/** Employees with their phone numbers fetched in the same query. */
+	@EntityGraph(attributePaths = "phoneNumbers")
+	List<Employee> findWithPhoneNumbersByEmployeeIdInOrderByEmployeeIdAsc(Collection<String> employeeIds);
+
+	/**
+	 * Server-side cursor over {@code [employeeId, email]} pairs. Must be consumed
+	 * inside a transaction and closed by the caller.
+	 */
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+	@Query("select e.employeeId, e.email from Employee e")
+	Stream<Object[]> streamAllEmails();
+
+	/**
+	 * Server-side cursor over {@code [employeeId, phoneNumber]} pairs. Must be
+	 * consumed inside a transaction and closed by the caller.
+	 */
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+	@Query("select e.employeeId, p from Employee e join e.phoneNumbers p")
+	Stream<Object[]> streamAllPhoneNumbers();
+
+	/**
+	 * Keyset page: the next {@code pageable.getPageSize()} employees after the given id.
+	 * Pass an empty string to start from the first employee.
+	 */
+	List<Employee> findByEmployeeIdGreaterThanOrderByEmployeeIdAsc(String employeeId, Pageable pageable);
+
+	/**
+	 * Server-side cursor over all employees. Must be consumed inside a transaction
+	 * and closed by the caller.
+	 */
+	@QueryHints({
+		@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+		@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+	})
+	@Query("select e from Employee e order by e.employeeId")
+	Stream<Employee> streamAllOrderByEmployeeId();
+
+	/**
+	 * Single-row, phone-free read for the tax path. Cached in the query cache and
+	 * invalidated by Hibernate whenever the employee table changes.
+	 */
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+	@Query("select new com.employee.dto.EmployeeTaxView(e.employeeId, e.firstName, e.lastName, e.salary, e.doj) "
+			+ "from Employee e where e.employeeId = :employeeId")
+	Optional<EmployeeTaxView> findTaxViewById(@Param("employeeId") String employeeId);
+
+	@Query("select new com.employee.dto.EmployeeTaxView(e.employeeId, e.firstName, e.lastName, e.salary, e.doj) "
+			+ "from Employee e where e.employeeId in :employeeIds")
+	List<EmployeeTaxView> findTaxViewsByIds(@Param("employeeIds") Collection<String> employeeIds);
+
+	@Query("select new com.employee.dto.EmployeeTaxView(e.employeeId, e.firstName, e.lastName, e.salary, e.doj) "
+			+ "from Employee e where e.employeeId > :employeeId order by e.employeeId")
+	List<EmployeeTaxView> findTaxViewsAfter(@Param("employeeId") String employeeId, Pageable pageable);
+
+	/**
+	 * Server-side cursor over every employee id. Must be consumed inside a
+	 * transaction and closed by the caller.
+	 */
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+	@Query("select e.employeeId from Employee e")
+	Stream<String> streamAllEmployeeIds();
+
+	@Query("select e.employeeId from Employee e where e.employeeId in :employeeIds")
+	Set<String> findExistingEmployeeIds(@Param("employeeIds") Collection<String> employeeIds);
+
+	/** Keyset page within one partition bucket, served by {@code idx_employee_partition_bucket}. */
+	@Query("select new com.employee.dto.EmployeeTaxView(e.employeeId, e.firstName, e.lastName, e.salary, e.doj) "
+			+ "from Employee e where e.partitionBucket = :bucket and e.employeeId > :employeeId order by e.employeeId")
+	List<EmployeeTaxView> findTaxViewsInBucketAfter(@Param("bucket") int bucket, @Param("employeeId") String employeeId,
+			Pageable pageable);
+
+	/** Employees saved before partition buckets existed. */
+	List<Employee> findByPartitionBucketIsNull(Pageable pageable);
 }
@@ -0,0 +1,30 @@
+package com.employee.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import com.employee.entity.PayrollLedgerEntry;
+
+import jakarta.persistence.QueryHint;
+
+public interface PayrollLedgerRepository extends JpaRepository<PayrollLedgerEntry, PayrollLedgerEntry.Key> {
+
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+	Optional<PayrollLedgerEntry> findFirstByEmployeeIdAndFinancialYearAndPayMonthLessThanEqualOrderByPayMonthDesc(
+			String employeeId, int financialYear, int payMonth);
+
+	List<PayrollLedgerEntry> findByEmployeeIdInAndPayMonth(Collection<String> employeeIds, int payMonth);
+
+	List<PayrollLedgerEntry> findByEmployeeIdInAndPayMonthIn(Collection<String> employeeIds, Collection<Integer> payMonths);
+
+	@Query("select l.employeeId from PayrollLedgerEntry l where l.employeeId in :employeeIds and l.payMonth = :payMonth")
+	Set<String> findClosedEmployeeIds(@Param("employeeIds") Collection<String> employeeIds, @Param("payMonth") int payMonth);
+}
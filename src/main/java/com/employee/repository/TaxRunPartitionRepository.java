@@ -0,0 +1,20 @@
+package com.employee.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.employee.entity.TaxRunPartition;
+
+public interface TaxRunPartitionRepository extends JpaRepository<TaxRunPartition, TaxRunPartition.Key> {
+
+	List<TaxRunPartition> findByRunIdOrderByPartitionNo(String runId);
+
+	/** Partitions nobody holds: never leased, or leased by a node that stopped renewing. */
+	@Query("select p from TaxRunPartition p where p.runId = :runId and (p.status = com.employee.entity.TaxRunPartitionStatus.PENDING "
+			+ "or (p.status = com.employee.entity.TaxRunPartitionStatus.LEASED and p.leaseExpiresAt < :now)) order by p.partitionNo")
+	List<TaxRunPartition> findClaimable(@Param("runId") String runId, @Param("now") long now);
+
+}
@@ -0,0 +1,14 @@
+package com.employee.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.employee.entity.TaxRun;
+import com.employee.entity.TaxRunStatus;
+
+public interface TaxRunRepository extends JpaRepository<TaxRun, String> {
+
+	List<TaxRun> findByStatusAndPartitionsGreaterThan(TaxRunStatus status, int partitions);
+
+}
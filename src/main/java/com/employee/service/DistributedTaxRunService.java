@@ -0,0 +1,418 @@
+package com.employee.service;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.employee.dto.EmployeeTaxView;
+import com.employee.entity.Employee;
+import com.employee.entity.TaxRun;
+import com.employee.entity.TaxRunPartition;
+import com.employee.entity.TaxRunPartitionStatus;
+import com.employee.entity.TaxRunStatus;
+import com.employee.repository.EmployeeRepository;
+import com.employee.repository.TaxRunPartitionRepository;
+import com.employee.repository.TaxRunRepository;
+import com.employee.tax.FinancialYearCalendar;
+import com.employee.tax.Money;
+import com.employee.tax.TaxEngine;
+import com.employee.tax.TaxRegime;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Bulk tax run spread over every application node that shares the database.
+ * Employees are split into {@link TaxRunPartition#BUCKETS} hash buckets and a
+ * run into {@code partitions} contiguous bucket ranges, one row each in the
+ * {@code tax_run_partition} lease table. There is no coordinator: every node
+ * polls for running distributed runs and its workers claim partitions that are
+ * unleased or whose lease has expired. The lease is renewed with every chunk
+ * saved, so a partition of a node that dies is picked up by another node after
+ * {@code lease-ms} and continued from its saved cursor. A partition that has
+ * been claimed {@code max-attempts} times without completing keeps failing
+ * wherever it runs, so it is marked {@code FAILED} together with its run
+ * instead of being claimed again.
+ * <p>
+ * Off by default ({@code tax.run.distributed.enabled}); enable it on every node
+ * sharing the database, or runs are only processed by the nodes that have it.
+ * <p>
+ * Partitions are independent index range scans, so throughput grows with the
+ * number of nodes until the database saturates. Use more partitions than
+ * total workers so that the last partitions do not leave nodes idle.
+ */
+@Service
+public class DistributedTaxRunService {
+
+	private static final Logger log = LoggerFactory.getLogger(DistributedTaxRunService.class);
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Autowired
+	private TaxRunRepository taxRunRepository;
+
+	@Autowired
+	private TaxRunPartitionRepository partitionRepository;
+
+	@Autowired
+	private TaxEngine taxEngine;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Value("${tax.run.distributed.enabled:false}")
+	private boolean enabled;
+
+	@Value("${tax.run.distributed.node-id:}")
+	private String nodeId = "";
+
+	@Value("${tax.run.distributed.partitions:64}")
+	private int defaultPartitions = 64;
+
+	@Value("${tax.run.distributed.workers:0}")
+	private int workers;
+
+	@Value("${tax.run.distributed.lease-ms:30000}")
+	private long leaseMillis = 30000;
+
+	@Value("${tax.run.distributed.max-attempts:3}")
+	private int maxAttempts = 3;
+
+	@Value("${tax.run.chunk-size:1000}")
+	private int chunkSize = 1000;
+
+	private ExecutorService workerPool;
+
+	private final AtomicInteger activeWorkers = new AtomicInteger();
+
+	private volatile boolean running = true;
+
+	@PostConstruct
+	void start() {
+		if (nodeId == null || nodeId.isBlank()) {
+			nodeId = defaultNodeId();
+		}
+		if (workers <= 0) {
+			workers = Runtime.getRuntime().availableProcessors();
+		}
+		AtomicInteger threads = new AtomicInteger();
+		workerPool = Executors.newFixedThreadPool(workers, task -> {
+			Thread thread = new Thread(task, "tax-run-worker-" + threads.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		log.info("Distributed tax runs: node {} with {} workers", nodeId, workers);
+	}
+
+	@PreDestroy
+	void shutdown() {
+		running = false;
+		if (workerPool != null) {
+			workerPool.shutdownNow();
+		}
+	}
+
+	public String getNodeId() {
+		return nodeId;
+	}
+
+	/**
+	 * @throws IllegalArgumentException if {@code partitions} is outside 1 to
+	 *                                  {@link TaxRunPartition#BUCKETS}
+	 * @throws IllegalStateException    if distributed runs are disabled on this
+	 *                                  node
+	 */
+	public TaxRun startRun(LocalDate asOf, Integer partitions) {
+		if (!enabled) {
+			throw new IllegalStateException("Distributed tax runs are disabled (tax.run.distributed.enabled)");
+		}
+		int count = partitions != null ? partitions : defaultPartitions;
+		if (count < 1 || count > TaxRunPartition.BUCKETS) {
+			throw new IllegalArgumentException("Partitions must be between 1 and " + TaxRunPartition.BUCKETS);
+		}
+
+		TaxRun run = new TaxRun();
+		run.setRunId(UUID.randomUUID().toString());
+		run.setAsOf(asOf != null ? asOf : LocalDate.now());
+		run.setStartedAt(LocalDateTime.now());
+		run.setStatus(TaxRunStatus.RUNNING);
+		run.setUpdatedAt(run.getStartedAt());
+		run.setPartitions(count);
+
+		List<TaxRunPartition> rows = new ArrayList<>(count);
+		for (int p = 0; p < count; p++) {
+			TaxRunPartition partition = new TaxRunPartition();
+			partition.setRunId(run.getRunId());
+			partition.setPartitionNo(p);
+			partition.setFromBucket(p * TaxRunPartition.BUCKETS / count);
+			partition.setToBucket((p + 1) * TaxRunPartition.BUCKETS / count);
+			partition.setCursorBucket(partition.getFromBucket());
+			partition.setLastEmployeeId("");
+			partition.setStatus(TaxRunPartitionStatus.PENDING);
+			rows.add(partition);
+		}
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+			taxRunRepository.save(run);
+			partitionRepository.saveAll(rows);
+		});
+
+		poll();
+		return run;
+	}
+
+	public List<TaxRunPartition> getPartitions(String runId) {
+		return partitionRepository.findByRunIdOrderByPartitionNo(runId);
+	}
+
+	/** The run with its totals summed over the partitions completed or in progress so far. */
+	public TaxRun withPartitionTotals(TaxRun run) {
+		if (run.getStatus() == TaxRunStatus.RUNNING) {
+			sumPartitions(run, partitionRepository.findByRunIdOrderByPartitionNo(run.getRunId()));
+		}
+		return run;
+	}
+
+	/** Starts idle workers while a distributed run still has claimable partitions. */
+	@Scheduled(fixedDelayString = "${tax.run.distributed.poll-interval-ms:2000}")
+	public void poll() {
+		if (!enabled || !running || activeWorkers.get() >= workers
+				|| taxRunRepository.findByStatusAndPartitionsGreaterThan(TaxRunStatus.RUNNING, 0).isEmpty()) {
+			return;
+		}
+		int active;
+		while ((active = activeWorkers.get()) < workers) {
+			if (activeWorkers.compareAndSet(active, active + 1)) {
+				workerPool.execute(this::work);
+			}
+		}
+	}
+
+	private void work() {
+		try {
+			Optional<Lease> lease;
+			while (running && (lease = claimNext()).isPresent()) {
+				process(lease.get().run(), lease.get().partition());
+			}
+		} catch (RuntimeException ex) {
+			// the lease lapses and the partition is retried, here or on another node
+			log.error("Tax run worker on node {} failed", nodeId, ex);
+		} finally {
+			activeWorkers.decrementAndGet();
+		}
+	}
+
+	Optional<Lease> claimNext() {
+		long now = System.currentTimeMillis();
+		for (TaxRun run : taxRunRepository.findByStatusAndPartitionsGreaterThan(TaxRunStatus.RUNNING, 0)) {
+			List<TaxRunPartition> claimable = partitionRepository.findClaimable(run.getRunId(), now);
+			// start at a random partition so that workers do not all race for the first one
+			int offset = claimable.isEmpty() ? 0 : ThreadLocalRandom.current().nextInt(claimable.size());
+			for (int i = 0; i < claimable.size(); i++) {
+				TaxRunPartition partition = claimable.get((offset + i) % claimable.size());
+				if (partition.getAttempts() >= maxAttempts) {
+					fail(run, partition);
+					break;
+				}
+				Optional<TaxRunPartition> claimed = claim(partition, now);
+				if (claimed.isPresent()) {
+					return Optional.of(new Lease(run, claimed.get()));
+				}
+			}
+		}
+		return Optional.empty();
+	}
+
+	/** Empty if another node claimed or renewed the partition since it was read. */
+	Optional<TaxRunPartition> claim(TaxRunPartition partition, long now) {
+		if (partition.leaseExpired(now)) {
+			log.info("Node {} taking over partition {} of run {} from {}", nodeId, partition.getPartitionNo(),
+					partition.getRunId(), partition.getOwner());
+		}
+		partition.setStatus(TaxRunPartitionStatus.LEASED);
+		partition.setOwner(nodeId);
+		partition.setLeaseExpiresAt(now + leaseMillis);
+		partition.setAttempts(partition.getAttempts() + 1);
+		try {
+			return Optional.of(partitionRepository.save(partition));
+		} catch (OptimisticLockingFailureException ex) {
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * Works through the partition's buckets from its saved cursor. Each chunk's
+	 * totals are saved together with the new cursor and a renewed lease; if the
+	 * save fails because another node took the partition over, the chunk is
+	 * dropped and the worker moves on.
+	 */
+	void process(TaxRun run, TaxRunPartition partition) {
+		TaxRegime regime = taxEngine.regimeFor(run.getAsOf());
+		int asOfMonth = FinancialYearCalendar.monthIndex(run.getAsOf());
+		TaxRunPartition current = partition;
+		try {
+			while (current.getCursorBucket() < current.getToBucket()) {
+				if (!running) {
+					return;
+				}
+				long chunkStart = System.nanoTime();
+				List<EmployeeTaxView> chunk = employeeRepository.findTaxViewsInBucketAfter(current.getCursorBucket(),
+						current.getLastEmployeeId(), PageRequest.of(0, chunkSize));
+
+				long yearlySalary = 0;
+				long taxAmount = 0;
+				long cessAmount = 0;
+				for (EmployeeTaxView employee : chunk) {
+					long salary = Money.times(employee.getSalaryPaise(),
+							FinancialYearCalendar.monthsWorked(FinancialYearCalendar.monthIndex(employee.getDoj()), asOfMonth));
+					yearlySalary = Money.plus(yearlySalary, salary);
+					taxAmount = Money.plus(taxAmount, regime.taxPaise(salary));
+					cessAmount = Money.plus(cessAmount, regime.cessPaise(salary));
+				}
+
+				if (chunk.size() < chunkSize) {
+					current.setCursorBucket(current.getCursorBucket() + 1);
+					current.setLastEmployeeId("");
+				} else {
+					current.setLastEmployeeId(chunk.get(chunk.size() - 1).getEmployeeId());
+				}
+				current.setEmployeesProcessed(current.getEmployeesProcessed() + chunk.size());
+				current.setTotalYearlySalary(TaxRunService.addPaise(current.getTotalYearlySalary(), yearlySalary));
+				current.setTotalTaxAmount(TaxRunService.addPaise(current.getTotalTaxAmount(), taxAmount));
+				current.setTotalCessAmount(TaxRunService.addPaise(current.getTotalCessAmount(), cessAmount));
+				current.setElapsedMillis(current.getElapsedMillis() + (System.nanoTime() - chunkStart) / 1_000_000);
+				current.setLeaseExpiresAt(System.currentTimeMillis() + leaseMillis);
+				if (current.getCursorBucket() == current.getToBucket()) {
+					current.setStatus(TaxRunPartitionStatus.COMPLETED);
+				}
+				current = partitionRepository.save(current);
+			}
+		} catch (OptimisticLockingFailureException ex) {
+			log.warn("Node {} lost the lease on partition {} of run {}", nodeId, partition.getPartitionNo(),
+					partition.getRunId());
+			return;
+		}
+		completeIfDone(run);
+	}
+
+	/**
+	 * Marks a partition that has used up its attempts, and its run, as failed.
+	 * Does nothing if another node changed the partition since it was read.
+	 */
+	void fail(TaxRun run, TaxRunPartition partition) {
+		partition.setStatus(TaxRunPartitionStatus.FAILED);
+		partition.setOwner(nodeId);
+		try {
+			partitionRepository.save(partition);
+		} catch (OptimisticLockingFailureException ex) {
+			return;
+		}
+		sumPartitions(run, partitionRepository.findByRunIdOrderByPartitionNo(run.getRunId()));
+		run.setStatus(TaxRunStatus.FAILED);
+		run.setFailureReason("Partition " + partition.getPartitionNo() + " failed after " + partition.getAttempts()
+				+ " attempts");
+		run.setFinishedAt(LocalDateTime.now());
+		run.setUpdatedAt(run.getFinishedAt());
+		run.setElapsedMillis(Duration.between(run.getStartedAt(), run.getFinishedAt()).toMillis());
+		taxRunRepository.save(run);
+		log.error("Distributed tax run {} failed: {}", run.getRunId(), run.getFailureReason());
+	}
+
+	private void completeIfDone(TaxRun run) {
+		List<TaxRunPartition> partitions = partitionRepository.findByRunIdOrderByPartitionNo(run.getRunId());
+		if (partitions.stream().anyMatch(partition -> partition.getStatus() != TaxRunPartitionStatus.COMPLETED)) {
+			return;
+		}
+		// every node finishing a last partition may get here; they all write the same totals
+		sumPartitions(run, partitions);
+		run.setStatus(TaxRunStatus.COMPLETED);
+		run.setFinishedAt(LocalDateTime.now());
+		run.setUpdatedAt(run.getFinishedAt());
+		run.setElapsedMillis(Duration.between(run.getStartedAt(), run.getFinishedAt()).toMillis());
+		taxRunRepository.save(run);
+		log.info("Distributed tax run {} completed: {} employees in {} ms", run.getRunId(),
+				run.getEmployeesProcessed(), run.getElapsedMillis());
+	}
+
+	private void sumPartitions(TaxRun run, List<TaxRunPartition> partitions) {
+		long employees = 0;
+		long completed = 0;
+		long yearlySalary = 0;
+		long taxAmount = 0;
+		long cessAmount = 0;
+		for (TaxRunPartition partition : partitions) {
+			employees += partition.getEmployeesProcessed();
+			completed += partition.getStatus() == TaxRunPartitionStatus.COMPLETED ? 1 : 0;
+			yearlySalary = Money.plus(yearlySalary, Money.ofRupees(partition.getTotalYearlySalary()));
+			taxAmount = Money.plus(taxAmount, Money.ofRupees(partition.getTotalTaxAmount()));
+			cessAmount = Money.plus(cessAmount, Money.ofRupees(partition.getTotalCessAmount()));
+		}
+		run.setEmployeesProcessed(employees);
+		run.setChunksCompleted(completed);
+		run.setTotalYearlySalary(Money.toRupees(yearlySalary));
+		run.setTotalTaxAmount(Money.toRupees(taxAmount));
+		run.setTotalCessAmount(Money.toRupees(cessAmount));
+		if (run.getStatus() == TaxRunStatus.RUNNING && run.getStartedAt() != null) {
+			run.setElapsedMillis(Duration.between(run.getStartedAt(), LocalDateTime.now()).toMillis());
+		}
+	}
+
+	/**
+	 * Assigns partition buckets to employees saved before the column existed.
+	 * Safe to run on several nodes at once: they write the same values.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void backfillPartitionBuckets() {
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		long total = 0;
+		int updated;
+		do {
+			updated = transactionTemplate.execute(status -> {
+				List<Employee> employees = employeeRepository.findByPartitionBucketIsNull(PageRequest.of(0, chunkSize));
+				employees.forEach(employee -> employee.setPartitionBucket(TaxRunPartition.bucketOf(employee.getEmployeeId())));
+				return employees.size();
+			});
+			total += updated;
+		} while (updated == chunkSize);
+		if (total > 0) {
+			log.info("Assigned partition buckets to {} existing employees", total);
+		}
+	}
+
+	private static String defaultNodeId() {
+		String host;
+		try {
+			host = InetAddress.getLocalHost().getHostName();
+		} catch (UnknownHostException ex) {
+			host = "node";
+		}
+		return host + "-" + ProcessHandle.current().pid();
+	}
+
+	record Lease(TaxRun run, TaxRunPartition partition) {
+	}
+
+}
@@ -0,0 +1,206 @@
+package com.employee.service;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.employee.entity.Employee;
+import com.employee.entity.EmployeeChange;
+import com.employee.entity.EmployeeChangeType;
+import com.employee.event.EmployeeSavedEvent;
+import com.employee.repository.EmployeeChangeRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Change feed of employee writes, so downstream consumers can ask for what
+ * changed since the last sequence number they saw instead of re-reading every
+ * employee. Every write path appends to the {@code employee_change} outbox in
+ * the transaction that writes the employees, so a change becomes visible exactly
+ * when the write commits. Consumers read in keyset batches on the sequence.
+ * <p>
+ * Sequence numbers are assigned on insert but become visible on commit, so a
+ * reader can see 12 while 11 is still in flight. A batch therefore ends before
+ * the first gap whose next row was recorded less than
+ * {@code employee.changes.gap-wait-ms} ago; an older gap is a rollback and is
+ * passed over. The database stamps {@code recorded_at} and the age is measured
+ * against the database's clock, so skew between nodes does not matter. This
+ * assumes every write commits within {@code gap-wait-ms} of inserting its
+ * changes: a transaction that commits later than that has its changes skipped
+ * by readers that have already moved past them. Write paths append their
+ * changes last, just before commit, to keep that window short.
+ * <p>
+ * A reader with nothing to read waits on a timer, not a thread. It is woken by
+ * {@link EmployeeSavedEvent} for writes on this node and re-reads every
+ * {@code employee.changes.poll-ms} for writes on other nodes.
+ */
+@Service
+public class EmployeeChangeFeedService {
+
+	static final String INSERT_SQL = "insert into employee_change (employee_id, change_type, payload) values (?, ?, ?)";
+
+	static final String NOW_SQL = "select localtimestamp(3)";
+
+	@Autowired
+	private EmployeeChangeRepository employeeChangeRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Value("${employee.changes.max-batch:1000}")
+	private int maxBatch = 1000;
+
+	@Value("${employee.changes.gap-wait-ms:5000}")
+	private long gapWaitMillis = 5000;
+
+	@Value("${employee.changes.poll-ms:1000}")
+	private long pollMillis = 1000;
+
+	private final AtomicLong writes = new AtomicLong();
+
+	private final Sinks.Many<Long> written = Sinks.many().multicast().directBestEffort();
+
+	/**
+	 * Appends one change per employee as a single JDBC batch. Must run in the
+	 * transaction that writes the employees.
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void record(List<Employee> employees, EmployeeChangeType changeType) {
+		if (employees.isEmpty()) {
+			return;
+		}
+		List<Object[]> rows = new ArrayList<>(employees.size());
+		for (Employee employee : employees) {
+			rows.add(new Object[] { employee.getEmployeeId(), changeType.name(), toJson(employee) });
+		}
+		jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+	}
+
+	/**
+	 * Up to {@code limit} changes after {@code after} in sequence order, stopping
+	 * before a gap that a transaction in flight may still fill, judged by the
+	 * database's clock.
+	 */
+	public List<EmployeeChange> readAfter(long after, int limit) {
+		List<EmployeeChange> changes = employeeChangeRepository.findBySeqGreaterThanOrderBySeqAsc(after,
+				PageRequest.of(0, Math.max(1, Math.min(limit, maxBatch))));
+		LocalDateTime settled = null;
+		long expected = after + 1;
+		for (int i = 0; i < changes.size(); i++) {
+			EmployeeChange change = changes.get(i);
+			if (change.getSeq() != expected) {
+				if (settled == null) {
+					// gaps are rare, so the database clock is only read when there is one
+					settled = jdbcTemplate.queryForObject(NOW_SQL, LocalDateTime.class).minus(gapWaitMillis, ChronoUnit.MILLIS);
+				}
+				if (change.getRecordedAt().isAfter(settled)) {
+					return changes.subList(0, i);
+				}
+			}
+			expected = change.getSeq() + 1;
+		}
+		return changes;
+	}
+
+	/**
+	 * The last sequence number recorded more than {@code gap-wait-ms} ago by the
+	 * database's clock, or 0 if there is none. Every change up to it has
+	 * committed or rolled back, so a reader that snapshots the employees after
+	 * taking it and then follows the feed from it misses no write.
+	 */
+	public long settledSeq() {
+		LocalDateTime settled = jdbcTemplate.queryForObject(NOW_SQL, LocalDateTime.class).minus(gapWaitMillis, ChronoUnit.MILLIS);
+		return employeeChangeRepository.findFirstByRecordedAtBeforeOrderBySeqDesc(settled).map(EmployeeChange::getSeq).orElse(0L);
+	}
+
+	/**
+	 * {@link #readAfter(long, int)}, waiting up to {@code maxWait} for a change
+	 * when there is nothing to read yet. Completes with an empty batch if none
+	 * arrives in time.
+	 */
+	public Mono<List<EmployeeChange>> poll(long after, int limit, Duration maxWait) {
+		return poll(after, limit, System.nanoTime() + maxWait.toNanos());
+	}
+
+	private Mono<List<EmployeeChange>> poll(long after, int limit, long deadline) {
+		return Mono.defer(() -> {
+			long seen = writes.get();
+			return Mono.fromCallable(() -> readAfter(after, limit))
+					.subscribeOn(Schedulers.boundedElastic())
+					.flatMap(changes -> {
+						long remaining = deadline - System.nanoTime();
+						if (!changes.isEmpty() || remaining <= 0) {
+							return Mono.just(changes);
+						}
+						return awaitWrite(seen, Math.min(remaining, TimeUnit.MILLISECONDS.toNanos(pollMillis)))
+								.then(poll(after, limit, deadline));
+					});
+		});
+	}
+
+	/**
+	 * Batches after {@code after} for as long as the subscriber stays, each
+	 * starting where the previous one ended. An empty batch means nothing was
+	 * written for {@code idle}.
+	 */
+	public Flux<List<EmployeeChange>> stream(long after, int limit, Duration idle) {
+		return Flux.defer(() -> {
+			AtomicLong cursor = new AtomicLong(after);
+			return Mono.defer(() -> poll(cursor.get(), limit, idle))
+					.repeat()
+					.doOnNext(changes -> {
+						if (!changes.isEmpty()) {
+							cursor.set(changes.get(changes.size() - 1).getSeq());
+						}
+					});
+		});
+	}
+
+	/**
+	 * Completes on the next local write, at once if one happened since
+	 * {@code seen}, or after {@code nanos}. The sink is subscribed before the
+	 * counter is checked, so no write is missed in between.
+	 */
+	private Mono<Void> awaitWrite(long seen, long nanos) {
+		return Mono.firstWithSignal(written.asFlux().next(),
+				Mono.defer(() -> writes.get() != seen ? Mono.just(seen) : Mono.delay(Duration.ofNanos(nanos))))
+				.then();
+	}
+
+	@EventListener
+	public void onEmployeeSaved(EmployeeSavedEvent event) {
+		// a failed emit means no one is waiting or another write is waking them
+		written.tryEmitNext(writes.incrementAndGet());
+	}
+
+	private String toJson(Employee employee) {
+		try {
+			return objectMapper.writeValueAsString(employee);
+		} catch (JsonProcessingException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+}
@@ -0,0 +1,324 @@
+package com.employee.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.employee.cache.EmployeeContactIndex;
+import com.employee.dto.ImportReport;
+import com.employee.entity.Employee;
+import com.employee.entity.EmployeeChangeType;
+import com.employee.event.EmployeeSavedEvent;
+import com.employee.repository.EmployeeRepository;
+import com.employee.validation.EmployeeValidator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Imports employees from an uploaded CSV file or JSON array. Rows are parsed and
+ * validated one at a time, then written in batches: one set-based query per
+ * batch finds ids that already exist, emails already held by another employee
+ * are rejected from {@link EmployeeContactIndex}, and the rest are persisted in
+ * a single transaction so Hibernate can send them as JDBC batches, together with
+ * their {@link EmployeeChangeFeedService change feed} entries.
+ */
+@Service
+public class EmployeeImportService {
+
+	static final String PHONE_SEPARATOR = ";";
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private EmployeeValidator employeeValidator;
+
+	@Autowired
+	private EmployeeContactIndex contactIndex;
+
+	@Autowired
+	private EmployeeChangeFeedService changeFeedService;
+
+	@Value("${employee.import.batch-size:500}")
+	private int batchSize = 500;
+
+	public ImportReport importEmployees(MultipartFile file) throws IOException {
+		long start = System.currentTimeMillis();
+		ImportBatch batch = new ImportBatch(new ImportReport());
+
+		try (InputStream in = file.getInputStream()) {
+			if (isCsv(file)) {
+				readCsv(in, batch);
+			} else {
+				readJson(in, batch);
+			}
+		}
+		batch.write();
+
+		batch.report.setElapsedMillis(System.currentTimeMillis() - start);
+		return batch.report;
+	}
+
+	/**
+	 * Same validation and batched writes as a file import, for a payload that has
+	 * already been bound to employees. Rows are numbered from 1 in list order.
+	 */
+	public ImportReport importEmployees(List<Employee> employees) {
+		long start = System.currentTimeMillis();
+		ImportBatch batch = new ImportBatch(new ImportReport());
+		long row = 0;
+		for (Employee employee : employees) {
+			row++;
+			if (employee == null) {
+				batch.reject(row, null, "Employee is mandatory");
+			} else {
+				batch.add(row, employee);
+			}
+		}
+		batch.write();
+
+		batch.report.setElapsedMillis(System.currentTimeMillis() - start);
+		return batch.report;
+	}
+
+	private boolean isCsv(MultipartFile file) {
+		String name = file.getOriginalFilename();
+		return "text/csv".equals(file.getContentType()) || (name != null && name.toLowerCase().endsWith(".csv"));
+	}
+
+	private void readCsv(InputStream in, ImportBatch batch) throws IOException {
+		BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+		String headerLine = reader.readLine();
+		if (headerLine == null) {
+			return;
+		}
+		Map<String, Integer> columns = new HashMap<>();
+		List<String> header = parseCsvLine(headerLine);
+		for (int i = 0; i < header.size(); i++) {
+			columns.put(header.get(i).trim(), i);
+		}
+
+		String line;
+		long row = 0;
+		while ((line = reader.readLine()) != null) {
+			if (line.isBlank()) {
+				continue;
+			}
+			row++;
+			List<String> fields = parseCsvLine(line);
+			Employee employee = new Employee();
+			try {
+				employee.setEmployeeId(field(fields, columns, "employeeId"));
+				employee.setFirstName(field(fields, columns, "firstName"));
+				employee.setLastName(field(fields, columns, "lastName"));
+				employee.setEmail(field(fields, columns, "email"));
+				String phones = field(fields, columns, "phoneNumbers");
+				employee.setPhoneNumbers(phones == null ? null
+						: Arrays.stream(phones.split(PHONE_SEPARATOR)).map(String::trim).collect(Collectors.toList()));
+				String doj = field(fields, columns, "doj");
+				employee.setDoj(doj == null ? null : LocalDate.parse(doj));
+				String salary = field(fields, columns, "salary");
+				employee.setSalary(salary == null ? null : Double.valueOf(salary));
+			} catch (DateTimeParseException | NumberFormatException ex) {
+				batch.reject(row, employee.getEmployeeId(), "Invalid value: " + ex.getMessage());
+				continue;
+			}
+			batch.add(row, employee);
+		}
+	}
+
+	private String field(List<String> fields, Map<String, Integer> columns, String name) {
+		Integer index = columns.get(name);
+		if (index == null || index >= fields.size()) {
+			return null;
+		}
+		String value = fields.get(index).trim();
+		return value.isEmpty() ? null : value;
+	}
+
+	static List<String> parseCsvLine(String line) {
+		List<String> fields = new ArrayList<>();
+		StringBuilder current = new StringBuilder();
+		boolean quoted = false;
+		for (int i = 0; i < line.length(); i++) {
+			char c = line.charAt(i);
+			if (quoted) {
+				if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+					current.append('"');
+					i++;
+				} else if (c == '"') {
+					quoted = false;
+				} else {
+					current.append(c);
+				}
+			} else if (c == '"') {
+				quoted = true;
+			} else if (c == ',') {
+				fields.add(current.toString());
+				current.setLength(0);
+			} else {
+				current.append(c);
+			}
+		}
+		fields.add(current.toString());
+		return fields;
+	}
+
+	private void readJson(InputStream in, ImportBatch batch) throws IOException {
+		try (JsonParser parser = objectMapper.getFactory().createParser(in)) {
+			if (parser.nextToken() != JsonToken.START_ARRAY) {
+				batch.reject(0, null, "Expected a JSON array of employees");
+				return;
+			}
+			long row = 0;
+			while (parser.nextToken() == JsonToken.START_OBJECT) {
+				row++;
+				// read the whole element first so a bad field does not leave the parser mid-object
+				JsonNode node = parser.readValueAsTree();
+				Employee employee;
+				try {
+					employee = objectMapper.treeToValue(node, Employee.class);
+				} catch (JsonProcessingException ex) {
+					JsonNode id = node.get("employeeId");
+					batch.reject(row, id == null ? null : id.asText(), "Invalid value: " + ex.getOriginalMessage());
+					continue;
+				}
+				batch.add(row, employee);
+			}
+		}
+	}
+
+	private final class ImportBatch {
+
+		private final ImportReport report;
+		private final List<Long> rows = new ArrayList<>();
+		private final List<Employee> employees = new ArrayList<>();
+		private final Set<String> ids = new HashSet<>();
+		private final LocalDate today = LocalDate.now();
+
+		ImportBatch(ImportReport report) {
+			this.report = report;
+		}
+
+		void reject(long row, String employeeId, String message) {
+			report.setTotalRows(report.getTotalRows() + 1);
+			report.addError(row, employeeId, Collections.singletonList(message));
+		}
+
+		void add(long row, Employee employee) {
+			List<String> violations = employeeValidator.validate(employee, today);
+			if (!violations.isEmpty()) {
+				report.setTotalRows(report.getTotalRows() + 1);
+				report.addError(row, employee.getEmployeeId(), violations);
+				return;
+			}
+			if (!ids.add(employee.getEmployeeId())) {
+				reject(row, employee.getEmployeeId(), "Employee ID already exists");
+				return;
+			}
+			report.setTotalRows(report.getTotalRows() + 1);
+			rows.add(row);
+			employees.add(employee);
+			if (employees.size() >= batchSize) {
+				write();
+			}
+		}
+
+		void write() {
+			if (employees.isEmpty()) {
+				return;
+			}
+			List<Employee> persisted = new ArrayList<>(employees.size());
+			Set<Long> duplicateRows = new HashSet<>();
+			Set<Long> duplicateEmailRows = new HashSet<>();
+			try {
+				new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+					Set<String> existing = employeeRepository.findExistingEmployeeIds(ids);
+					for (int i = 0; i < employees.size(); i++) {
+						Employee employee = employees.get(i);
+						if (existing.contains(employee.getEmployeeId())) {
+							duplicateRows.add(rows.get(i));
+						} else if (!contactIndex.reserveEmail(employee.getEmail(), employee.getEmployeeId())) {
+							duplicateEmailRows.add(rows.get(i));
+						} else {
+							entityManager.persist(employee);
+							persisted.add(employee);
+						}
+					}
+					entityManager.flush();
+					changeFeedService.record(persisted, EmployeeChangeType.CREATED);
+					entityManager.clear();
+				});
+			} catch (RuntimeException ex) {
+				persisted.forEach(employee -> contactIndex.release(employee.getEmail(), employee.getEmployeeId()));
+				for (int i = 0; i < employees.size(); i++) {
+					report.addError(rows.get(i), employees.get(i).getEmployeeId(),
+							Collections.singletonList("Batch failed: " + ex.getMessage()));
+				}
+				clear();
+				return;
+			}
+
+			for (int i = 0; i < employees.size(); i++) {
+				if (duplicateRows.contains(rows.get(i))) {
+					report.addError(rows.get(i), employees.get(i).getEmployeeId(),
+							Collections.singletonList("Employee ID already exists"));
+				} else if (duplicateEmailRows.contains(rows.get(i))) {
+					report.addError(rows.get(i), employees.get(i).getEmployeeId(),
+							Collections.singletonList("Email already exists"));
+				}
+			}
+			report.setImportedRows(report.getImportedRows() + persisted.size());
+			for (Employee employee : persisted) {
+				contactIndex.add(employee);
+				eventPublisher.publishEvent(new EmployeeSavedEvent(employee.getEmployeeId()));
+			}
+			clear();
+		}
+
+		private void clear() {
+			rows.clear();
+			employees.clear();
+			ids.clear();
+		}
+	}
+
+}
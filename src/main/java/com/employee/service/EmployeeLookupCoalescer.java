@@ -0,0 +1,123 @@
+package com.employee.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.employee.dto.EmployeeTaxView;
+import com.employee.repository.EmployeeRepository;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Merges single-employee lookups that arrive within a short window into one
+ * IN-list query. The first lookup of a window schedules the flush; concurrent
+ * lookups for the same id share one result. A window of zero disables
+ * coalescing and queries directly through the query-cached
+ * {@code findTaxViewById}; that is the default, since merged IN-list queries
+ * bypass the query cache and only pay off under many concurrent misses.
+ */
+@Component
+public class EmployeeLookupCoalescer {
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	private final long windowNanos;
+
+	private final int maxBatch;
+
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private Map<String, CompletableFuture<Optional<EmployeeTaxView>>> pending = new HashMap<>();
+
+	private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "employee-lookup-coalescer");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	public EmployeeLookupCoalescer(@Value("${tax.lookup.coalesce-window:0ms}") Duration window,
+			@Value("${tax.lookup.coalesce-max-batch:500}") int maxBatch) {
+		this.windowNanos = window.toNanos();
+		this.maxBatch = maxBatch;
+	}
+
+	public Optional<EmployeeTaxView> lookup(String employeeId) {
+		if (windowNanos <= 0) {
+			return employeeRepository.findTaxViewById(employeeId);
+		}
+
+		CompletableFuture<Optional<EmployeeTaxView>> result;
+		Map<String, CompletableFuture<Optional<EmployeeTaxView>>> full = null;
+		lock.lock();
+		try {
+			result = pending.get(employeeId);
+			if (result == null) {
+				result = new CompletableFuture<>();
+				pending.put(employeeId, result);
+				if (pending.size() == 1) {
+					flusher.schedule(this::flush, windowNanos, TimeUnit.NANOSECONDS);
+				} else if (pending.size() >= maxBatch) {
+					full = pending;
+					pending = new HashMap<>();
+				}
+			}
+		} finally {
+			lock.unlock();
+		}
+
+		if (full != null) {
+			execute(full);
+		}
+		return result.join();
+	}
+
+	private void flush() {
+		Map<String, CompletableFuture<Optional<EmployeeTaxView>>> batch;
+		lock.lock();
+		try {
+			batch = pending;
+			pending = new HashMap<>();
+		} finally {
+			lock.unlock();
+		}
+		execute(batch);
+	}
+
+	private void execute(Map<String, CompletableFuture<Optional<EmployeeTaxView>>> batch) {
+		if (batch.isEmpty()) {
+			return;
+		}
+		try {
+			List<EmployeeTaxView> found = employeeRepository.findTaxViewsByIds(new ArrayList<>(batch.keySet()));
+			for (EmployeeTaxView employee : found) {
+				CompletableFuture<Optional<EmployeeTaxView>> future = batch.get(employee.getEmployeeId());
+				if (future != null) {
+					future.complete(Optional.of(employee));
+				}
+			}
+			batch.values().forEach(future -> future.complete(Optional.empty()));
+		} catch (RuntimeException ex) {
+			batch.values().forEach(future -> future.completeExceptionally(ex));
+		}
+	}
+
+	@PreDestroy
+	void shutdown() {
+		flusher.shutdown();
+	}
+
+}
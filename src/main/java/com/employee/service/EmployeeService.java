@@ -2,15 +2,30 @@ package com.employee.service;
 
 import java.time.LocalDate;
 
-import java.time.temporal.ChronoUnit;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.employee.cache.EmployeeContactIndex;
+import com.employee.cache.EmployeeIdFilter;
+import com.employee.dto.EmployeeTaxView;
 import com.employee.entity.Employee;
+import com.employee.entity.EmployeeChangeType;
+import com.employee.event.EmployeeSavedEvent;
 import com.employee.exception.EmployeeNotFoundException;
 import com.employee.repository.EmployeeRepository;
+import com.employee.tax.FinancialYearCalendar;
+import com.employee.tax.Money;
+import com.employee.tax.TaxEngine;
+
+import io.micrometer.core.annotation.Timed;
 
 @Service
 public class EmployeeService {
@@ -18,59 +33,177 @@ public class EmployeeService {
 	@Autowired
     private EmployeeRepository employeeRepository;
 
+	@Autowired
+    private TaxEngine taxEngine;
+
+	@Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+	@Autowired
+    private EmployeeLookupCoalescer lookupCoalescer;
+
+	@Autowired
+    private EmployeeIdFilter employeeIdFilter;
+
+	@Autowired
+    private EmployeeWriteBehindService writeBehindService;
+
+	@Autowired
+    private EmployeeContactIndex contactIndex;
+
+	@Autowired
+    private EmployeeChangeFeedService changeFeedService;
+
+	@Autowired
+    private PlatformTransactionManager transactionManager;
+
+    /**
+     * Duplicate emails are rejected from {@link EmployeeContactIndex}; the unique
+     * constraint on {@code employee.email} is the backstop for a concurrent save
+     * of the same email elsewhere. The employee and its change feed entry are
+     * written in one transaction.
+     */
     public Employee saveEmployee(Employee employee) {
         if (employeeRepository.existsById(employee.getEmployeeId())) {
             throw new RuntimeException("Employee ID already exists");
         }
-        return employeeRepository.save(employee);
+        if (!contactIndex.reserveEmail(employee.getEmail(), employee.getEmployeeId())) {
+            throw new RuntimeException("Email already exists");
+        }
+        Employee saved;
+        try {
+            saved = new TransactionTemplate(transactionManager).execute(status -> {
+                Employee persisted = employeeRepository.save(employee);
+                changeFeedService.record(List.of(persisted), EmployeeChangeType.CREATED);
+                return persisted;
+            });
+        } catch (RuntimeException ex) {
+            contactIndex.release(employee.getEmail(), employee.getEmployeeId());
+            throw ex;
+        }
+        contactIndex.add(saved);
+        eventPublisher.publishEvent(new EmployeeSavedEvent(saved.getEmployeeId()));
+        return saved;
+    }
+
+    /** Employees holding the email (at most one), with their phone numbers loaded. */
+    public List<Employee> findByEmail(String email) {
+        return contactIndex.findByEmail(email)
+                .map(employeeId -> employeeRepository.findWithPhoneNumbersByEmployeeIdInOrderByEmployeeIdAsc(List.of(employeeId)))
+                .orElse(Collections.emptyList());
+    }
+
+    /** Employees sharing the phone number, with their phone numbers loaded. */
+    public List<Employee> findByPhoneNumber(String phoneNumber) {
+        List<String> employeeIds = contactIndex.findByPhoneNumber(phoneNumber);
+        if (employeeIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return employeeRepository.findWithPhoneNumbersByEmployeeIdInOrderByEmployeeIdAsc(employeeIds);
     }
 	
     public Map<String, Double> calculateTaxDeductions(Employee employee) {
-        double yearlySalary = calculateYearlySalary(employee);
-        double taxAmount = calculateTax(yearlySalary);
-        double cessAmount = calculateCess(yearlySalary);
+        long yearlySalary = calculateYearlySalaryPaise(employee);
+        long taxAmount = calculateTaxPaise(yearlySalary);
+        long cessAmount = calculateCessPaise(yearlySalary);
 
         Map<String, Double> taxDetails = new HashMap<>();
-        taxDetails.put("yearlySalary", yearlySalary);
-        taxDetails.put("taxAmount", taxAmount);
-        taxDetails.put("cessAmount", cessAmount);
+        taxDetails.put("yearlySalary", Money.toRupees(yearlySalary));
+        taxDetails.put("taxAmount", Money.toRupees(taxAmount));
+        taxDetails.put("cessAmount", Money.toRupees(cessAmount));
         return taxDetails;
     }
 
-    private double calculateYearlySalary(Employee employee) {
-        int monthsWorked = calculateMonthsWorked(employee.getDoj());
-        return employee.getSalary() * monthsWorked;
+    private long calculateYearlySalaryPaise(Employee employee) {
+        int monthsWorked = FinancialYearCalendar.monthsToFinancialYearEnd(FinancialYearCalendar.monthIndex(employee.getDoj()));
+        return Money.times(employee.getSalaryPaise(), monthsWorked);
     }
 
-    private int calculateMonthsWorked(LocalDate doj) {
-        LocalDate endOfFinancialYear = LocalDate.of(doj.getYear() + 1, 3, 31);
-        return (int) ChronoUnit.MONTHS.between(doj, endOfFinancialYear);
+    /**
+     * Salary earned from the start of the financial year (or the date of joining,
+     * if later) up to and including the month of {@code asOf}.
+     */
+    public double calculateYearToDateSalary(Employee employee, LocalDate asOf) {
+        return calculateYearToDateSalary(employee.getSalary(), employee.getDoj(), asOf);
     }
 
+    public double calculateYearToDateSalary(double monthlySalary, LocalDate doj, LocalDate asOf) {
+        return Money.toRupees(calculateYearToDateSalaryPaise(Money.ofRupees(monthlySalary), doj, asOf));
+    }
+
+    /** {@link #calculateYearToDateSalary(Employee, LocalDate)} in {@link Money} paise. */
+    public long calculateYearToDateSalaryPaise(long monthlySalary, LocalDate doj, LocalDate asOf) {
+        return Money.times(monthlySalary, FinancialYearCalendar.monthsWorked(doj, asOf));
+    }
+
+    @Timed(value = "employee.tax.calculate", histogram = true)
     public double calculateTax(double yearlySalary) {
-        double tax = 0;
-        if (yearlySalary > 1000000) {
-            tax += (yearlySalary - 1000000) * 0.20;
-            yearlySalary = 1000000;
-        }
-        if (yearlySalary > 500000) {
-            tax += (yearlySalary - 500000) * 0.10;
-            yearlySalary = 500000;
+        return taxEngine.tax(yearlySalary);
+    }
+
+    public double calculateCess(double yearlySalary) {
+        return taxEngine.cess(yearlySalary);
+    }
+
+    public long calculateTaxPaise(long yearlySalary) {
+        return taxEngine.taxPaise(yearlySalary);
+    }
+
+    public long calculateCessPaise(long yearlySalary) {
+        return taxEngine.cessPaise(yearlySalary);
+    }
+
+    /**
+     * Tax under the regime in force on {@code asOf}, for recalculations outside
+     * the current financial year.
+     */
+    public double calculateTax(double yearlySalary, LocalDate asOf) {
+        return taxEngine.regimeFor(asOf).tax(yearlySalary);
+    }
+
+    public double calculateCess(double yearlySalary, LocalDate asOf) {
+        return taxEngine.regimeFor(asOf).cess(yearlySalary);
+    }
+
+    public long calculateTaxPaise(long yearlySalary, LocalDate asOf) {
+        return taxEngine.regimeFor(asOf).taxPaise(yearlySalary);
+    }
+
+    public long calculateCessPaise(long yearlySalary, LocalDate asOf) {
+        return taxEngine.regimeFor(asOf).cessPaise(yearlySalary);
+    }
+
+    /**
+     * Phone-free projection for tax calculations. Empty if the employee does not exist.
+     */
+    public Optional<EmployeeTaxView> getTaxViewById(String employeeId) {
+        Optional<EmployeeTaxView> pending = getPendingTaxView(employeeId);
+        if (pending.isPresent()) {
+            return pending;
         }
-        if (yearlySalary > 250000) {
-            tax += (yearlySalary - 250000) * 0.05;
+        if (!employeeIdFilter.mightContain(employeeId)) {
+            return Optional.empty();
         }
-        return tax;
+        return lookupCoalescer.lookup(employeeId);
     }
 
-    double calculateCess(double yearlySalary) {
-        if (yearlySalary > 2500000) {
-            return (yearlySalary - 2500000) * 0.02;
-        }
-        return 0;
+    /**
+     * Tax view of an employee accepted in write-behind mode that has not been
+     * written to the database yet.
+     */
+    public Optional<EmployeeTaxView> getPendingTaxView(String employeeId) {
+        return writeBehindService.getPending(employeeId).map(employee -> new EmployeeTaxView(employee.getEmployeeId(),
+                employee.getFirstName(), employee.getLastName(), employee.getSalary(), employee.getDoj()));
     }
 
     public Optional<Employee> getEmployeeById(String employeeId) {
+        Optional<Employee> pending = writeBehindService.getPending(employeeId);
+        if (pending.isPresent()) {
+            return pending;
+        }
+        if (!employeeIdFilter.mightContain(employeeId)) {
+            throw new EmployeeNotFoundException(employeeId);
+        }
         return Optional.ofNullable(employeeRepository.findById(employeeId)
                 .orElseThrow(() -> new EmployeeNotFoundException(employeeId)));
     }
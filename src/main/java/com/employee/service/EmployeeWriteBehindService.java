@@ -0,0 +1,506 @@
+package com.employee.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.employee.cache.EmployeeContactIndex;
+import com.employee.dto.WriteBehindStatus;
+import com.employee.entity.Employee;
+import com.employee.entity.EmployeeChangeType;
+import com.employee.event.EmployeeSavedEvent;
+import com.employee.repository.EmployeeRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Optional write-behind mode for onboarding ({@code employee.write-behind.enabled}).
+ * An accepted employee is appended as one JSON line to a local queue file and
+ * acknowledged straight away; a background drain writes pending employees to
+ * the database in grouped transactions and records the last written sequence
+ * number in a checkpoint file. On startup every record after the checkpoint is
+ * replayed, so accepted employees survive a restart. A replayed record whose id
+ * is already in the database was committed before a crash that came ahead of
+ * its checkpoint; it is counted as written and its {@link EmployeeSavedEvent}
+ * is published then.
+ * <p>
+ * Until an employee has been written, reads are served from the pending
+ * buffer. Duplicate ids are rejected at accept time when the id is still
+ * pending, and otherwise reported through the tracking status once the drain
+ * finds the id in the database; an email already held by another employee is
+ * reported the same way.
+ */
+@Service
+public class EmployeeWriteBehindService {
+
+	private static final Logger log = LoggerFactory.getLogger(EmployeeWriteBehindService.class);
+
+	static final String QUEUE_FILE = "employees.queue";
+
+	static final String CHECKPOINT_FILE = "employees.checkpoint";
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private EmployeeContactIndex contactIndex;
+
+	@Autowired
+	private EmployeeChangeFeedService changeFeedService;
+
+	@Value("${employee.write-behind.enabled:false}")
+	private boolean enabled;
+
+	@Value("${employee.write-behind.dir:data/write-behind}")
+	private String directory = "data/write-behind";
+
+	@Value("${employee.write-behind.batch-size:500}")
+	private int batchSize = 500;
+
+	@Value("${employee.write-behind.fsync:true}")
+	private boolean fsync = true;
+
+	@Value("${employee.write-behind.compact-bytes:67108864}")
+	private long compactBytes = 64L * 1024 * 1024;
+
+	@Value("${employee.write-behind.max-statuses:100000}")
+	private int maxStatuses = 100000;
+
+	private final ReentrantLock appendLock = new ReentrantLock();
+
+	private final ReentrantLock drainLock = new ReentrantLock();
+
+	private final ConcurrentSkipListMap<Long, QueuedEmployee> pending = new ConcurrentSkipListMap<>();
+
+	private final Map<String, Employee> pendingById = new ConcurrentHashMap<>();
+
+	private final ReentrantLock statusLock = new ReentrantLock();
+
+	private Map<String, WriteBehindStatus> statuses;
+
+	private FileChannel queue;
+
+	private long nextSeq = 1;
+
+	/**
+	 * Highest sequence number read back from the queue file on startup. Those
+	 * records may have committed just before a crash that came ahead of their
+	 * checkpoint, so finding their id in the database with the same fields means
+	 * they were written; a different row under the id is a duplicate.
+	 */
+	private long replayedUpTo;
+
+	@PostConstruct
+	void open() throws IOException {
+		statuses = new LinkedHashMap<>(16, 0.75f, false) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, WriteBehindStatus> eldest) {
+				return size() > maxStatuses && eldest.getValue().getState() != WriteBehindStatus.State.PENDING;
+			}
+		};
+		if (!enabled) {
+			return;
+		}
+
+		Path dir = Paths.get(directory);
+		Files.createDirectories(dir);
+		long checkpoint = readCheckpoint(dir.resolve(CHECKPOINT_FILE));
+		Path queuePath = dir.resolve(QUEUE_FILE);
+		long validBytes = 0;
+		nextSeq = checkpoint + 1;
+		if (Files.exists(queuePath)) {
+			try (BufferedReader reader = Files.newBufferedReader(queuePath, StandardCharsets.UTF_8)) {
+				String line;
+				while ((line = reader.readLine()) != null) {
+					QueuedEmployee record;
+					try {
+						record = objectMapper.readValue(line, QueuedEmployee.class);
+					} catch (IOException ex) {
+						// a torn last line from a crash mid-append; everything before it is intact
+						log.warn("Ignoring unreadable write-behind record after {} bytes", validBytes);
+						break;
+					}
+					validBytes += line.getBytes(StandardCharsets.UTF_8).length + 1;
+					nextSeq = Math.max(nextSeq, record.getSeq() + 1);
+					if (record.getSeq() > checkpoint) {
+						enqueue(record);
+					}
+				}
+			}
+		}
+		replayedUpTo = nextSeq - 1;
+		queue = FileChannel.open(queuePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+		queue.truncate(validBytes);
+		queue.position(validBytes);
+		log.info("Write-behind queue open with {} pending employees", pending.size());
+	}
+
+	@PreDestroy
+	void close() throws IOException {
+		if (queue != null) {
+			drain();
+			queue.close();
+		}
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Appends the employee to the queue file and makes it readable from the
+	 * pending buffer. Empty if an employee with the same id is already pending.
+	 */
+	public Optional<WriteBehindStatus> accept(Employee employee) {
+		appendLock.lock();
+		try {
+			if (pendingById.containsKey(employee.getEmployeeId())) {
+				return Optional.empty();
+			}
+			QueuedEmployee record = new QueuedEmployee(nextSeq, UUID.randomUUID().toString(), employee);
+			byte[] line = (objectMapper.writeValueAsString(record) + "\n").getBytes(StandardCharsets.UTF_8);
+			ByteBuffer buffer = ByteBuffer.wrap(line);
+			while (buffer.hasRemaining()) {
+				queue.write(buffer);
+			}
+			if (fsync) {
+				queue.force(false);
+			}
+			nextSeq++;
+			return Optional.of(enqueue(record));
+		} catch (IOException ex) {
+			throw new UncheckedIOException("Could not append employee to the write-behind queue", ex);
+		} finally {
+			appendLock.unlock();
+		}
+	}
+
+	public Optional<Employee> getPending(String employeeId) {
+		return Optional.ofNullable(pendingById.get(employeeId));
+	}
+
+	public Optional<WriteBehindStatus> getStatus(String trackingId) {
+		statusLock.lock();
+		try {
+			return Optional.ofNullable(statuses.get(trackingId));
+		} finally {
+			statusLock.unlock();
+		}
+	}
+
+	public int pendingCount() {
+		return pending.size();
+	}
+
+	/**
+	 * Writes pending employees in queue order, {@code batch-size} per
+	 * transaction, until the queue is empty or the database is unreachable. A
+	 * batch that fails for any other reason is written again one employee per
+	 * transaction, so a row the database rejects is reported as failed and the
+	 * rest of the queue moves on. Employees left pending are retried on the next
+	 * run.
+	 */
+	@Scheduled(fixedDelayString = "${employee.write-behind.drain-interval-ms:200}")
+	public void drain() {
+		if (!enabled || !drainLock.tryLock()) {
+			return;
+		}
+		try {
+			while (!pending.isEmpty()) {
+				List<QueuedEmployee> batch = new ArrayList<>(batchSize);
+				for (QueuedEmployee record : pending.values()) {
+					batch.add(record);
+					if (batch.size() == batchSize) {
+						break;
+					}
+				}
+				if (!writeBatch(batch)) {
+					return;
+				}
+			}
+			compactIfIdle();
+		} catch (IOException ex) {
+			log.error("Write-behind queue compaction failed", ex);
+		} finally {
+			drainLock.unlock();
+		}
+	}
+
+	private boolean writeBatch(List<QueuedEmployee> batch) {
+		BatchResult result = new BatchResult();
+		try {
+			write(batch, result);
+		} catch (RuntimeException ex) {
+			result.release();
+			if (isTransient(ex) || batch.size() == 1) {
+				return writeRow(batch.get(0), ex);
+			}
+			log.warn("Write-behind batch of {} employees failed, writing them one at a time: {}", batch.size(),
+					ex.getMessage());
+			for (QueuedEmployee record : batch) {
+				if (!writeRow(record, null)) {
+					return false;
+				}
+			}
+			return true;
+		}
+		return finish(batch, result);
+	}
+
+	/**
+	 * Writes one employee in its own transaction, or takes the failure of a
+	 * single-row write that has already been attempted. The row is failed and
+	 * skipped unless the database could not be reached, in which case it stays
+	 * pending and the drain stops.
+	 */
+	private boolean writeRow(QueuedEmployee record, RuntimeException failure) {
+		BatchResult result = new BatchResult();
+		if (failure == null) {
+			try {
+				write(Collections.singletonList(record), result);
+				return finish(Collections.singletonList(record), result);
+			} catch (RuntimeException ex) {
+				result.release();
+				failure = ex;
+			}
+		}
+		if (isTransient(failure)) {
+			log.warn("Write-behind write failed, will retry: {}", failure.getMessage());
+			return false;
+		}
+		log.warn("Write-behind write of employee {} failed: {}", record.getEmployee().getEmployeeId(), failure.getMessage());
+		result.failed.put(record, "Write failed: " + failure.getMessage());
+		return finish(Collections.singletonList(record), result);
+	}
+
+	private void write(List<QueuedEmployee> batch, BatchResult result) {
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+			Set<String> existing = employeeRepository.findExistingEmployeeIds(batch.stream()
+					.map(record -> record.getEmployee().getEmployeeId()).collect(Collectors.toList()));
+			Map<String, Employee> stored = new HashMap<>();
+			List<String> replayedIds = batch.stream().filter(record -> record.getSeq() <= replayedUpTo)
+					.map(record -> record.getEmployee().getEmployeeId()).filter(existing::contains)
+					.collect(Collectors.toList());
+			if (!replayedIds.isEmpty()) {
+				employeeRepository.findAllById(replayedIds).forEach(employee -> stored.put(employee.getEmployeeId(), employee));
+			}
+			for (QueuedEmployee record : batch) {
+				Employee employee = record.getEmployee();
+				if (existing.contains(employee.getEmployeeId())) {
+					if (record.getSeq() <= replayedUpTo && isSameEmployee(stored.get(employee.getEmployeeId()), employee)) {
+						result.replayed.add(record);
+					} else {
+						result.failed.put(record, "Employee ID already exists");
+					}
+				} else if (!contactIndex.reserveEmail(employee.getEmail(), employee.getEmployeeId())) {
+					result.failed.put(record, "Email already exists");
+				} else {
+					result.written.add(record);
+					entityManager.persist(employee);
+				}
+			}
+			entityManager.flush();
+			changeFeedService.record(result.written.stream().map(QueuedEmployee::getEmployee).collect(Collectors.toList()),
+					EmployeeChangeType.CREATED);
+			entityManager.clear();
+		});
+	}
+
+	/**
+	 * Whether the stored row is the queued employee rather than another one
+	 * that took its id. Phone numbers are compared separately because
+	 * {@link Employee#equals(Object)} leaves them out.
+	 */
+	private static boolean isSameEmployee(Employee stored, Employee queued) {
+		return stored != null && stored.equals(queued) && Objects.equals(
+				stored.getPhoneNumbers() != null ? new ArrayList<>(stored.getPhoneNumbers()) : null, queued.getPhoneNumbers());
+	}
+
+	/**
+	 * Checkpoints a committed batch and settles its tracking statuses. The rows
+	 * are committed either way, so a failed checkpoint only stops the drain; the
+	 * batch is replayed after a restart and its ids are then counted as written.
+	 */
+	private boolean finish(List<QueuedEmployee> batch, BatchResult result) {
+		boolean checkpointed = true;
+		try {
+			writeCheckpoint(batch.get(batch.size() - 1).getSeq());
+		} catch (IOException ex) {
+			log.error("Write-behind checkpoint failed", ex);
+			checkpointed = false;
+		}
+		for (QueuedEmployee record : result.written) {
+			contactIndex.add(record.getEmployee());
+		}
+		for (QueuedEmployee record : result.replayed) {
+			contactIndex.add(record.getEmployee());
+		}
+		result.written.addAll(result.replayed);
+		for (QueuedEmployee record : result.written) {
+			complete(record, WriteBehindStatus.State.PERSISTED, null);
+			eventPublisher.publishEvent(new EmployeeSavedEvent(record.getEmployee().getEmployeeId()));
+		}
+		result.failed.forEach((record, message) -> complete(record, WriteBehindStatus.State.FAILED, message));
+		return checkpointed;
+	}
+
+	/**
+	 * Failures the next drain can expect to get past: the database or the
+	 * connection to it was unavailable, rather than a row being rejected.
+	 */
+	private static boolean isTransient(Throwable ex) {
+		for (Throwable cause = ex; cause != null; cause = cause.getCause() != cause ? cause.getCause() : null) {
+			if (cause instanceof TransientDataAccessException || cause instanceof DataAccessResourceFailureException
+					|| cause instanceof CannotCreateTransactionException || cause instanceof SQLTransientException
+					|| cause instanceof SQLRecoverableException) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private WriteBehindStatus enqueue(QueuedEmployee record) {
+		pending.put(record.getSeq(), record);
+		pendingById.put(record.getEmployee().getEmployeeId(), record.getEmployee());
+		WriteBehindStatus status = new WriteBehindStatus(record.getTrackingId(), record.getEmployee().getEmployeeId(),
+				WriteBehindStatus.State.PENDING, null);
+		statusLock.lock();
+		try {
+			statuses.put(record.getTrackingId(), status);
+		} finally {
+			statusLock.unlock();
+		}
+		return status;
+	}
+
+	private void complete(QueuedEmployee record, WriteBehindStatus.State state, String message) {
+		statusLock.lock();
+		try {
+			statuses.put(record.getTrackingId(), new WriteBehindStatus(record.getTrackingId(),
+					record.getEmployee().getEmployeeId(), state, message));
+		} finally {
+			statusLock.unlock();
+		}
+		pendingById.remove(record.getEmployee().getEmployeeId(), record.getEmployee());
+		pending.remove(record.getSeq());
+	}
+
+	/** Empties the queue file once everything in it has been written. */
+	private void compactIfIdle() throws IOException {
+		appendLock.lock();
+		try {
+			if (pending.isEmpty() && queue.size() >= compactBytes) {
+				queue.truncate(0);
+				queue.position(0);
+				queue.force(true);
+			}
+		} finally {
+			appendLock.unlock();
+		}
+	}
+
+	private long readCheckpoint(Path path) throws IOException {
+		return Files.exists(path) ? Long.parseLong(Files.readString(path).trim()) : 0;
+	}
+
+	private void writeCheckpoint(long seq) throws IOException {
+		Path dir = Paths.get(directory);
+		Path tmp = dir.resolve(CHECKPOINT_FILE + ".tmp");
+		try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+			channel.write(ByteBuffer.wrap(Long.toString(seq).getBytes(StandardCharsets.US_ASCII)));
+			if (fsync) {
+				channel.force(true);
+			}
+		}
+		Files.move(tmp, dir.resolve(CHECKPOINT_FILE), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	/** Outcome of one write transaction, settled once it has committed. */
+	private class BatchResult {
+
+		private final List<QueuedEmployee> written = new ArrayList<>();
+
+		private final List<QueuedEmployee> replayed = new ArrayList<>();
+
+		private final Map<QueuedEmployee, String> failed = new LinkedHashMap<>();
+
+		/** Gives back the emails reserved by a transaction that rolled back. */
+		void release() {
+			written.forEach(record -> contactIndex.release(record.getEmployee().getEmail(), record.getEmployee().getEmployeeId()));
+			written.clear();
+			replayed.clear();
+			failed.clear();
+		}
+
+	}
+
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	static class QueuedEmployee {
+
+		private long seq;
+
+		private String trackingId;
+
+		private Employee employee;
+
+	}
+
+}
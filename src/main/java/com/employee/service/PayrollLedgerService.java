@@ -0,0 +1,209 @@
+package com.employee.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.employee.dto.EmployeeTaxView;
+import com.employee.entity.PayrollLedgerEntry;
+import com.employee.repository.EmployeeRepository;
+import com.employee.repository.PayrollLedgerRepository;
+import com.employee.tax.Money;
+import com.employee.tax.TaxEngine;
+import com.employee.tax.TaxRegime;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Monthly payroll ledger with running year-to-date gross, tax and cess.
+ * <p>
+ * Closing a month walks the workforce in keyset chunks and derives each new row
+ * from the previous month's row, so the work per employee is constant instead
+ * of growing with months worked. Employees that already have a row for the
+ * month are skipped, which makes a close resumable and means a re-close only
+ * touches employees added since the last one. Employees are insert-only, so a
+ * closed row never goes stale.
+ */
+@Service
+public class PayrollLedgerService {
+
+	private static final Logger log = LoggerFactory.getLogger(PayrollLedgerService.class);
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Autowired
+	private PayrollLedgerRepository payrollLedgerRepository;
+
+	@Autowired
+	private EmployeeService employeeService;
+
+	@Autowired
+	private TaxEngine taxEngine;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Value("${tax.run.chunk-size:1000}")
+	private int chunkSize = 1000;
+
+	@Scheduled(cron = "${payroll.ledger.close-cron:0 5 0 1 * *}")
+	public void closeCurrentMonth() {
+		Map<String, Long> result = closeMonth(YearMonth.now());
+		log.info("Closed payroll month {}: {}", YearMonth.now(), result);
+	}
+
+	/**
+	 * Appends a ledger row for the month to every employee that has joined by the
+	 * end of it and does not have one yet.
+	 */
+	public Map<String, Long> closeMonth(YearMonth month) {
+		int payMonth = PayrollLedgerEntry.monthKey(month);
+		int previousPayMonth = PayrollLedgerEntry.monthKey(month.minusMonths(1));
+		LocalDate monthEnd = month.atEndOfMonth();
+		int financialYear = TaxEngine.financialYearOf(monthEnd);
+		TaxRegime regime = taxEngine.regimeFor(monthEnd);
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+		long appended = 0;
+		long skipped = 0;
+		String cursor = "";
+		List<EmployeeTaxView> chunk;
+		do {
+			chunk = employeeRepository.findTaxViewsAfter(cursor, PageRequest.of(0, chunkSize));
+			if (chunk.isEmpty()) {
+				break;
+			}
+			cursor = chunk.get(chunk.size() - 1).getEmployeeId();
+
+			List<String> ids = chunk.stream().map(EmployeeTaxView::getEmployeeId).collect(Collectors.toList());
+			Set<String> closed = payrollLedgerRepository.findClosedEmployeeIds(ids, payMonth);
+			Map<String, PayrollLedgerEntry> previous = new HashMap<>();
+			for (PayrollLedgerEntry entry : payrollLedgerRepository.findByEmployeeIdInAndPayMonth(ids, previousPayMonth)) {
+				previous.put(entry.getEmployeeId(), entry);
+			}
+
+			List<EmployeeTaxView> employees = chunk;
+			long chunkAppended = transactionTemplate.execute(status -> {
+				long count = 0;
+				for (EmployeeTaxView employee : employees) {
+					if (closed.contains(employee.getEmployeeId()) || employee.getDoj().isAfter(monthEnd)) {
+						continue;
+					}
+					entityManager.persist(nextEntry(employee, previous.get(employee.getEmployeeId()), payMonth,
+							financialYear, monthEnd, regime));
+					count++;
+				}
+				entityManager.flush();
+				entityManager.clear();
+				return count;
+			});
+			appended += chunkAppended;
+			skipped += chunk.size() - chunkAppended;
+		} while (chunk.size() == chunkSize);
+
+		Map<String, Long> result = new HashMap<>();
+		result.put("payMonth", (long) payMonth);
+		result.put("appended", appended);
+		result.put("skipped", skipped);
+		return result;
+	}
+
+	PayrollLedgerEntry nextEntry(EmployeeTaxView employee, PayrollLedgerEntry previous, int payMonth, int financialYear,
+			LocalDate monthEnd, TaxRegime regime) {
+		long ytdGross;
+		if (previous != null && previous.getFinancialYear() == financialYear) {
+			ytdGross = Money.plus(Money.ofRupees(previous.getYtdGross()), employee.getSalaryPaise());
+		} else if (previous != null || monthEnd.getMonthValue() == 4) {
+			// first month of a new financial year
+			ytdGross = employee.getSalaryPaise();
+		} else {
+			// no history for the previous month: bootstrap from salary x months worked
+			ytdGross = employeeService.calculateYearToDateSalaryPaise(employee.getSalaryPaise(), employee.getDoj(), monthEnd);
+		}
+
+		PayrollLedgerEntry entry = new PayrollLedgerEntry();
+		entry.setEmployeeId(employee.getEmployeeId());
+		entry.setPayMonth(payMonth);
+		entry.setFinancialYear(financialYear);
+		entry.setMonthlySalary(employee.getSalary());
+		entry.setYtdGross(Money.toRupees(ytdGross));
+		entry.setYtdTax(Money.toRupees(regime.taxPaise(ytdGross)));
+		entry.setYtdCess(Money.toRupees(regime.cessPaise(ytdGross)));
+		entry.setClosedAt(LocalDateTime.now());
+		return entry;
+	}
+
+	/**
+	 * Year-to-date totals as of the given date. Served straight from the ledger
+	 * row when the month is closed; when only the previous month is closed, the
+	 * current month's salary is added to it. Empty if neither exists.
+	 */
+	public Optional<PayrollLedgerEntry> getYearToDate(EmployeeTaxView employee, LocalDate asOf) {
+		YearMonth month = YearMonth.from(asOf);
+		int payMonth = PayrollLedgerEntry.monthKey(month);
+		int financialYear = TaxEngine.financialYearOf(asOf);
+
+		Optional<PayrollLedgerEntry> latest = payrollLedgerRepository
+				.findFirstByEmployeeIdAndFinancialYearAndPayMonthLessThanEqualOrderByPayMonthDesc(
+						employee.getEmployeeId(), financialYear, payMonth);
+		if (latest.isEmpty() || latest.get().getPayMonth() == payMonth) {
+			return latest;
+		}
+		if (latest.get().getPayMonth() != PayrollLedgerEntry.monthKey(month.minusMonths(1))) {
+			return Optional.empty();
+		}
+		return Optional.of(nextEntry(employee, latest.get(), payMonth, financialYear, asOf, taxEngine.regimeFor(asOf)));
+	}
+
+	/**
+	 * Batch form of {@link #getYearToDate(EmployeeTaxView, LocalDate)}: one query
+	 * for the current and previous month's rows of all the given employees.
+	 * Employees without usable ledger rows are absent from the result.
+	 */
+	public Map<String, PayrollLedgerEntry> getYearToDate(Collection<EmployeeTaxView> employees, LocalDate asOf) {
+		YearMonth month = YearMonth.from(asOf);
+		int payMonth = PayrollLedgerEntry.monthKey(month);
+		int previousPayMonth = PayrollLedgerEntry.monthKey(month.minusMonths(1));
+		int financialYear = TaxEngine.financialYearOf(asOf);
+
+		Map<String, EmployeeTaxView> byId = new HashMap<>();
+		employees.forEach(employee -> byId.put(employee.getEmployeeId(), employee));
+
+		Map<String, PayrollLedgerEntry> current = new HashMap<>();
+		Map<String, PayrollLedgerEntry> previous = new HashMap<>();
+		for (PayrollLedgerEntry entry : payrollLedgerRepository.findByEmployeeIdInAndPayMonthIn(byId.keySet(),
+				Arrays.asList(payMonth, previousPayMonth))) {
+			if (entry.getFinancialYear() == financialYear) {
+				(entry.getPayMonth() == payMonth ? current : previous).put(entry.getEmployeeId(), entry);
+			}
+		}
+
+		TaxRegime regime = taxEngine.regimeFor(asOf);
+		previous.forEach((employeeId, entry) -> current.computeIfAbsent(employeeId,
+				id -> nextEntry(byId.get(id), entry, payMonth, financialYear, asOf, regime)));
+		return current;
+	}
+
+}
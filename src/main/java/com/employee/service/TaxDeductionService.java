@@ -0,0 +1,124 @@
+package com.employee.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.employee.cache.EmployeeIdFilter;
+import com.employee.dto.EmployeeTaxInfo;
+import com.employee.dto.EmployeeTaxView;
+import com.employee.entity.PayrollLedgerEntry;
+import com.employee.repository.EmployeeRepository;
+import com.employee.tax.FinancialYearCalendar;
+import com.employee.tax.Money;
+
+/**
+ * Builds the tax deduction response for one or many employees. Year-to-date
+ * figures come from the payroll ledger when it covers the current month and are
+ * computed from salary and months worked otherwise.
+ */
+@Service
+public class TaxDeductionService {
+
+	public static final String NOT_FOUND_MESSAGE = "Employee not found";
+
+	@Autowired
+	private EmployeeService employeeService;
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Autowired
+	private PayrollLedgerService payrollLedgerService;
+
+	@Autowired
+	private EmployeeIdFilter employeeIdFilter;
+
+	@Autowired
+	private FinancialYearCalendar financialYearCalendar;
+
+	@Value("${tax.batch.chunk-size:500}")
+	private int chunkSize = 500;
+
+	public Optional<EmployeeTaxInfo> getTaxDeductions(String employeeId) {
+		return getTaxDeductions(employeeId, financialYearCalendar.today());
+	}
+
+	/**
+	 * Deductions for the financial year of {@code asOf}, year to date up to and
+	 * including its month.
+	 */
+	public Optional<EmployeeTaxInfo> getTaxDeductions(String employeeId, LocalDate asOf) {
+		return employeeService.getTaxViewById(employeeId)
+				.map(employee -> calculate(employee, payrollLedgerService.getYearToDate(employee, asOf).orElse(null), asOf));
+	}
+
+	public List<EmployeeTaxInfo> getTaxDeductions(List<String> employeeIds) {
+		return getTaxDeductions(employeeIds, financialYearCalendar.today());
+	}
+
+	/**
+	 * Resolves the ids with one IN-list query per chunk and returns one entry per
+	 * requested id, in request order. Unknown ids get an entry with only
+	 * {@code employeeId} and {@code error}.
+	 */
+	public List<EmployeeTaxInfo> getTaxDeductions(List<String> employeeIds, LocalDate asOf) {
+		Map<String, EmployeeTaxView> employees = new HashMap<>();
+		List<String> candidates = new ArrayList<>(employeeIds.size());
+		for (String employeeId : employeeIds) {
+			Optional<EmployeeTaxView> pending = employeeService.getPendingTaxView(employeeId);
+			if (pending.isPresent()) {
+				employees.put(employeeId, pending.get());
+			} else if (employeeIdFilter.mightContain(employeeId)) {
+				candidates.add(employeeId);
+			}
+		}
+
+		for (int from = 0; from < candidates.size(); from += chunkSize) {
+			List<String> chunk = candidates.subList(from, Math.min(from + chunkSize, candidates.size()));
+			employeeRepository.findTaxViewsByIds(chunk).forEach(employee -> employees.put(employee.getEmployeeId(), employee));
+		}
+		Map<String, PayrollLedgerEntry> ledger = payrollLedgerService.getYearToDate(employees.values(), asOf);
+
+		List<EmployeeTaxInfo> results = new ArrayList<>(employeeIds.size());
+		for (String employeeId : employeeIds) {
+			EmployeeTaxView employee = employees.get(employeeId);
+			results.add(employee != null ? calculate(employee, ledger.get(employeeId), asOf)
+					: EmployeeTaxInfo.notFound(employeeId, NOT_FOUND_MESSAGE));
+		}
+		return results;
+	}
+
+	EmployeeTaxInfo calculate(EmployeeTaxView employee, PayrollLedgerEntry ledger, LocalDate asOf) {
+		long yearlySalary;
+		long taxAmount;
+		long cessAmount;
+		if (ledger != null) {
+			yearlySalary = Money.ofRupees(ledger.getYtdGross());
+			taxAmount = Money.ofRupees(ledger.getYtdTax());
+			cessAmount = Money.ofRupees(ledger.getYtdCess());
+		} else {
+			int asOfMonth = FinancialYearCalendar.monthIndex(asOf);
+			yearlySalary = Money.times(employee.getSalaryPaise(),
+					FinancialYearCalendar.monthsWorked(FinancialYearCalendar.monthIndex(employee.getDoj()), asOfMonth));
+			if (FinancialYearCalendar.financialYearOfMonth(asOfMonth) == financialYearCalendar.currentFinancialYear()) {
+				taxAmount = employeeService.calculateTaxPaise(yearlySalary);
+				cessAmount = employeeService.calculateCessPaise(yearlySalary);
+			} else {
+				taxAmount = employeeService.calculateTaxPaise(yearlySalary, asOf);
+				cessAmount = employeeService.calculateCessPaise(yearlySalary, asOf);
+			}
+		}
+
+		return EmployeeTaxInfo.ofPaise(employee.getEmployeeId(), employee.getFirstName(), employee.getLastName(),
+				yearlySalary, taxAmount, cessAmount);
+	}
+
+}
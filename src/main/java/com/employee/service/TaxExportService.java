@@ -0,0 +1,131 @@
+package com.employee.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.employee.entity.Employee;
+import com.employee.json.EmployeeTaxInfoJsonWriter;
+import com.employee.repository.EmployeeRepository;
+import com.employee.tax.Money;
+import com.employee.tax.TaxEngine;
+import com.employee.tax.TaxRegime;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Writes tax deductions for every employee straight to an output stream, one row
+ * at a time, from a database cursor. Rows are detached as soon as they are
+ * written so memory stays flat regardless of workforce size.
+ */
+@Service
+public class TaxExportService {
+
+	public enum Format {
+		NDJSON,
+		CSV
+	}
+
+	static final String CSV_HEADER = "employeeId,firstName,lastName,yearlySalary,taxAmount,cessAmount";
+
+	private static final int FLUSH_EVERY_ROWS = 1000;
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Autowired
+	private EmployeeService employeeService;
+
+	@Autowired
+	private TaxEngine taxEngine;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Transactional(readOnly = true)
+	public void exportTaxDeductions(OutputStream out, Format format) throws IOException {
+		LocalDate asOf = LocalDate.now();
+		TaxRegime regime = taxEngine.regimeFor(asOf);
+		Writer writer = format == Format.CSV ? new OutputStreamWriter(out, StandardCharsets.UTF_8) : null;
+		EmployeeTaxInfoJsonWriter json = format == Format.NDJSON ? new EmployeeTaxInfoJsonWriter(64 * 1024) : null;
+
+		if (format == Format.CSV) {
+			writer.write(CSV_HEADER);
+			writer.write('\n');
+		}
+
+		try (Stream<Employee> employees = employeeRepository.streamAllOrderByEmployeeId()) {
+			Iterator<Employee> it = employees.iterator();
+			long rows = 0;
+			while (it.hasNext()) {
+				Employee employee = it.next();
+				long yearlyPaise = employeeService.calculateYearToDateSalaryPaise(employee.getSalaryPaise(), employee.getDoj(), asOf);
+				long taxPaise = regime.taxPaise(yearlyPaise);
+				long cessPaise = regime.cessPaise(yearlyPaise);
+
+				if (json != null) {
+					json.write(employee.getEmployeeId(), employee.getFirstName(), employee.getLastName(),
+							Money.toRupees(yearlyPaise), Money.toRupees(taxPaise), Money.toRupees(cessPaise)).append('\n');
+				} else {
+					writeCsv(writer, employee, yearlyPaise, taxPaise, cessPaise);
+				}
+				entityManager.detach(employee);
+
+				// flush the first row right away so the client starts receiving immediately
+				if (rows++ % FLUSH_EVERY_ROWS == 0) {
+					flush(json, writer, out);
+				}
+			}
+		}
+		flush(json, writer, out);
+	}
+
+	private void flush(EmployeeTaxInfoJsonWriter json, Writer writer, OutputStream out) throws IOException {
+		if (json != null) {
+			json.writeTo(out);
+			out.flush();
+		} else {
+			writer.flush();
+		}
+	}
+
+	/** Amounts as plain two-place rupees; {@code Double.toString} would switch to 1.2E7 from ten million. */
+	private void writeCsv(Writer writer, Employee employee, long yearlySalaryPaise, long taxPaise,
+			long cessPaise) throws IOException {
+		writeCsvField(writer, employee.getEmployeeId());
+		writer.write(',');
+		writeCsvField(writer, employee.getFirstName());
+		writer.write(',');
+		writeCsvField(writer, employee.getLastName());
+		writer.write(',');
+		writer.write(Money.format(yearlySalaryPaise));
+		writer.write(',');
+		writer.write(Money.format(taxPaise));
+		writer.write(',');
+		writer.write(Money.format(cessPaise));
+		writer.write('\n');
+	}
+
+	private void writeCsvField(Writer writer, String value) throws IOException {
+		if (value == null) {
+			return;
+		}
+		if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+			writer.write(value);
+			return;
+		}
+		writer.write('"');
+		writer.write(value.replace("\"", "\"\""));
+		writer.write('"');
+	}
+
+}
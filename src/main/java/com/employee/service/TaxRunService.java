@@ -0,0 +1,194 @@
+package com.employee.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import com.employee.entity.Employee;
+import com.employee.entity.TaxRun;
+import com.employee.entity.TaxRunStatus;
+import com.employee.repository.EmployeeRepository;
+import com.employee.repository.TaxRunRepository;
+import com.employee.tax.Money;
+import com.employee.tax.TaxEngine;
+import com.employee.tax.TaxRegime;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Computes slab tax and cess for the whole workforce in keyset-ordered chunks.
+ * Only one chunk is held in memory at a time; each chunk is fanned out over a
+ * fork-join pool and its totals are saved together with the cursor.
+ */
+@Service
+public class TaxRunService {
+
+	private static final Logger log = LoggerFactory.getLogger(TaxRunService.class);
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Autowired
+	private TaxRunRepository taxRunRepository;
+
+	@Autowired
+	private EmployeeService employeeService;
+
+	@Autowired
+	private TaxEngine taxEngine;
+
+	@Autowired
+	private DistributedTaxRunService distributedTaxRunService;
+
+	/** Runs on a virtual thread when spring.threads.virtual.enabled is set; the CPU-bound work stays on computePool. */
+	@Autowired
+	@Qualifier("applicationTaskExecutor")
+	private AsyncTaskExecutor taskExecutor;
+
+	@Value("${tax.run.chunk-size:1000}")
+	private int chunkSize = 1000;
+
+	private final ForkJoinPool computePool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+	private final Set<String> activeRuns = ConcurrentHashMap.newKeySet();
+
+	public TaxRun startRun(LocalDate asOf) {
+		TaxRun run = new TaxRun();
+		run.setRunId(UUID.randomUUID().toString());
+		run.setAsOf(asOf != null ? asOf : LocalDate.now());
+		run.setStartedAt(LocalDateTime.now());
+		run.setStatus(TaxRunStatus.RUNNING);
+		run.setUpdatedAt(run.getStartedAt());
+		taxRunRepository.save(run);
+
+		submit(run);
+		return run;
+	}
+
+	public Optional<TaxRun> resumeRun(String runId) {
+		Optional<TaxRun> runOpt = taxRunRepository.findById(runId);
+		// distributed runs resume on their own once their leases expire
+		runOpt.filter(run -> run.getStatus() != TaxRunStatus.COMPLETED && run.getPartitions() == 0)
+				.filter(run -> !activeRuns.contains(run.getRunId()))
+				.ifPresent(run -> {
+					run.setStatus(TaxRunStatus.RUNNING);
+					run.setFailureReason(null);
+					run.setUpdatedAt(LocalDateTime.now());
+					taxRunRepository.save(run);
+					submit(run);
+				});
+		return runOpt;
+	}
+
+	public Optional<TaxRun> getRun(String runId) {
+		return taxRunRepository.findById(runId)
+				.map(run -> run.getPartitions() > 0 ? distributedTaxRunService.withPartitionTotals(run) : run);
+	}
+
+	private void submit(TaxRun run) {
+		if (activeRuns.add(run.getRunId())) {
+			taskExecutor.execute(() -> execute(run));
+		}
+	}
+
+	void execute(TaxRun run) {
+		try {
+			TaxRegime regime = taxEngine.regimeFor(run.getAsOf());
+			List<Employee> chunk;
+			do {
+				long chunkStart = System.nanoTime();
+				String cursor = run.getLastEmployeeId() != null ? run.getLastEmployeeId() : "";
+				chunk = employeeRepository.findByEmployeeIdGreaterThanOrderByEmployeeIdAsc(cursor,
+						PageRequest.of(0, chunkSize));
+				if (chunk.isEmpty()) {
+					break;
+				}
+
+				List<Employee> employees = chunk;
+				ChunkTotals totals = computePool.submit(() -> employees.parallelStream()
+						.collect(() -> new ChunkTotals(regime, run.getAsOf()), ChunkTotals::add, ChunkTotals::combine))
+						.join();
+
+				run.setLastEmployeeId(chunk.get(chunk.size() - 1).getEmployeeId());
+				run.setChunksCompleted(run.getChunksCompleted() + 1);
+				run.setEmployeesProcessed(run.getEmployeesProcessed() + totals.count);
+				run.setTotalYearlySalary(addPaise(run.getTotalYearlySalary(), totals.yearlySalary));
+				run.setTotalTaxAmount(addPaise(run.getTotalTaxAmount(), totals.taxAmount));
+				run.setTotalCessAmount(addPaise(run.getTotalCessAmount(), totals.cessAmount));
+				run.setElapsedMillis(run.getElapsedMillis() + (System.nanoTime() - chunkStart) / 1_000_000);
+				run.setUpdatedAt(LocalDateTime.now());
+				taxRunRepository.save(run);
+			} while (chunk.size() == chunkSize);
+
+			run.setStatus(TaxRunStatus.COMPLETED);
+			run.setFinishedAt(LocalDateTime.now());
+		} catch (RuntimeException ex) {
+			log.error("Tax run {} failed after employee {}", run.getRunId(), run.getLastEmployeeId(), ex);
+			run.setStatus(TaxRunStatus.FAILED);
+			run.setFailureReason(ex.getMessage());
+		} finally {
+			run.setUpdatedAt(LocalDateTime.now());
+			taxRunRepository.save(run);
+			activeRuns.remove(run.getRunId());
+		}
+	}
+
+	@PreDestroy
+	void shutdown() {
+		computePool.shutdownNow();
+	}
+
+	/**
+	 * Adds paise to a stored rupee total. The stored value is always a whole
+	 * number of paise, so going through {@link Money} keeps run totals exact
+	 * across any number of chunks.
+	 */
+	static double addPaise(double rupees, long paise) {
+		return Money.toRupees(Money.plus(Money.ofRupees(rupees), paise));
+	}
+
+	private final class ChunkTotals {
+
+		private final TaxRegime regime;
+		private final LocalDate asOf;
+		private long count;
+		private long yearlySalary;
+		private long taxAmount;
+		private long cessAmount;
+
+		ChunkTotals(TaxRegime regime, LocalDate asOf) {
+			this.regime = regime;
+			this.asOf = asOf;
+		}
+
+		void add(Employee employee) {
+			long salary = employeeService.calculateYearToDateSalaryPaise(employee.getSalaryPaise(), employee.getDoj(), asOf);
+			count++;
+			yearlySalary = Money.plus(yearlySalary, salary);
+			taxAmount = Money.plus(taxAmount, regime.taxPaise(salary));
+			cessAmount = Money.plus(cessAmount, regime.cessPaise(salary));
+		}
+
+		void combine(ChunkTotals other) {
+			count += other.count;
+			yearlySalary = Money.plus(yearlySalary, other.yearlySalary);
+			taxAmount = Money.plus(taxAmount, other.taxAmount);
+			cessAmount = Money.plus(cessAmount, other.cessAmount);
+		}
+	}
+
+}
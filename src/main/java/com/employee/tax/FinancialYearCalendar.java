@@ -0,0 +1,108 @@
+package com.employee.tax;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Financial-year arithmetic on month indexes ({@code year * 12 + month - 1}),
+ * the single place months worked are defined. A financial year runs April to
+ * March and is named by the calendar year it starts in.
+ * <p>
+ * The static methods are pure integer arithmetic on values already held by the
+ * caller and do not allocate. The instance caches today's date and financial
+ * year and refreshes them only when the clock passes midnight, so callers
+ * without an as-of date get "today" without calling {@code LocalDate.now()}.
+ */
+@Component
+public class FinancialYearCalendar {
+
+	private static final int APRIL = 3;
+
+	private volatile Today today;
+
+	/** Months since year 0 of the month containing {@code date}. */
+	public static int monthIndex(LocalDate date) {
+		return date.getYear() * 12 + date.getMonthValue() - 1;
+	}
+
+	public static int financialYearOfMonth(int monthIndex) {
+		return Math.floorDiv(monthIndex - APRIL, 12);
+	}
+
+	/** Month index of April of the financial year. */
+	public static int startMonth(int financialYear) {
+		return financialYear * 12 + APRIL;
+	}
+
+	/** Month index of March that closes the financial year. */
+	public static int endMonth(int financialYear) {
+		return startMonth(financialYear) + 11;
+	}
+
+	/**
+	 * Months worked in the financial year of {@code asOfMonth}, from the later of
+	 * April and the joining month up to and including {@code asOfMonth}; zero if
+	 * the employee joins after it.
+	 */
+	public static int monthsWorked(int joinMonth, int asOfMonth) {
+		int from = Math.max(joinMonth, startMonth(financialYearOfMonth(asOfMonth)));
+		return Math.max(asOfMonth - from + 1, 0);
+	}
+
+	public static int monthsWorked(LocalDate doj, LocalDate asOf) {
+		return monthsWorked(monthIndex(doj), monthIndex(asOf));
+	}
+
+	/**
+	 * Months from the joining month to the end of the financial year it falls in,
+	 * inclusive: the full-year projection for a new joiner.
+	 */
+	public static int monthsToFinancialYearEnd(int joinMonth) {
+		return endMonth(financialYearOfMonth(joinMonth)) - joinMonth + 1;
+	}
+
+	/** Months employed in the given financial year, 0 to 12. */
+	public static int monthsInFinancialYear(int joinMonth, int financialYear) {
+		return monthsWorked(joinMonth, endMonth(financialYear));
+	}
+
+	public LocalDate today() {
+		return current().date;
+	}
+
+	public int currentMonth() {
+		return current().month;
+	}
+
+	public int currentFinancialYear() {
+		return current().financialYear;
+	}
+
+	private Today current() {
+		Today current = today;
+		if (current == null || System.currentTimeMillis() >= current.untilMillis) {
+			LocalDate date = LocalDate.now();
+			current = new Today(date, date.plusDays(1).atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli());
+			today = current;
+		}
+		return current;
+	}
+
+	private static final class Today {
+
+		final LocalDate date;
+		final int month;
+		final int financialYear;
+		final long untilMillis;
+
+		Today(LocalDate date, long untilMillis) {
+			this.date = date;
+			this.month = monthIndex(date);
+			this.financialYear = financialYearOfMonth(month);
+			this.untilMillis = untilMillis;
+		}
+	}
+
+}
@@ -0,0 +1,92 @@
+package com.employee.tax;
+
+/**
+ * Fixed-point money as a primitive {@code long} count of paise, the
+ * representation used for all tax arithmetic. Amounts stay {@code long} from
+ * the salary read off the entity to the response, so sums are exact however
+ * many rows go into them and nothing is boxed on the way; rupee
+ * {@code double}s exist only at the edges (JSON, the database column, the
+ * columnar analytics snapshot).
+ * <p>
+ * Rates are held in parts per million, so a product with an amount is exact
+ * and is rounded once, half away from zero, to the paisa. {@link #roundToTenRupees(long)}
+ * is the rounding the Income-tax Act applies to total income (section 288A)
+ * and to tax payable (section 288B): to the nearest multiple of ten rupees, a
+ * remainder of five rupees or more rounding up.
+ * <p>
+ * Overflow throws {@link ArithmeticException} rather than wrapping.
+ */
+public final class Money {
+
+	public static final long PAISE_PER_RUPEE = 100;
+
+	public static final long RATE_SCALE = 1_000_000;
+
+	/** Largest rupee amount accepted by {@link #ofRupees(double)}: about 90 trillion. */
+	static final double MAX_RUPEES = (double) (Long.MAX_VALUE / PAISE_PER_RUPEE / 1024);
+
+	private Money() {
+	}
+
+	/**
+	 * Nearest paisa to a rupee amount, half away from zero.
+	 *
+	 * @throws IllegalArgumentException if the amount is not finite or too large
+	 */
+	public static long ofRupees(double rupees) {
+		if (!(Math.abs(rupees) <= MAX_RUPEES)) {
+			throw new IllegalArgumentException("Amount out of range: " + rupees);
+		}
+		double scaled = rupees * PAISE_PER_RUPEE;
+		return (long) (scaled < 0 ? scaled - 0.5 : scaled + 0.5);
+	}
+
+	/** The double nearest to the amount; exact for every amount below 2^53 paise. */
+	public static double toRupees(long paise) {
+		return paise / (double) PAISE_PER_RUPEE;
+	}
+
+	/** A rate such as {@code 0.05} in parts per million. */
+	public static long ratePpm(double rate) {
+		return Math.round(rate * RATE_SCALE);
+	}
+
+	/** {@code paise * ratePpm} in paise-ppm, exact. */
+	public static long scaledProduct(long paise, long ratePpm) {
+		return Math.multiplyExact(paise, ratePpm);
+	}
+
+	/** A paise-ppm amount rounded half away from zero to the paisa. */
+	public static long roundScaled(long scaled) {
+		long half = RATE_SCALE / 2;
+		return scaled < 0 ? -((-scaled + half) / RATE_SCALE) : (scaled + half) / RATE_SCALE;
+	}
+
+	/** {@code paise * rate}, rounded half away from zero to the paisa. */
+	public static long applyRate(long paise, long ratePpm) {
+		return roundScaled(scaledProduct(paise, ratePpm));
+	}
+
+	public static long times(long paise, long factor) {
+		return Math.multiplyExact(paise, factor);
+	}
+
+	public static long plus(long paise, long other) {
+		return Math.addExact(paise, other);
+	}
+
+	/** Nearest multiple of ten rupees, five rupees or more rounding up (sections 288A and 288B). */
+	public static long roundToTenRupees(long paise) {
+		long unit = 10 * PAISE_PER_RUPEE;
+		long half = unit / 2;
+		return paise < 0 ? -((-paise + half) / unit * unit) : (paise + half) / unit * unit;
+	}
+
+	/** Plain decimal rupees with two places, e.g. {@code -1234.50}. */
+	public static String format(long paise) {
+		long abs = Math.abs(paise);
+		long fraction = abs % PAISE_PER_RUPEE;
+		return (paise < 0 ? "-" : "") + abs / PAISE_PER_RUPEE + (fraction < 10 ? ".0" : ".") + fraction;
+	}
+
+}
@@ -0,0 +1,143 @@
+package com.employee.tax;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Single entry point for slab tax and cess. Regimes are compiled once at startup;
+ * each name keeps its versions sorted by financial year and a lookup picks the
+ * latest version that is not newer than the requested year.
+ */
+@Component
+public class TaxEngine {
+
+	@Autowired
+	private FinancialYearCalendar financialYearCalendar = new FinancialYearCalendar();
+
+	private final Map<String, TaxRegime[]> regimesByName = new HashMap<>();
+
+	private final String defaultRegime;
+
+	private final List<TaxRegime> allRegimes = new ArrayList<>();
+
+	private final int memoCapacity;
+
+	public TaxEngine(TaxRegimeProperties properties) {
+		this.memoCapacity = properties.getMemoCapacity();
+		Map<String, List<TaxRegime>> compiled = new HashMap<>();
+		for (TaxRegimeProperties.Regime regime : properties.getRegimes()) {
+			TaxRegime compiledRegime = compile(regime, memoCapacity);
+			compiled.computeIfAbsent(regime.getName(), name -> new ArrayList<>()).add(compiledRegime);
+			allRegimes.add(compiledRegime);
+		}
+		compiled.forEach((name, versions) -> {
+			versions.sort(Comparator.comparingInt(TaxRegime::getFinancialYear));
+			regimesByName.put(name, versions.toArray(new TaxRegime[0]));
+		});
+
+		if (!regimesByName.containsKey(properties.getDefaultRegime())) {
+			throw new IllegalStateException("Default tax regime '" + properties.getDefaultRegime() + "' is not configured");
+		}
+		this.defaultRegime = properties.getDefaultRegime();
+	}
+
+	public static TaxRegime compile(TaxRegimeProperties.Regime regime) {
+		return compile(regime, TaxRegime.DEFAULT_MEMO_CAPACITY);
+	}
+
+	public static TaxRegime compile(TaxRegimeProperties.Regime regime, int memoCapacity) {
+		double[] from = new double[regime.getSlabs().size()];
+		double[] rates = new double[from.length];
+		for (int i = 0; i < from.length; i++) {
+			from[i] = regime.getSlabs().get(i).getFrom();
+			rates[i] = regime.getSlabs().get(i).getRate();
+		}
+		return TaxRegime.compile(regime.getName(), regime.getFinancialYear(), from, rates, regime.getCessThreshold(),
+				regime.getCessRate(), regime.isStatutoryRounding(), memoCapacity);
+	}
+
+	/** Salaries memoised per compiled regime, {@code tax.memo-capacity}. */
+	public int getMemoCapacity() {
+		return memoCapacity;
+	}
+
+	public static int financialYearOf(LocalDate date) {
+		return FinancialYearCalendar.financialYearOfMonth(FinancialYearCalendar.monthIndex(date));
+	}
+
+	/**
+	 * Version of the named regime in force for the given financial year, or the
+	 * earliest version if the year predates all of them.
+	 */
+	public TaxRegime regime(String name, int financialYear) {
+		TaxRegime[] versions = regimesByName.get(name);
+		if (versions == null) {
+			throw new IllegalArgumentException("Unknown tax regime '" + name + "'");
+		}
+		int i = versions.length - 1;
+		while (i > 0 && versions[i].getFinancialYear() > financialYear) {
+			i--;
+		}
+		return versions[i];
+	}
+
+	public TaxRegime regimeFor(LocalDate date) {
+		return regime(defaultRegime, financialYearOf(date));
+	}
+
+	/**
+	 * Default regime for today's financial year, taken from the calendar's cached
+	 * date so the hot path does not allocate.
+	 */
+	public TaxRegime currentRegime() {
+		return regime(defaultRegime, financialYearCalendar.currentFinancialYear());
+	}
+
+	public double tax(double yearlySalary) {
+		return currentRegime().tax(yearlySalary);
+	}
+
+	public double cess(double yearlySalary) {
+		return currentRegime().cess(yearlySalary);
+	}
+
+	public long taxPaise(long yearlyIncome) {
+		return currentRegime().taxPaise(yearlyIncome);
+	}
+
+	public long cessPaise(long yearlyIncome) {
+		return currentRegime().cessPaise(yearlyIncome);
+	}
+
+	/** Memo hits summed over the configured regimes. */
+	public long getMemoHits() {
+		long hits = 0;
+		for (TaxRegime regime : allRegimes) {
+			hits += regime.getMemoHits();
+		}
+		return hits;
+	}
+
+	public long getMemoMisses() {
+		long misses = 0;
+		for (TaxRegime regime : allRegimes) {
+			misses += regime.getMemoMisses();
+		}
+		return misses;
+	}
+
+	/** Share of memoised lookups answered from the memo, 0 before the first one. */
+	public double getMemoHitRatio() {
+		long hits = getMemoHits();
+		long lookups = hits + getMemoMisses();
+		return lookups == 0 ? 0 : (double) hits / lookups;
+	}
+
+}
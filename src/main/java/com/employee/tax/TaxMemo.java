@@ -0,0 +1,97 @@
+package com.employee.tax;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded memo of slab tax keyed by yearly income in paise, so the many
+ * employees on the same pay grade share one evaluation per regime. Open
+ * addressing over a power-of-two table: a key is looked for in {@link #PROBES}
+ * consecutive slots from its home slot, stored in the first empty one, and
+ * otherwise overwrites one of them, so the table never grows and keeps the
+ * salaries that keep coming back.
+ * <p>
+ * Lock-free: slots hold immutable entries published with a single reference
+ * write, so a reader sees either a whole entry or none, and a lost race only
+ * costs a recomputation. Keys and values stay primitive; the only allocation
+ * is the entry on a miss.
+ */
+final class TaxMemo {
+
+	static final int PROBES = 4;
+
+	private final AtomicReferenceArray<Entry> slots;
+
+	private final int mask;
+
+	private final LongAdder hits = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	/** @param capacity maximum number of salaries kept, rounded up to a power of two */
+	TaxMemo(int capacity) {
+		int size = Integer.highestOneBit(Math.max(capacity, PROBES) - 1) << 1;
+		this.slots = new AtomicReferenceArray<>(size);
+		this.mask = size - 1;
+	}
+
+	long taxPaise(long paise, TaxRegime regime) {
+		int home = home(paise);
+		for (int p = 0; p < PROBES; p++) {
+			Entry entry = slots.get((home + p) & mask);
+			if (entry == null) {
+				break;
+			}
+			if (entry.paise == paise) {
+				hits.increment();
+				return entry.tax;
+			}
+		}
+
+		misses.increment();
+		long tax = regime.computeTaxPaise(paise);
+		Entry entry = new Entry(paise, tax);
+		for (int p = 0; p < PROBES; p++) {
+			if (slots.compareAndSet((home + p) & mask, null, entry)) {
+				return tax;
+			}
+		}
+		slots.lazySet((home + (int) (paise >>> 20 & (PROBES - 1))) & mask, entry);
+		return tax;
+	}
+
+	long getHits() {
+		return hits.sum();
+	}
+
+	long getMisses() {
+		return misses.sum();
+	}
+
+	int capacity() {
+		return slots.length();
+	}
+
+	/** MurmurHash3 finaliser, so neighbouring pay grades spread across the table. */
+	private int home(long paise) {
+		long h = paise;
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		h *= 0xc4ceb9fe1a85ec53L;
+		h ^= h >>> 33;
+		return (int) h & mask;
+	}
+
+	private static final class Entry {
+
+		final long paise;
+		final long tax;
+
+		Entry(long paise, long tax) {
+			this.paise = paise;
+			this.tax = tax;
+		}
+	}
+
+}
@@ -0,0 +1,195 @@
+package com.employee.tax;
+
+import java.util.Arrays;
+
+/**
+ * A tax regime compiled into primitive arrays of {@link Money} paise.
+ * {@code thresholds[i]} is the lower bound of slab {@code i}, {@code rates[i]}
+ * its marginal rate in parts per million and {@code baseTax[i]} the tax already
+ * due on income up to that bound, kept unrounded in paise-ppm. An evaluation is
+ * a single binary search plus one multiply-add in {@code long}, rounded once to
+ * the paisa, with no allocation.
+ * <p>
+ * With statutory rounding, income is rounded to the nearest ten rupees before
+ * the slabs are applied and tax and cess are each rounded to the nearest ten
+ * rupees afterwards, as sections 288A and 288B require.
+ * <p>
+ * Slab tax is also memoised per regime in a bounded {@link TaxMemo} keyed by
+ * income in paise, so repeated pay grades skip the search. Cess is a single
+ * subtract and multiply and is always computed.
+ * <p>
+ * The {@code double} methods take and return rupees and go through the same
+ * {@code long} arithmetic; they are for the analytics paths, which work on
+ * rupee columns.
+ */
+public final class TaxRegime {
+
+	/**
+	 * Salaries memoised per regime unless the caller says otherwise: none. For
+	 * a regime of a few slabs the binary search is cheaper than a memo probe,
+	 * even on a small set of pay grades, so the memo is opted into with
+	 * {@code tax.memo-capacity}.
+	 */
+	public static final int DEFAULT_MEMO_CAPACITY = 0;
+
+	private final String name;
+	private final int financialYear;
+	private final long[] thresholds;
+	private final long[] rates;
+	private final long[] baseTax;
+	private final double[] thresholdRupees;
+	private final long cessThreshold;
+	private final long cessRate;
+	private final boolean statutoryRounding;
+	private final TaxMemo memo;
+
+	private TaxRegime(String name, int financialYear, long[] thresholds, long[] rates, long[] baseTax,
+			long cessThreshold, long cessRate, boolean statutoryRounding, int memoCapacity) {
+		this.name = name;
+		this.financialYear = financialYear;
+		this.thresholds = thresholds;
+		this.rates = rates;
+		this.baseTax = baseTax;
+		this.cessThreshold = cessThreshold;
+		this.cessRate = cessRate;
+		this.statutoryRounding = statutoryRounding;
+		this.memo = memoCapacity > 0 ? new TaxMemo(memoCapacity) : null;
+		this.thresholdRupees = new double[thresholds.length];
+		for (int i = 0; i < thresholds.length; i++) {
+			thresholdRupees[i] = Money.toRupees(thresholds[i]);
+		}
+	}
+
+	public static TaxRegime compile(String name, int financialYear, double[] slabFrom, double[] slabRates,
+			double cessThreshold, double cessRate) {
+		return compile(name, financialYear, slabFrom, slabRates, cessThreshold, cessRate, DEFAULT_MEMO_CAPACITY);
+	}
+
+	public static TaxRegime compile(String name, int financialYear, double[] slabFrom, double[] slabRates,
+			double cessThreshold, double cessRate, int memoCapacity) {
+		return compile(name, financialYear, slabFrom, slabRates, cessThreshold, cessRate, false, memoCapacity);
+	}
+
+	/**
+	 * @param slabFrom ascending lower bounds of the taxable slabs in rupees;
+	 *                 income below the first bound is not taxed
+	 * @param slabRates marginal rate of each slab, e.g. {@code 0.05}
+	 * @param statutoryRounding round income, tax and cess to the nearest ten rupees
+	 * @param memoCapacity salaries to memoise, 0 for none
+	 */
+	public static TaxRegime compile(String name, int financialYear, double[] slabFrom, double[] slabRates,
+			double cessThreshold, double cessRate, boolean statutoryRounding, int memoCapacity) {
+		if (slabFrom.length != slabRates.length) {
+			throw new IllegalArgumentException("Regime " + name + " has " + slabFrom.length + " slab bounds but "
+					+ slabRates.length + " rates");
+		}
+
+		int n = slabFrom.length + 1;
+		long[] thresholds = new long[n];
+		long[] rates = new long[n];
+		long[] baseTax = new long[n];
+		for (int i = 1; i < n; i++) {
+			if (slabFrom[i - 1] < 0 || slabRates[i - 1] < 0) {
+				throw new IllegalArgumentException("Regime " + name + " slabs must be ascending and non-negative");
+			}
+			thresholds[i] = Money.ofRupees(slabFrom[i - 1]);
+			rates[i] = Money.ratePpm(slabRates[i - 1]);
+			if (i > 1 && thresholds[i] <= thresholds[i - 1]) {
+				throw new IllegalArgumentException("Regime " + name + " slabs must be ascending and non-negative");
+			}
+			baseTax[i] = Money.plus(baseTax[i - 1], Money.scaledProduct(thresholds[i] - thresholds[i - 1], rates[i - 1]));
+		}
+		return new TaxRegime(name, financialYear, thresholds, rates, baseTax, Money.ofRupees(cessThreshold),
+				Money.ratePpm(cessRate), statutoryRounding, memoCapacity);
+	}
+
+	/** Slab tax in paise on a yearly income in paise. */
+	public long taxPaise(long yearlyIncome) {
+		return memo != null ? memo.taxPaise(yearlyIncome, this) : computeTaxPaise(yearlyIncome);
+	}
+
+	long computeTaxPaise(long yearlyIncome) {
+		long income = statutoryRounding ? Money.roundToTenRupees(yearlyIncome) : yearlyIncome;
+		int i = slabOfPaise(income);
+		long tax = Money.roundScaled(Money.plus(baseTax[i], Money.scaledProduct(income - thresholds[i], rates[i])));
+		return statutoryRounding ? Money.roundToTenRupees(tax) : tax;
+	}
+
+	/** Cess in paise on a yearly income in paise. */
+	public long cessPaise(long yearlyIncome) {
+		long income = statutoryRounding ? Money.roundToTenRupees(yearlyIncome) : yearlyIncome;
+		long cess = Money.applyRate(Math.max(income - cessThreshold, 0), cessRate);
+		return statutoryRounding ? Money.roundToTenRupees(cess) : cess;
+	}
+
+	public double tax(double yearlySalary) {
+		return Money.toRupees(taxPaise(Money.ofRupees(yearlySalary)));
+	}
+
+	public double cess(double yearlySalary) {
+		return Money.toRupees(cessPaise(Money.ofRupees(yearlySalary)));
+	}
+
+	/**
+	 * Index of the slab the salary's top rupee falls in. Slab 0 is the untaxed
+	 * band below the first configured bound.
+	 */
+	public int slabOf(double yearlySalary) {
+		int i = Arrays.binarySearch(thresholdRupees, yearlySalary);
+		return Math.max(i >= 0 ? i : -i - 2, 0);
+	}
+
+	private int slabOfPaise(long yearlyIncome) {
+		int i = Arrays.binarySearch(thresholds, yearlyIncome);
+		return Math.max(i >= 0 ? i : -i - 2, 0);
+	}
+
+	public int slabCount() {
+		return thresholds.length;
+	}
+
+	public double slabFrom(int slab) {
+		return thresholdRupees[slab];
+	}
+
+	public double slabRate(int slab) {
+		return (double) rates[slab] / Money.RATE_SCALE;
+	}
+
+	/**
+	 * Tax on the full width of a slab, as paid by everyone whose salary goes past
+	 * it. Not defined for the top slab, which is open-ended.
+	 */
+	public double fullSlabTax(int slab) {
+		return Money.toRupees(Money.roundScaled(baseTax[slab + 1] - baseTax[slab]));
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public int getFinancialYear() {
+		return financialYear;
+	}
+
+	public boolean isStatutoryRounding() {
+		return statutoryRounding;
+	}
+
+	public long getMemoHits() {
+		return memo != null ? memo.getHits() : 0;
+	}
+
+	public long getMemoMisses() {
+		return memo != null ? memo.getMisses() : 0;
+	}
+
+	@Override
+	public String toString() {
+		return "TaxRegime [name=" + name + ", financialYear=" + financialYear + ", thresholds="
+				+ Arrays.toString(thresholdRupees) + ", ratesPpm=" + Arrays.toString(rates) + ", cessThreshold="
+				+ Money.format(cessThreshold) + ", cessRatePpm=" + cessRate + ", statutoryRounding=" + statutoryRounding
+				+ "]";
+	}
+
+}
@@ -0,0 +1,71 @@
+package com.employee.tax;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Slab and cess configuration per regime and financial year, bound from
+ * {@code tax.*}. The financial year is the calendar year in which it starts
+ * (2024 means April 2024 to March 2025).
+ */
+@Component
+@ConfigurationProperties(prefix = "tax")
+@Data
+public class TaxRegimeProperties {
+
+	private String defaultRegime = "old";
+
+	/** Salaries memoised per compiled regime ({@code tax.memo-capacity}); 0 disables the memo. */
+	private int memoCapacity = TaxRegime.DEFAULT_MEMO_CAPACITY;
+
+	private List<Regime> regimes = new ArrayList<>(List.of(oldRegime()));
+
+	private static Regime oldRegime() {
+		Regime regime = new Regime();
+		regime.setName("old");
+		regime.setFinancialYear(2000);
+		regime.getSlabs().add(new Slab(250000, 0.05));
+		regime.getSlabs().add(new Slab(500000, 0.10));
+		regime.getSlabs().add(new Slab(1000000, 0.20));
+		regime.setCessThreshold(2500000);
+		regime.setCessRate(0.02);
+		return regime;
+	}
+
+	@Data
+	public static class Regime {
+
+		private String name;
+
+		private int financialYear;
+
+		private List<Slab> slabs = new ArrayList<>();
+
+		private double cessThreshold;
+
+		private double cessRate;
+
+		/** Round income, tax and cess to the nearest ten rupees (sections 288A and 288B). */
+		private boolean statutoryRounding;
+
+	}
+
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class Slab {
+
+		private double from;
+
+		private double rate;
+
+	}
+
+}
@@ -0,0 +1,203 @@
+package com.employee.validation;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.employee.entity.Employee;
+
+/**
+ * Hand-written checks for everything the {@link Employee} constraint
+ * annotations express, used on the write paths instead of Bean Validation. Each
+ * check is a single pass over the chars with no regex and no metadata lookup,
+ * and a valid employee is accepted without allocating: the empty result is the
+ * shared immutable list.
+ * <p>
+ * Employee ids are {@code employee.id.prefix} followed by between
+ * {@code employee.id.min-digits} and {@code employee.id.max-digits} ASCII
+ * digits (default {@code E} and 3 to 9, so existing {@code E123} ids stay
+ * valid). The id format is configurable, so it is checked only here and has no
+ * annotation. Other messages match the annotation messages.
+ */
+@Component
+public class EmployeeValidator {
+
+	private final String idPrefix;
+
+	private final int idMinDigits;
+
+	private final int idMaxDigits;
+
+	private final String idMessage;
+
+	public EmployeeValidator(@Value("${employee.id.prefix:E}") String idPrefix,
+			@Value("${employee.id.min-digits:3}") int idMinDigits,
+			@Value("${employee.id.max-digits:9}") int idMaxDigits) {
+		if (idMinDigits < 1 || idMaxDigits < idMinDigits) {
+			throw new IllegalArgumentException("employee.id digits must satisfy 1 <= min-digits <= max-digits");
+		}
+		this.idPrefix = idPrefix;
+		this.idMinDigits = idMinDigits;
+		this.idMaxDigits = idMaxDigits;
+		this.idMessage = "Employee ID must be '" + idPrefix + "' followed by " + idMinDigits
+				+ (idMinDigits == idMaxDigits ? "" : " to " + idMaxDigits) + " digits";
+	}
+
+	public List<String> validate(Employee employee) {
+		return validate(employee, LocalDate.now());
+	}
+
+	/**
+	 * Messages for every violated constraint, in field order; empty if the
+	 * employee is valid.
+	 *
+	 * @param today upper bound for the date of joining, passed in so batch callers
+	 *              resolve it once
+	 */
+	public List<String> validate(Employee employee, LocalDate today) {
+		List<String> errors = Collections.emptyList();
+
+		String employeeId = employee.getEmployeeId();
+		if (employeeId == null) {
+			errors = add(errors, "Employee ID is mandatory");
+		} else if (!isValidEmployeeId(employeeId)) {
+			errors = add(errors, idMessage);
+		}
+		if (isBlank(employee.getFirstName())) {
+			errors = add(errors, "First name is mandatory");
+		}
+		if (isBlank(employee.getLastName())) {
+			errors = add(errors, "Last name is mandatory");
+		}
+		String email = employee.getEmail();
+		if (isBlank(email)) {
+			errors = add(errors, "Email is mandatory");
+		} else if (!isValidEmail(email)) {
+			errors = add(errors, "Email should be valid");
+		}
+		List<String> phoneNumbers = employee.getPhoneNumbers();
+		if (phoneNumbers == null || phoneNumbers.isEmpty()) {
+			errors = add(errors, "Phone number list cannot be empty");
+		} else {
+			for (int i = 0; i < phoneNumbers.size(); i++) {
+				if (!isValidPhoneNumber(phoneNumbers.get(i))) {
+					errors = add(errors, "Phone number should be a valid 10-digit number");
+					break;
+				}
+			}
+		}
+		if (employee.getDoj() == null) {
+			errors = add(errors, "Date of joining is mandatory");
+		} else if (employee.getDoj().isAfter(today)) {
+			errors = add(errors, "Date of joining cannot be in the future");
+		}
+		Double salary = employee.getSalary();
+		if (salary == null) {
+			errors = add(errors, "Salary is mandatory");
+		} else if (!(salary > 0)) {
+			errors = add(errors, "Salary must be a positive number");
+		}
+		return errors;
+	}
+
+	public boolean isValidEmployeeId(String employeeId) {
+		if (!employeeId.startsWith(idPrefix)) {
+			return false;
+		}
+		int digits = employeeId.length() - idPrefix.length();
+		return digits >= idMinDigits && digits <= idMaxDigits && allDigits(employeeId, idPrefix.length());
+	}
+
+	public static boolean isValidPhoneNumber(String phoneNumber) {
+		return phoneNumber != null && phoneNumber.length() == 10 && allDigits(phoneNumber, 0);
+	}
+
+	/**
+	 * {@code local@domain} where the local part is dot-separated runs of RFC 5322
+	 * atext and the domain is dot-separated labels of letters, digits and inner
+	 * hyphens. Like Hibernate's {@code @Email}, a domain without a dot is allowed.
+	 */
+	public static boolean isValidEmail(String email) {
+		int at = email.indexOf('@');
+		if (at <= 0 || at == email.length() - 1 || email.indexOf('@', at + 1) >= 0 || at > 64) {
+			return false;
+		}
+
+		char previous = '.';
+		for (int i = 0; i < at; i++) {
+			char c = email.charAt(i);
+			if (c == '.') {
+				if (previous == '.') {
+					return false;
+				}
+			} else if (!isAtext(c)) {
+				return false;
+			}
+			previous = c;
+		}
+		if (previous == '.') {
+			return false;
+		}
+
+		int labelLength = 0;
+		previous = '.';
+		for (int i = at + 1; i < email.length(); i++) {
+			char c = email.charAt(i);
+			if (c == '.') {
+				if (labelLength == 0 || previous == '-') {
+					return false;
+				}
+				labelLength = 0;
+			} else if (c == '-') {
+				if (labelLength == 0) {
+					return false;
+				}
+				labelLength++;
+			} else if (isAsciiLetterOrDigit(c)) {
+				labelLength++;
+			} else {
+				return false;
+			}
+			if (labelLength > 63) {
+				return false;
+			}
+			previous = c;
+		}
+		return labelLength > 0 && previous != '-';
+	}
+
+	private static boolean allDigits(String value, int from) {
+		for (int i = from; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c < '0' || c > '9') {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isAsciiLetterOrDigit(char c) {
+		return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+	}
+
+	private static boolean isAtext(char c) {
+		return isAsciiLetterOrDigit(c) || "!#$%&'*+/=?^_`{|}~-".indexOf(c) >= 0;
+	}
+
+	private static boolean isBlank(String value) {
+		return value == null || value.isBlank();
+	}
+
+	private static List<String> add(List<String> errors, String message) {
+		if (errors.isEmpty()) {
+			errors = new ArrayList<>(4);
+		}
+		errors.add(message);
+		return errors;
+	}
+
+}
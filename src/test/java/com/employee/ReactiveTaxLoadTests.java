@@ -0,0 +1,172 @@
+package com.employee;
+
+import com.employee.perf.PerfDataGenerator;
+import com.employee.repository.EmployeeRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares the blocking single-id endpoint with the reactive list endpoint for
+ * the portal use case: each simulated page needs tax figures for
+ * {@value #PAGE_SIZE} employees, with {@value #CONNECTIONS} pages in flight.
+ * Both must answer every page and the reactive figures must match the blocking
+ * ones; throughput and p99 page latency of each are published as report
+ * entries, not asserted. Run with {@code -DloadTests=true}; the employees are
+ * seeded by the {@code perf} profile into its in-memory database and deleted
+ * afterwards.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"tax.cache.max-entries=0", "server.tomcat.max-connections=20000", "perf.seed.employees=1000"})
+@ActiveProfiles("perf")
+@EnabledIfSystemProperty(named = "loadTests", matches = "true")
+class ReactiveTaxLoadTests {
+
+    private static final int EMPLOYEES = 1000;
+
+    private static final int PAGE_SIZE = 100;
+
+    private static final int CONNECTIONS = 10_000;
+
+    private static final int PAGES = 50_000;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @AfterEach
+    void deleteEmployees() {
+        List<String> ids = new ArrayList<>(EMPLOYEES);
+        for (int i = 0; i < EMPLOYEES; i++) {
+            ids.add(employeeId(i));
+        }
+        employeeRepository.deleteAllById(ids);
+    }
+
+    @Test
+    void reactiveVersusBlocking(TestReporter reporter) throws Exception {
+        for (int page = 0; page < EMPLOYEES / PAGE_SIZE; page++) {
+            assertEquals(blockingFigures(page), reactiveFigures(page), "page " + page);
+        }
+
+        long[] blocking = run(this::blockingPage);
+        long[] reactive = run(this::reactivePage);
+
+        reporter.publishEntry(Map.of(
+                "blocking.pagesPerSecond", Long.toString(blocking[0]),
+                "blocking.p99Millis", Long.toString(blocking[1]),
+                "reactive.pagesPerSecond", Long.toString(reactive[0]),
+                "reactive.p99Millis", Long.toString(reactive[1])));
+    }
+
+    private static String employeeId(int i) {
+        return PerfDataGenerator.employeeId(i + 1);
+    }
+
+    private List<String> pageIds(int page) {
+        List<String> ids = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            ids.add(employeeId((page * PAGE_SIZE + i) % EMPLOYEES));
+        }
+        return ids;
+    }
+
+    private List<JsonNode> blockingFigures(int page) throws Exception {
+        List<JsonNode> figures = new ArrayList<>(PAGE_SIZE);
+        for (String id : pageIds(page)) {
+            HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create("http://localhost:" + port
+                    + "/api/employees/" + id + "/tax-deductions")).build(), HttpResponse.BodyHandlers.ofString());
+            assertEquals(200, response.statusCode(), id);
+            figures.add(objectMapper.readTree(response.body()));
+        }
+        return figures;
+    }
+
+    private List<JsonNode> reactiveFigures(int page) throws Exception {
+        HttpResponse<String> response = client.send(reactiveRequest(page), HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, response.statusCode());
+        List<JsonNode> figures = new ArrayList<>(PAGE_SIZE);
+        for (String line : response.body().split("\n")) {
+            figures.add(objectMapper.readTree(line));
+        }
+        return figures;
+    }
+
+    private HttpRequest reactiveRequest(int page) {
+        String body = "[\"" + String.join("\",\"", pageIds(page)) + "\"]";
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/reactive/employees/tax-deductions"))
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/x-ndjson")
+                .POST(HttpRequest.BodyPublishers.ofString(body)).build();
+    }
+
+    private CompletableFuture<Boolean> blockingPage(int page) {
+        CompletableFuture<?>[] calls = pageIds(page).stream()
+                .map(id -> client.sendAsync(HttpRequest.newBuilder(URI.create("http://localhost:" + port
+                        + "/api/employees/" + id + "/tax-deductions")).build(), HttpResponse.BodyHandlers.discarding()))
+                .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(calls).thenApply(done -> Arrays.stream(calls)
+                .allMatch(call -> ((HttpResponse<?>) call.join()).statusCode() == 200));
+    }
+
+    private CompletableFuture<Boolean> reactivePage(int page) {
+        return client.sendAsync(reactiveRequest(page), HttpResponse.BodyHandlers.ofLines())
+                .thenApply(response -> response.statusCode() == 200 && response.body().count() == PAGE_SIZE);
+    }
+
+    /** Returns pages per second and p99 page latency in milliseconds. */
+    private long[] run(Function<Integer, CompletableFuture<Boolean>> page) throws Exception {
+        Semaphore inFlight = new Semaphore(CONNECTIONS);
+        AtomicInteger failures = new AtomicInteger();
+        long[] latencies = new long[PAGES];
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[PAGES];
+
+        long start = System.nanoTime();
+        for (int i = 0; i < PAGES; i++) {
+            inFlight.acquire();
+            int request = i;
+            long pageStart = System.nanoTime();
+            futures[i] = page.apply(i).whenComplete((ok, error) -> {
+                latencies[request] = (System.nanoTime() - pageStart) / 1_000_000;
+                if (error != null || !ok) {
+                    failures.incrementAndGet();
+                }
+                inFlight.release();
+            });
+        }
+        CompletableFuture.allOf(futures).join();
+        long elapsedMillis = Math.max((System.nanoTime() - start) / 1_000_000, 1);
+
+        assertEquals(0, failures.get());
+        Arrays.sort(latencies);
+        return new long[] {PAGES * 1000L / elapsedMillis, latencies[(int) (PAGES * 0.99)]};
+    }
+}
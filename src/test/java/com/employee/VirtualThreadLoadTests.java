@@ -0,0 +1,106 @@
+package com.employee;
+
+import com.employee.perf.PerfDataGenerator;
+import com.employee.repository.EmployeeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Drives the tax endpoint at a concurrency below and well above Tomcat's default
+ * 200 request threads with virtual threads enabled. The cache is disabled so
+ * every request blocks on JDBC. Every request must succeed; median and p99
+ * latency at each concurrency are published as report entries, not asserted.
+ * Run with {@code -DloadTests=true} on Java 21+; the employees are seeded by
+ * the {@code perf} profile into its in-memory database and deleted afterwards.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"spring.threads.virtual.enabled=true", "tax.cache.max-entries=0", "perf.seed.employees=100"})
+@ActiveProfiles("perf")
+@EnabledForJreRange(min = JRE.JAVA_21)
+@EnabledIfSystemProperty(named = "loadTests", matches = "true")
+class VirtualThreadLoadTests {
+
+    private static final int EMPLOYEES = 100;
+
+    private static final int REQUESTS = 20_000;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @AfterEach
+    void deleteEmployees() {
+        List<String> ids = new ArrayList<>(EMPLOYEES);
+        for (int i = 0; i < EMPLOYEES; i++) {
+            ids.add(PerfDataGenerator.employeeId(i + 1));
+        }
+        employeeRepository.deleteAllById(ids);
+    }
+
+    @Test
+    void concurrencyScalesPastPlatformThreadPool(TestReporter reporter) throws Exception {
+        run(100, REQUESTS / 10); // warm-up
+        long[] baseline = run(100, REQUESTS);
+        long[] scaled = run(1000, REQUESTS);
+
+        reporter.publishEntry(Map.of(
+                "inFlight100.p50Micros", Long.toString(baseline[0]),
+                "inFlight100.p99Micros", Long.toString(baseline[1]),
+                "inFlight1000.p50Micros", Long.toString(scaled[0]),
+                "inFlight1000.p99Micros", Long.toString(scaled[1])));
+    }
+
+    private long[] run(int concurrency, int requests) throws Exception {
+        Semaphore inFlight = new Semaphore(concurrency);
+        AtomicInteger failures = new AtomicInteger();
+        long[] latencies = new long[requests];
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[requests];
+
+        for (int i = 0; i < requests; i++) {
+            inFlight.acquire();
+            int request = i;
+            long start = System.nanoTime();
+            HttpRequest httpRequest = HttpRequest.newBuilder(URI.create("http://localhost:" + port
+                    + "/api/employees/" + PerfDataGenerator.employeeId(i % EMPLOYEES + 1) + "/tax-deductions")).build();
+            futures[i] = client.sendAsync(httpRequest, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        latencies[request] = (System.nanoTime() - start) / 1000;
+                        if (error != null || response.statusCode() != 200) {
+                            failures.incrementAndGet();
+                        }
+                        inFlight.release();
+                    });
+        }
+        CompletableFuture.allOf(futures).join();
+
+        assertEquals(0, failures.get());
+        Arrays.sort(latencies);
+        return new long[] {latencies[requests / 2], latencies[(int) (requests * 0.99)]};
+    }
+}
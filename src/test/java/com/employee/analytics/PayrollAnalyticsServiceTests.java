@@ -0,0 +1,97 @@
+package com.employee.analytics;
+
+import com.employee.tax.TaxEngine;
+import com.employee.tax.TaxRegimeProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class PayrollAnalyticsServiceTests {
+
+    @Mock
+    private PayrollSnapshot payrollSnapshot;
+
+    @Spy
+    private TaxEngine taxEngine = new TaxEngine(new TaxRegimeProperties());
+
+    @InjectMocks
+    private PayrollAnalyticsService payrollAnalyticsService;
+
+    private final LocalDate asOf = LocalDate.of(2024, 6, 15);
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        double[] salary = {50000, 100000, 400000, 100000, 100000};
+        int[] joinMonth = {
+            PayrollSnapshot.monthIndex(LocalDate.of(2020, 1, 1)),
+            PayrollSnapshot.monthIndex(LocalDate.of(2020, 1, 1)),
+            PayrollSnapshot.monthIndex(LocalDate.of(2020, 1, 1)),
+            PayrollSnapshot.monthIndex(LocalDate.of(2024, 5, 10)),
+            PayrollSnapshot.monthIndex(LocalDate.of(2024, 7, 1))
+        };
+        when(payrollSnapshot.columns()).thenReturn(new PayrollSnapshot.Columns(salary, joinMonth, 5, 0));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testTaxBySlab_MatchesPerEmployeeTax() {
+        Map<String, Object> result = payrollAnalyticsService.taxBySlab(asOf, null);
+
+        // 150000, 300000, 1200000 and 200000 year to date; the July joiner is not counted
+        assertEquals(4L, result.get("employees"));
+        assertEquals(1850000.0, result.get("yearlySalary"));
+        assertEquals(2500.0 + 102500.0, (double) result.get("taxAmount"), 0.001);
+
+        List<Map<String, Object>> slabs = (List<Map<String, Object>>) result.get("slabs");
+        assertEquals(4, slabs.size());
+        assertEquals(4L, slabs.get(0).get("employees"));
+        assertEquals(2L, slabs.get(1).get("employees"));
+        assertEquals(15000.0, (double) slabs.get(1).get("taxAmount"), 0.001);
+        assertEquals(50000.0, (double) slabs.get(2).get("taxAmount"), 0.001);
+        assertEquals(40000.0, (double) slabs.get(3).get("taxAmount"), 0.001);
+        assertNull(slabs.get(3).get("to"));
+    }
+
+    @Test
+    public void testCessLiability() {
+        when(payrollSnapshot.columns()).thenReturn(new PayrollSnapshot.Columns(new double[] {1000000, 50000},
+                new int[] {PayrollSnapshot.monthIndex(LocalDate.of(2020, 1, 1)), PayrollSnapshot.monthIndex(LocalDate.of(2020, 1, 1))}, 2, 0));
+
+        Map<String, Object> result = payrollAnalyticsService.cessLiability(asOf, null);
+
+        // 3000000 year to date, 2% above 2500000
+        assertEquals(1L, result.get("employeesLiable"));
+        assertEquals(10000.0, (double) result.get("cessAmount"), 0.001);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSalaryHistogramByJoiningMonth() {
+        Map<String, Object> result = payrollAnalyticsService.salaryHistogramByJoiningMonth(100000, 3);
+
+        Map<String, Object> months = (Map<String, Object>) result.get("months");
+        assertEquals(3, months.size());
+        Map<String, Object> january = (Map<String, Object>) months.get("2020-01");
+        assertEquals(3L, january.get("employees"));
+        assertArrayEquals(new long[] {1, 1, 1}, (long[]) january.get("histogram"));
+        assertTrue(months.containsKey("2024-05"));
+        assertTrue(months.containsKey("2024-07"));
+    }
+
+    @Test
+    public void testUnknownRegime() {
+        assertThrows(IllegalArgumentException.class, () -> payrollAnalyticsService.taxBySlab(asOf, "flat"));
+    }
+}
@@ -0,0 +1,68 @@
+package com.employee.analytics;
+
+import com.employee.dto.EmployeeTaxView;
+import com.employee.event.EmployeeSavedEvent;
+import com.employee.repository.EmployeeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class PayrollSnapshotTests {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @InjectMocks
+    private PayrollSnapshot payrollSnapshot;
+
+    private EmployeeTaxView view(String employeeId, double salary) {
+        return new EmployeeTaxView(employeeId, "John", "Doe", salary, LocalDate.of(2020, 1, 1));
+    }
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(employeeRepository.findTaxViewsAfter(eq(""), any()))
+                .thenReturn(Arrays.asList(view("E001", 50000), view("E002", 60000)));
+    }
+
+    @Test
+    public void testRebuild_LoadsAllEmployees() {
+        payrollSnapshot.rebuild();
+
+        assertEquals(2, payrollSnapshot.columns().size());
+        assertEquals(60000, payrollSnapshot.columns().salary[1]);
+    }
+
+    @Test
+    public void testRefresh_AppendsNewEmployeesOnce() {
+        payrollSnapshot.rebuild();
+        PayrollSnapshot.Columns before = payrollSnapshot.columns();
+        when(employeeRepository.findTaxViewsByIds(anyCollection()))
+                .thenReturn(Collections.singletonList(view("E003", 70000)));
+
+        // E002 was already picked up by the build
+        payrollSnapshot.onEmployeeSaved(new EmployeeSavedEvent("E002"));
+        payrollSnapshot.onEmployeeSaved(new EmployeeSavedEvent("E003"));
+        payrollSnapshot.refresh();
+
+        assertEquals(3, payrollSnapshot.columns().size());
+        assertEquals(70000, payrollSnapshot.columns().salary[2]);
+        assertEquals(2, before.size());
+        verify(employeeRepository).findTaxViewsByIds(Collections.singleton("E003"));
+
+        payrollSnapshot.onEmployeeSaved(new EmployeeSavedEvent("E003"));
+        payrollSnapshot.refresh();
+        assertEquals(3, payrollSnapshot.columns().size());
+    }
+}
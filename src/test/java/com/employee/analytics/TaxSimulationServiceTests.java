@@ -0,0 +1,118 @@
+package com.employee.analytics;
+
+import com.employee.tax.TaxEngine;
+import com.employee.tax.TaxRegime;
+import com.employee.tax.TaxRegimeProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class TaxSimulationServiceTests {
+
+    private static final int EMPLOYEES = 200_000;
+
+    @Mock
+    private PayrollSnapshot payrollSnapshot;
+
+    @Spy
+    private TaxEngine taxEngine = new TaxEngine(new TaxRegimeProperties());
+
+    @InjectMocks
+    private TaxSimulationService taxSimulationService;
+
+    private double[] salary;
+
+    private int[] joinMonth;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        salary = new double[EMPLOYEES];
+        joinMonth = new int[EMPLOYEES];
+        for (int i = 0; i < EMPLOYEES; i++) {
+            salary[i] = 10000 + (i % 500) * 1000;
+            joinMonth[i] = PayrollSnapshot.monthIndex(LocalDate.of(2020 + i % 6, 1 + i % 12, 1));
+        }
+        when(payrollSnapshot.columns()).thenReturn(new PayrollSnapshot.Columns(salary, joinMonth, EMPLOYEES, 0));
+    }
+
+    private TaxRegimeProperties.Regime candidate(String name, double topRate) {
+        TaxRegimeProperties.Regime regime = new TaxRegimeProperties.Regime();
+        regime.setName(name);
+        regime.getSlabs().add(new TaxRegimeProperties.Slab(300000, 0.05));
+        regime.getSlabs().add(new TaxRegimeProperties.Slab(700000, 0.10));
+        regime.getSlabs().add(new TaxRegimeProperties.Slab(1200000, topRate));
+        regime.setCessThreshold(2500000);
+        regime.setCessRate(0.02);
+        return regime;
+    }
+
+    private double expectedLiability(TaxRegime regime, int financialYear) {
+        int yearStart = financialYear * 12 + 3;
+        double total = 0;
+        for (int i = 0; i < EMPLOYEES; i++) {
+            int months = yearStart + 11 - Math.max(joinMonth[i], yearStart) + 1;
+            if (months > 0) {
+                total += regime.tax(salary[i] * months) + regime.cess(salary[i] * months);
+            }
+        }
+        return total;
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSimulate_MatchesPerEmployeeEvaluation() {
+        TaxRegimeProperties.Regime candidate = candidate("budget", 0.25);
+        Map<String, Object> result = taxSimulationService.simulate(2024, List.of(candidate));
+
+        List<Map<String, Object>> scenarios = (List<Map<String, Object>>) result.get("scenarios");
+        assertEquals(2, scenarios.size());
+        assertEquals(true, scenarios.get(0).get("baseline"));
+
+        double baseline = expectedLiability(taxEngine.regime("old", 2024), 2024);
+        double budget = expectedLiability(TaxEngine.compile(candidate), 2024);
+        assertEquals(baseline, (double) scenarios.get(0).get("liability"), 1);
+        assertEquals(budget, (double) scenarios.get(1).get("liability"), 1);
+        assertEquals(budget - baseline, (double) scenarios.get(1).get("delta"), 1);
+        assertEquals(0.0, (double) scenarios.get(0).get("delta"), 0.001);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSimulate_PercentilesAreOrdered() {
+        Map<String, Object> result = taxSimulationService.simulate(2024, List.of(candidate(null, 0.30)));
+
+        Map<String, Object> scenario = ((List<Map<String, Object>>) result.get("scenarios")).get(1);
+        assertEquals("scenario-1", scenario.get("regime"));
+        Map<String, Double> percentiles = (Map<String, Double>) scenario.get("liabilityPercentiles");
+        assertTrue(percentiles.get("p50") <= percentiles.get("p90"));
+        assertTrue(percentiles.get("p90") <= percentiles.get("p99"));
+        assertTrue(percentiles.get("p99") <= percentiles.get("max"));
+    }
+
+    @Test
+    public void testSimulate_RejectsEmptyCandidates() {
+        assertThrows(IllegalArgumentException.class, () -> taxSimulationService.simulate(2024, Collections.emptyList()));
+    }
+
+    @Test
+    public void testHistogram_BucketLowerBoundWithinPrecision() {
+        for (double value : new double[] {1, 2.5, 999, 12345.67, 2500000, 987654321}) {
+            double lower = TaxSimulationService.Histogram.lowerBound(TaxSimulationService.Histogram.bucket(value));
+            assertTrue(lower <= value && value - lower <= value / 64, value + " -> " + lower);
+        }
+        assertEquals(0, TaxSimulationService.Histogram.bucket(0.5));
+    }
+}
@@ -0,0 +1,98 @@
+package com.employee.benchmark;
+
+import com.employee.entity.Employee;
+import com.employee.validation.EmployeeValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.validation.Validation;
+import javax.validation.Validator;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Validating a batch of employees with Bean Validation over the entity
+ * annotations (the previous write path) against {@link EmployeeValidator}.
+ * The entity no longer carries the id format, so the Bean Validation arm checks
+ * it with the regex its {@code @Pattern} used, keeping the two arms equivalent.
+ * {@code invalid} makes every fourth employee fail on its id and a phone number.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmployeeValidationBenchmark {
+
+    static final int EMPLOYEES = 1024;
+
+    private static final Pattern EMPLOYEE_ID = Pattern.compile("E\\d{3,9}");
+
+    @Param({"valid", "invalid"})
+    public String payload;
+
+    private Validator beanValidator;
+
+    private EmployeeValidator employeeValidator;
+
+    private Employee[] employees;
+
+    private LocalDate today;
+
+    @Setup
+    public void setUp() {
+        beanValidator = Validation.buildDefaultValidatorFactory().getValidator();
+        employeeValidator = new EmployeeValidator("E", 3, 9);
+        today = LocalDate.now();
+
+        employees = new Employee[EMPLOYEES];
+        for (int i = 0; i < EMPLOYEES; i++) {
+            boolean invalid = "invalid".equals(payload) && i % 4 == 0;
+            Employee employee = new Employee();
+            employee.setEmployeeId(invalid ? "X" + i : String.format("E%06d", i));
+            employee.setFirstName("First" + i);
+            employee.setLastName("Last" + i);
+            employee.setEmail("employee" + i + "@example.com");
+            employee.setPhoneNumbers(Arrays.asList(String.format("98%08d", i), invalid ? "12345" : String.format("97%08d", i)));
+            employee.setDoj(LocalDate.of(2020, 1 + i % 12, 1 + i % 28));
+            employee.setSalary(30000.0 + i);
+            employees[i] = employee;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EMPLOYEES)
+    public int beanValidation() {
+        int violations = 0;
+        for (Employee employee : employees) {
+            violations += beanValidator.validate(employee).size();
+            if (!EMPLOYEE_ID.matcher(employee.getEmployeeId()).matches()) {
+                violations++;
+            }
+        }
+        return violations;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EMPLOYEES)
+    public int handWritten() {
+        int violations = 0;
+        for (Employee employee : employees) {
+            violations += employeeValidator.validate(employee, today).size();
+        }
+        return violations;
+    }
+}
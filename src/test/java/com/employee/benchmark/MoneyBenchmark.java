@@ -0,0 +1,92 @@
+package com.employee.benchmark;
+
+import com.employee.tax.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A 5% rate applied to each of a fixed array of monthly salaries and summed,
+ * the shape of a batch tax total, in rupee {@code double}s, in
+ * {@link BigDecimal} rounded to the paisa, and in {@link Money} paise. The
+ * {@code double} total drifts from the other two; the point is what exactness
+ * costs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyBenchmark {
+
+    static final int SALARIES = 4096;
+
+    private static final double RATE = 0.05;
+
+    private static final BigDecimal RATE_DECIMAL = new BigDecimal("0.05");
+
+    private static final long RATE_PPM = Money.ratePpm(RATE);
+
+    private double[] rupees;
+
+    private BigDecimal[] decimals;
+
+    private long[] paise;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        rupees = new double[SALARIES];
+        decimals = new BigDecimal[SALARIES];
+        paise = new long[SALARIES];
+        for (int i = 0; i < SALARIES; i++) {
+            paise[i] = random.nextLong(1_000_000, 50_000_000);
+            rupees[i] = Money.toRupees(paise[i]);
+            decimals[i] = BigDecimal.valueOf(paise[i], 2);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SALARIES)
+    public double sumDouble() {
+        double total = 0;
+        for (double salary : rupees) {
+            total += salary * RATE;
+        }
+        return total;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SALARIES)
+    public BigDecimal sumBigDecimal() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (BigDecimal salary : decimals) {
+            total = total.add(salary.multiply(RATE_DECIMAL).setScale(2, RoundingMode.HALF_UP));
+        }
+        return total;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SALARIES)
+    public long sumPaise() {
+        long total = 0;
+        for (long salary : paise) {
+            total = Money.plus(total, Money.applyRate(salary, RATE_PPM));
+        }
+        return total;
+    }
+}
@@ -0,0 +1,99 @@
+package com.employee.benchmark;
+
+import com.employee.entity.Employee;
+import com.employee.service.EmployeeService;
+import com.employee.tax.FinancialYearCalendar;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Months-worked date arithmetic: the original per-request {@code LocalDate}
+ * version, including the {@code LocalDate.now()} call, against the month-index
+ * arithmetic of {@link FinancialYearCalendar} with a cached today.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MonthsWorkedBenchmark {
+
+    static final int EMPLOYEES = 1024;
+
+    private EmployeeService employeeService;
+
+    private Employee[] employees;
+
+    private FinancialYearCalendar calendar;
+
+    private int[] joinMonths;
+
+    @Setup
+    public void setUp() {
+        employeeService = new EmployeeService();
+        calendar = new FinancialYearCalendar();
+
+        SplittableRandom random = new SplittableRandom(42);
+        LocalDate today = LocalDate.now();
+        employees = new Employee[EMPLOYEES];
+        joinMonths = new int[EMPLOYEES];
+        for (int i = 0; i < EMPLOYEES; i++) {
+            Employee employee = new Employee();
+            employee.setEmployeeId("E" + i);
+            employee.setSalary(random.nextDouble(10_000, 300_000));
+            employee.setDoj(today.minusDays(random.nextInt(0, 3650)));
+            employees[i] = employee;
+            joinMonths[i] = FinancialYearCalendar.monthIndex(employee.getDoj());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EMPLOYEES)
+    public long controllerMonthsWorked() {
+        long total = 0;
+        for (Employee employee : employees) {
+            LocalDate doj = employee.getDoj();
+            LocalDate now = LocalDate.now();
+            LocalDate financialYearStart = now.getMonthValue() < 4 ? LocalDate.of(now.getYear() - 1, 4, 1) : LocalDate.of(now.getYear(), 4, 1);
+            LocalDate effectiveStart = doj.isBefore(financialYearStart) ? financialYearStart : doj;
+            total += ChronoUnit.MONTHS.between(effectiveStart.withDayOfMonth(1), now.withDayOfMonth(1)) + 1;
+        }
+        return total;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EMPLOYEES)
+    public long calendarMonthsWorked() {
+        long total = 0;
+        for (int joinMonth : joinMonths) {
+            total += FinancialYearCalendar.monthsWorked(joinMonth, calendar.currentMonth());
+        }
+        return total;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EMPLOYEES)
+    public double yearToDateSalary() {
+        LocalDate asOf = LocalDate.now();
+        double total = 0;
+        for (Employee employee : employees) {
+            total += employeeService.calculateYearToDateSalary(employee, asOf);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,128 @@
+package com.employee.benchmark;
+
+import com.employee.service.EmployeeService;
+import com.employee.tax.TaxEngine;
+import com.employee.tax.TaxRegime;
+import com.employee.tax.TaxRegimeProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Slab tax and cess through {@link EmployeeService} over a fixed array of yearly
+ * salaries drawn from different distributions. {@code pay-grades} is 12 months
+ * of one of 200 whole-rupee monthly grades, the case the per-regime tax memo is
+ * for; the random distributions almost never repeat a paisa amount and only
+ * miss.
+ * {@link #calculateTaxMemoised} and {@link #calculateTaxUnmemoised} call one
+ * compiled regime directly with the memo on and off, without the service's
+ * regime lookup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaxCalculationBenchmark {
+
+    static final int SALARIES = 4096;
+
+    @Param({"uniform", "lognormal", "slab-edges", "pay-grades"})
+    public String distribution;
+
+    private EmployeeService employeeService;
+
+    private double[] salaries;
+
+    private TaxRegime memoised;
+
+    private TaxRegime unmemoised;
+
+    @Setup
+    public void setUp() {
+        employeeService = new EmployeeService();
+        TaxRegimeProperties properties = new TaxRegimeProperties();
+        properties.setMemoCapacity(4096);
+        ReflectionTestUtils.setField(employeeService, "taxEngine", new TaxEngine(properties));
+        TaxRegimeProperties.Regime old = properties.getRegimes().get(0);
+        memoised = TaxEngine.compile(old, 4096);
+        unmemoised = TaxEngine.compile(old, 0);
+
+        SplittableRandom random = new SplittableRandom(42);
+        salaries = new double[SALARIES];
+        for (int i = 0; i < SALARIES; i++) {
+            switch (distribution) {
+                case "uniform":
+                    salaries[i] = random.nextDouble(0, 5_000_000);
+                    break;
+                case "lognormal":
+                    salaries[i] = Math.exp(13.5 + 0.6 * gaussian(random));
+                    break;
+                case "pay-grades":
+                    salaries[i] = 12 * (15_000 + 1_000 * random.nextInt(200));
+                    break;
+                default:
+                    double[] edges = {250_000, 500_000, 1_000_000, 2_500_000};
+                    salaries[i] = edges[i % edges.length] + random.nextInt(-1000, 1000);
+            }
+        }
+    }
+
+    private static double gaussian(SplittableRandom random) {
+        return Math.sqrt(-2 * Math.log(1 - random.nextDouble())) * Math.cos(2 * Math.PI * random.nextDouble());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SALARIES)
+    public double calculateTax() {
+        double total = 0;
+        for (double salary : salaries) {
+            total += employeeService.calculateTax(salary);
+        }
+        return total;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SALARIES)
+    public double calculateTaxMemoised() {
+        double total = 0;
+        for (double salary : salaries) {
+            total += memoised.tax(salary);
+        }
+        return total;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SALARIES)
+    public double calculateTaxUnmemoised() {
+        double total = 0;
+        for (double salary : salaries) {
+            total += unmemoised.tax(salary);
+        }
+        return total;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SALARIES)
+    public double calculateTaxAndCess() {
+        double total = 0;
+        for (double salary : salaries) {
+            total += employeeService.calculateTax(salary) + employeeService.calculateCess(salary);
+        }
+        return total;
+    }
+}
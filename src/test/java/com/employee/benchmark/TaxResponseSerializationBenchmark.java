@@ -0,0 +1,87 @@
+package com.employee.benchmark;
+
+import com.employee.dto.EmployeeTaxInfo;
+import com.employee.json.EmployeeTaxInfoJsonWriter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialisation of the tax response: Jackson on the {@code HashMap} the
+ * controller used to build, Jackson on a typed DTO with the same fields, and
+ * {@link EmployeeTaxInfoJsonWriter} on {@link EmployeeTaxInfo}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaxResponseSerializationBenchmark {
+
+    public static class TaxResponse {
+        public final String employeeId;
+        public final String firstName;
+        public final String lastName;
+        public final double yearlySalary;
+        public final double taxAmount;
+        public final double cessAmount;
+
+        public TaxResponse(String employeeId, String firstName, String lastName, double yearlySalary,
+                double taxAmount, double cessAmount) {
+            this.employeeId = employeeId;
+            this.firstName = firstName;
+            this.lastName = lastName;
+            this.yearlySalary = yearlySalary;
+            this.taxAmount = taxAmount;
+            this.cessAmount = cessAmount;
+        }
+    }
+
+    private ObjectMapper objectMapper;
+
+    private double yearlySalary;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        yearlySalary = 1_450_000;
+    }
+
+    @Benchmark
+    public byte[] hashMapResponse() throws JsonProcessingException {
+        Map<String, Object> response = new HashMap<>();
+        response.put("employeeId", "E123");
+        response.put("firstName", "John");
+        response.put("lastName", "Doe");
+        response.put("yearlySalary", yearlySalary);
+        response.put("taxAmount", 152500.0);
+        response.put("cessAmount", 0.0);
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] typedDtoResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(
+                new TaxResponse("E123", "John", "Doe", yearlySalary, 152500.0, 0.0));
+    }
+
+    @Benchmark
+    public byte[] handWrittenResponse() {
+        return EmployeeTaxInfoJsonWriter.toJson(
+                new EmployeeTaxInfo("E123", "John", "Doe", yearlySalary, 152500.0, 0.0));
+    }
+}
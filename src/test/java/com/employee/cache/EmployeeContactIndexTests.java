@@ -0,0 +1,131 @@
+package com.employee.cache;
+
+import com.employee.entity.Employee;
+import com.employee.repository.EmployeeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class EmployeeContactIndexTests {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private EmployeeContactIndex contactIndex;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    private Employee employee(String employeeId, String email, String... phoneNumbers) {
+        Employee employee = new Employee();
+        employee.setEmployeeId(employeeId);
+        employee.setEmail(email);
+        employee.setPhoneNumbers(Arrays.asList(phoneNumbers));
+        return employee;
+    }
+
+    @Test
+    public void testLoad_IndexesEmailsAndPhoneNumbers() {
+        when(employeeRepository.streamAllEmails()).thenReturn(Stream.of(
+                new Object[] {"E001", "John@Example.com"}, new Object[] {"E002", "jane@example.com"}));
+        when(employeeRepository.streamAllPhoneNumbers()).thenReturn(Stream.of(
+                new Object[] {"E001", "1234567890"}, new Object[] {"E002", "1234567890"},
+                new Object[] {"E002", "0987654321"}));
+
+        contactIndex.load();
+
+        assertTrue(contactIndex.isLoaded());
+        assertEquals(Optional.of("E001"), contactIndex.findByEmail("john@example.com"));
+        assertEquals(Arrays.asList("E001", "E002"), contactIndex.findByPhoneNumber("1234567890"));
+        assertEquals(List.of("E002"), contactIndex.findByPhoneNumber("0987654321"));
+        assertEquals(2, contactIndex.emailCount());
+        assertEquals(2, contactIndex.phoneNumberCount());
+        verify(employeeRepository, never()).findEmployeeIdByEmail(anyString());
+    }
+
+    @Test
+    public void testFind_FallsBackToDatabaseUntilLoaded() {
+        when(employeeRepository.findEmployeeIdByEmail("john@example.com")).thenReturn(Optional.of("E001"));
+        when(employeeRepository.findEmployeeIdsByPhoneNumber("1234567890")).thenReturn(List.of("E001"));
+
+        assertEquals(Optional.of("E001"), contactIndex.findByEmail("john@example.com"));
+        assertEquals(List.of("E001"), contactIndex.findByPhoneNumber("1234567890"));
+    }
+
+    @Test
+    public void testFind_FallsBackToDatabaseOnMissAfterLoad() {
+        contactIndex.markLoaded();
+        when(employeeRepository.findEmployeeIdByEmail("remote@example.com")).thenReturn(Optional.of("E009"));
+        when(employeeRepository.findEmployeeIdsByPhoneNumber("5555555555")).thenReturn(List.of("E009"));
+
+        assertEquals(Optional.of("E009"), contactIndex.findByEmail("remote@example.com"));
+        assertEquals(List.of("E009"), contactIndex.findByPhoneNumber("5555555555"));
+        assertEquals(Optional.of("E009"), contactIndex.findByEmail("Remote@Example.com"));
+        assertEquals(List.of("E009"), contactIndex.findByPhoneNumber("5555555555"));
+
+        verify(employeeRepository, times(1)).findEmployeeIdByEmail(anyString());
+        verify(employeeRepository, times(1)).findEmployeeIdsByPhoneNumber(anyString());
+    }
+
+    @Test
+    public void testReserveEmail_RejectsEmailHeldByAnotherEmployee() {
+        contactIndex.markLoaded();
+        contactIndex.add(employee("E001", "john@example.com", "1234567890"));
+
+        assertFalse(contactIndex.reserveEmail("JOHN@example.com", "E002"));
+        assertTrue(contactIndex.reserveEmail("john@example.com", "E001"));
+        assertTrue(contactIndex.reserveEmail("jane@example.com", "E002"));
+        assertFalse(contactIndex.reserveEmail("jane@example.com", "E003"));
+        verify(employeeRepository, never()).existsByEmail(anyString());
+    }
+
+    @Test
+    public void testReserveEmail_ChecksDatabaseUntilLoaded() {
+        when(employeeRepository.existsByEmail("john@example.com")).thenReturn(true);
+
+        assertFalse(contactIndex.reserveEmail("john@example.com", "E002"));
+        assertTrue(contactIndex.reserveEmail("jane@example.com", "E003"));
+        assertEquals(1, contactIndex.emailCount());
+    }
+
+    @Test
+    public void testRelease_FreesOnlyOwnReservation() {
+        contactIndex.markLoaded();
+        assertTrue(contactIndex.reserveEmail("john@example.com", "E001"));
+
+        contactIndex.release("john@example.com", "E002");
+        assertFalse(contactIndex.reserveEmail("john@example.com", "E002"));
+
+        contactIndex.release("john@example.com", "E001");
+        assertTrue(contactIndex.reserveEmail("john@example.com", "E002"));
+    }
+
+    @Test
+    public void testAdd_SharedPhoneNumberListsEachEmployeeOnce() {
+        contactIndex.markLoaded();
+        contactIndex.add(employee("E001", "john@example.com", "1234567890"));
+        contactIndex.add(employee("E002", "jane@example.com", "1234567890", "1234567890"));
+
+        assertEquals(Arrays.asList("E001", "E002"), contactIndex.findByPhoneNumber("1234567890"));
+        assertEquals(Collections.emptyList(), contactIndex.findByPhoneNumber("0000000000"));
+        assertEquals(Optional.empty(), contactIndex.findByEmail("nobody@example.com"));
+    }
+}
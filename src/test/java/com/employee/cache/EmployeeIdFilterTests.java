@@ -0,0 +1,81 @@
+package com.employee.cache;
+
+import com.employee.entity.EmployeeChange;
+import com.employee.event.EmployeeSavedEvent;
+import com.employee.service.EmployeeChangeFeedService;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class EmployeeIdFilterTests {
+
+    @Test
+    public void testMightContain_TrueUntilLoaded() {
+        EmployeeIdFilter filter = new EmployeeIdFilter(1000, 0.01);
+
+        assertTrue(filter.mightContain("E404"));
+        assertEquals(0, filter.getRejections());
+    }
+
+    @Test
+    public void testMightContain_NoFalseNegatives() {
+        EmployeeIdFilter filter = new EmployeeIdFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(String.format("E%05d", i));
+        }
+        filter.markLoaded();
+
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain(String.format("E%05d", i)));
+        }
+    }
+
+    @Test
+    public void testMightContain_FalsePositiveRateNearTarget() {
+        EmployeeIdFilter filter = new EmployeeIdFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(String.format("E%05d", i));
+        }
+        filter.markLoaded();
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain(String.format("X%05d", i))) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 300, "false positives: " + falsePositives);
+    }
+
+    @Test
+    public void testOnEmployeeSaved_AddsId() {
+        EmployeeIdFilter filter = new EmployeeIdFilter(1000, 0.01);
+        filter.markLoaded();
+
+        filter.onEmployeeSaved(new EmployeeSavedEvent("E777"));
+
+        assertTrue(filter.mightContain("E777"));
+    }
+
+    @Test
+    public void testRefresh_AddsIdsFromChangeFeed() {
+        EmployeeIdFilter filter = new EmployeeIdFilter(1000, 0.01);
+        EmployeeChangeFeedService changeFeedService = mock(EmployeeChangeFeedService.class);
+        ReflectionTestUtils.setField(filter, "employeeChangeFeedService", changeFeedService);
+        EmployeeChange change = new EmployeeChange();
+        change.setSeq(5L);
+        change.setEmployeeId("E888");
+        when(changeFeedService.readAfter(0, 1000)).thenReturn(List.of(change));
+        filter.markLoaded();
+
+        filter.refresh();
+        filter.refresh();
+
+        assertTrue(filter.mightContain("E888"));
+        verify(changeFeedService).readAfter(5, 1000);
+    }
+}
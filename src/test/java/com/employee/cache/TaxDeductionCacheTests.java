@@ -0,0 +1,69 @@
+package com.employee.cache;
+
+import com.employee.dto.EmployeeTaxInfo;
+import com.employee.event.EmployeeSavedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TaxDeductionCacheTests {
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private EmployeeTaxInfo load(String employeeId) {
+        loads.incrementAndGet();
+        return new EmployeeTaxInfo(employeeId, "John", "Doe", 600000, 17500, 0);
+    }
+
+    @Test
+    public void testGet_CachesLoadedValue() {
+        TaxDeductionCache cache = new TaxDeductionCache(10);
+
+        cache.get("E001", () -> load("E001"));
+        byte[] cached = cache.get("E001", () -> load("E001"));
+
+        assertEquals("{\"employeeId\":\"E001\",\"firstName\":\"John\",\"lastName\":\"Doe\","
+                + "\"yearlySalary\":600000.0,\"taxAmount\":17500.0,\"cessAmount\":0.0}",
+                new String(cached, StandardCharsets.UTF_8));
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    public void testGet_DoesNotCacheMissingEmployee() {
+        TaxDeductionCache cache = new TaxDeductionCache(10);
+
+        assertNull(cache.get("E404", () -> null));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsed() {
+        TaxDeductionCache cache = new TaxDeductionCache(2);
+
+        cache.get("E001", () -> load("E001"));
+        cache.get("E002", () -> load("E002"));
+        cache.get("E001", () -> load("E001"));
+        cache.get("E003", () -> load("E003"));
+        cache.get("E001", () -> load("E001"));
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictions());
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    public void testEmployeeSavedEventInvalidatesEntry() {
+        TaxDeductionCache cache = new TaxDeductionCache(10);
+        cache.get("E001", () -> load("E001"));
+
+        cache.onEmployeeSaved(new EmployeeSavedEvent("E001"));
+        cache.get("E001", () -> load("E001"));
+
+        assertEquals(2, loads.get());
+    }
+}
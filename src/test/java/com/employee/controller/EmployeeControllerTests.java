@@ -1,22 +1,27 @@
 package com.employee.controller;
 
+import com.employee.cache.TaxDeductionCache;
+import com.employee.dto.EmployeeTaxInfo;
+import com.employee.dto.WriteBehindStatus;
 import com.employee.entity.Employee;
+import com.employee.metrics.EmployeeMetrics;
 import com.employee.service.EmployeeService;
+import com.employee.service.EmployeeWriteBehindService;
+import com.employee.service.TaxDeductionService;
+import com.employee.validation.EmployeeValidator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.validation.BindingResult;
-import org.springframework.validation.ObjectError;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -31,7 +36,19 @@ public class EmployeeControllerTests {
     private EmployeeService employeeService;
 
     @Mock
-    private BindingResult bindingResult;
+    private EmployeeMetrics employeeMetrics;
+
+    @Mock
+    private TaxDeductionService taxDeductionService;
+
+    @Mock
+    private EmployeeWriteBehindService writeBehindService;
+
+    @Spy
+    private TaxDeductionCache taxDeductionCache = new TaxDeductionCache(100);
+
+    @Spy
+    private EmployeeValidator employeeValidator = new EmployeeValidator("E", 3, 9);
 
     @BeforeEach
     void setUp() {
@@ -49,10 +66,9 @@ public class EmployeeControllerTests {
         employee.setDoj(LocalDate.of(2023, 5, 16));
         employee.setSalary((double) 50000);
 
-        when(bindingResult.hasErrors()).thenReturn(false);
         doNothing().when(employeeService).saveEmployee(employee);
 
-        ResponseEntity<?> response = employeeController.addEmployee(employee, bindingResult);
+        ResponseEntity<?> response = employeeController.addEmployee(employee);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals("Employee saved successfully", response.getBody());
@@ -60,54 +76,128 @@ public class EmployeeControllerTests {
 
     @Test
     void testAddEmployee_ValidationError() {
-        when(bindingResult.hasErrors()).thenReturn(true);
-        when(bindingResult.getAllErrors()).thenReturn(
-                Arrays.asList(new ObjectError("field", "Error message"))
-        );
-
-        Employee employee = new Employee(); // Employee details are not important here
+        Employee employee = new Employee();
 
-        ResponseEntity<?> response = employeeController.addEmployee(employee, bindingResult);
+        ResponseEntity<?> response = employeeController.addEmployee(employee);
 
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
         List<String> errors = (List<String>) response.getBody();
-        assertEquals(1, errors.size());
-        assertEquals("Error message", errors.get(0));
+        assertEquals("Employee ID is mandatory", errors.get(0));
+        verify(employeeService, never()).saveEmployee(any());
+        verify(employeeMetrics).validationFailed();
     }
 
     @Test
     void testGetTaxDeductions_EmployeeFound() {
+        EmployeeTaxInfo info = new EmployeeTaxInfo("E123", "John", "Doe", 50000.0, 37500.0, 0.0);
+        when(taxDeductionService.getTaxDeductions("E123")).thenReturn(Optional.of(info));
+
+        ResponseEntity<?> response = employeeController.getTaxDeductions("E123", null);
+        employeeController.getTaxDeductions("E123", null);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("{\"employeeId\":\"E123\",\"firstName\":\"John\",\"lastName\":\"Doe\","
+                + "\"yearlySalary\":50000.0,\"taxAmount\":37500.0,\"cessAmount\":0.0}",
+                new String((byte[]) response.getBody(), StandardCharsets.UTF_8));
+        verify(taxDeductionService, times(1)).getTaxDeductions("E123");
+    }
+
+    @Test
+    void testGetTaxDeductions_AsOfBypassesCache() {
+        LocalDate asOf = LocalDate.of(2023, 6, 30);
+        EmployeeTaxInfo info = new EmployeeTaxInfo("E123", "John", "Doe", 150000.0, 0.0, 0.0);
+        when(taxDeductionService.getTaxDeductions("E123", asOf)).thenReturn(Optional.of(info));
+
+        ResponseEntity<?> response = employeeController.getTaxDeductions("E123", asOf);
+
+        assertEquals(info, response.getBody());
+        verify(taxDeductionCache, never()).get(anyString(), any());
+    }
+
+    @Test
+    void testGetTaxDeductions_EmployeeNotFound() {
+        when(taxDeductionService.getTaxDeductions("E123")).thenReturn(Optional.empty());
+
+        ResponseEntity<?> response = employeeController.getTaxDeductions("E123", null);
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertEquals("Employee not found", response.getBody());
+    }
+
+    @Test
+    void testGetTaxDeductionsBatch_TooManyIds() {
+        List<String> ids = new java.util.ArrayList<>();
+        for (int i = 0; i <= 1000; i++) {
+            ids.add("E" + i);
+        }
+
+        ResponseEntity<?> response = employeeController.getTaxDeductionsBatch(ids, null);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verify(taxDeductionService, never()).getTaxDeductions(anyList());
+    }
+
+    @Test
+    void testAddEmployee_RejectedByValidator() {
         Employee employee = new Employee();
-        employee.setEmployeeId("E123");
+        employee.setEmployeeId("E12");
         employee.setFirstName("John");
         employee.setLastName("Doe");
-        employee.setSalary((double) 50000);
+        employee.setEmail("john.doe@example.com");
+        employee.setPhoneNumbers(Arrays.asList("1234567890"));
         employee.setDoj(LocalDate.of(2023, 5, 16));
+        employee.setSalary((double) 50000);
+
+        ResponseEntity<?> response = employeeController.addEmployee(employee);
 
-        when(employeeService.getEmployeeById("E123")).thenReturn(Optional.of(employee));
-        when(employeeService.calculateTax(50000)).thenReturn(37500.0);
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals(List.of("Employee ID must be 'E' followed by 3 to 9 digits"), response.getBody());
+        verify(employeeService, never()).saveEmployee(any());
+        verify(employeeMetrics).validationFailed();
+    }
+
+    @Test
+    void testAddEmployee_WriteBehindReturnsAccepted() {
+        Employee employee = new Employee();
+        employee.setEmployeeId("E123");
+        employee.setFirstName("John");
+        employee.setLastName("Doe");
+        employee.setEmail("john.doe@example.com");
+        employee.setPhoneNumbers(Arrays.asList("1234567890"));
+        employee.setDoj(LocalDate.of(2023, 5, 16));
+        employee.setSalary((double) 50000);
+        WriteBehindStatus status = new WriteBehindStatus("t-1", "E123", WriteBehindStatus.State.PENDING, null);
+        when(writeBehindService.isEnabled()).thenReturn(true);
+        when(writeBehindService.accept(employee)).thenReturn(Optional.of(status));
 
-        ResponseEntity<?> response = employeeController.getTaxDeductions("E123");
+        ResponseEntity<?> response = employeeController.addEmployee(employee);
 
-        Map<String, Object> expectedResponse = new HashMap<>();
-        expectedResponse.put("employeeId", "E123");
-        expectedResponse.put("firstName", "John");
-        expectedResponse.put("lastName", "Doe");
-        expectedResponse.put("yearlySalary", 50000.0);
-        expectedResponse.put("taxAmount", 37500.0);
-        expectedResponse.put("cessAmount", 0.0);
+        assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
+        assertEquals(status, response.getBody());
+        verify(employeeService, never()).saveEmployee(any());
+    }
 
-        assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertEquals(expectedResponse, response.getBody());
+    @Test
+    void testLookupEmployees_RequiresExactlyOneCriterion() {
+        assertEquals(HttpStatus.BAD_REQUEST, employeeController.lookupEmployees(null, null).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST,
+                employeeController.lookupEmployees("john@example.com", "1234567890").getStatusCode());
+        verifyNoInteractions(employeeService);
     }
 
     @Test
-    void testGetTaxDeductions_EmployeeNotFound() {
-        when(employeeService.getEmployeeById("E123")).thenReturn(Optional.empty());
+    void testLookupEmployees_ByPhone() {
+        Employee employee = new Employee();
+        employee.setEmployeeId("E123");
+        when(employeeService.findByPhoneNumber("1234567890")).thenReturn(List.of(employee));
+        when(employeeService.findByEmail("nobody@example.com")).thenReturn(List.of());
 
-        ResponseEntity<?> response = employeeController.getTaxDeductions("E123");
+        ResponseEntity<?> found = employeeController.lookupEmployees(null, "1234567890");
+        ResponseEntity<?> missing = employeeController.lookupEmployees("nobody@example.com", null);
 
-        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
-        assertEquals("Employee not found", response.getBody());
+        assertEquals(HttpStatus.OK, found.getStatusCode());
+        assertEquals(List.of(employee), found.getBody());
+        assertEquals(HttpStatus.NOT_FOUND, missing.getStatusCode());
+        verify(employeeMetrics).employeeNotFound();
     }
 }
@@ -0,0 +1,80 @@
+package com.employee.json;
+
+import com.employee.dto.EmployeeTaxInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EmployeeTaxInfoJsonWriterTests {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private String jackson(String employeeId, String firstName, String lastName, double yearlySalary,
+            double taxAmount, double cessAmount) throws Exception {
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("employeeId", employeeId);
+        response.put("firstName", firstName);
+        response.put("lastName", lastName);
+        response.put("yearlySalary", yearlySalary);
+        response.put("taxAmount", taxAmount);
+        response.put("cessAmount", cessAmount);
+        return objectMapper.writeValueAsString(response);
+    }
+
+    private String written(EmployeeTaxInfo info) {
+        return new String(EmployeeTaxInfoJsonWriter.toJson(info), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testMatchesJacksonForAmounts() throws Exception {
+        double[] amounts = {0, 1, 9, 10, 600000, 1450000, 9999999, 1e7, 2.75e7, 152500.5, 0.1, 1e-4, -250, -0.0};
+        for (double amount : amounts) {
+            EmployeeTaxInfo info = new EmployeeTaxInfo("E123", "John", "Doe", amount, amount / 3, amount);
+            assertEquals(jackson("E123", "John", "Doe", amount, amount / 3, amount), written(info), Double.toString(amount));
+        }
+    }
+
+    @Test
+    public void testMatchesJacksonForEscapesAndUnicode() throws Exception {
+        String[] names = {"O\"Brien", "back\\slash", "tab\there", "line\nbreak", "\u0001ctl", "Zo\u00EB", "\u0141ukasz", "\u674E", "emoji \uD83D\uDE00"};
+        for (String name : names) {
+            EmployeeTaxInfo info = new EmployeeTaxInfo("E123", name, name, 50000, 0, 0);
+            assertEquals(jackson("E123", name, name, 50000, 0, 0), written(info), name);
+        }
+    }
+
+    @Test
+    public void testNullNamesAndNotFound() throws Exception {
+        assertEquals(jackson("E123", null, null, 1, 0, 0), written(new EmployeeTaxInfo("E123", null, null, 1, 0, 0)));
+        assertEquals("{\"employeeId\":\"E404\",\"error\":\"Employee not found\"}",
+                written(EmployeeTaxInfo.notFound("E404", "Employee not found")));
+    }
+
+    @Test
+    public void testJacksonSerializerMatchesWriter() throws Exception {
+        EmployeeTaxInfo found = new EmployeeTaxInfo("E123", "Zo\u00EB", "Doe", 1450000, 152500.5, 0);
+        EmployeeTaxInfo missing = EmployeeTaxInfo.notFound("E404", "Employee not found");
+
+        assertEquals(written(found), objectMapper.writeValueAsString(found));
+        assertEquals(written(missing), objectMapper.writeValueAsString(missing));
+    }
+
+    @Test
+    public void testWriteToDrainsBufferAcrossRows() throws Exception {
+        EmployeeTaxInfoJsonWriter writer = new EmployeeTaxInfoJsonWriter(16);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        writer.append('[').write(new EmployeeTaxInfo("E001", "A", "B", 1, 0, 0)).writeTo(out);
+        writer.append(',').write(new EmployeeTaxInfo("E002", "C", "D", 2, 0, 0)).append(']').writeTo(out);
+
+        assertEquals(0, writer.size());
+        assertEquals("[" + jackson("E001", "A", "B", 1, 0, 0) + "," + jackson("E002", "C", "D", 2, 0, 0) + "]",
+                out.toString(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,43 @@
+package com.employee.json;
+
+import com.employee.dto.EmployeeTaxInfo;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EmployeeTaxInfoMessageConverterTests {
+
+    private final EmployeeTaxInfoMessageConverter converter = new EmployeeTaxInfoMessageConverter();
+
+    @Test
+    public void testSupportedMediaTypes_JsonOnly() {
+        assertEquals(List.of(MediaType.APPLICATION_JSON), converter.getSupportedMediaTypes());
+        assertTrue(converter.canWrite(EmployeeTaxInfo[].class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canWrite(EmployeeTaxInfo[].class, MediaType.APPLICATION_NDJSON));
+        assertFalse(converter.canRead(EmployeeTaxInfo.class, MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    public void testWrite_ArrayIsOneJsonArray() throws Exception {
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        converter.write(new EmployeeTaxInfo[] { EmployeeTaxInfo.notFound("E1", "x"), EmployeeTaxInfo.notFound("E2", "x") },
+                MediaType.APPLICATION_JSON, output);
+
+        String body = output.getBodyAsString();
+        assertTrue(body.startsWith("[{") && body.endsWith("}]"), body);
+        assertTrue(body.contains("},{"), body);
+    }
+
+    @Test
+    public void testRead_NotReadable() {
+        assertThrows(HttpMessageNotReadableException.class,
+                () -> converter.read(EmployeeTaxInfo.class, new MockHttpInputMessage(new byte[0])));
+    }
+}
@@ -0,0 +1,41 @@
+package com.employee.perf;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LoadDriverTests {
+
+    @Test
+    public void testParseOptions() {
+        Map<String, String> options = LoadDriver.parseOptions(new String[] {"--concurrency=8", "--base-url=http://h:1"});
+
+        assertEquals("8", options.get("concurrency"));
+        assertEquals("http://h:1", options.get("base-url"));
+        assertThrows(IllegalArgumentException.class, () -> LoadDriver.parseOptions(new String[] {"concurrency"}));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testLatencySummaryPercentilesAndRate() {
+        LoadDriver.Latencies first = new LoadDriver.Latencies();
+        LoadDriver.Latencies second = new LoadDriver.Latencies();
+        for (int i = 1000; i >= 1; i--) {
+            (i % 2 == 0 ? first : second).record(i * 1_000_000L, i != 1000);
+        }
+        first.addAll(second);
+
+        Map<String, Object> summary = first.summary(10);
+
+        assertEquals(1000, summary.get("requests"));
+        assertEquals(1L, summary.get("errors"));
+        assertEquals(100.0, summary.get("rps"));
+        Map<String, Object> latency = (Map<String, Object>) summary.get("latencyMillis");
+        assertEquals(500.0, latency.get("p50"));
+        assertEquals(990.0, latency.get("p99"));
+        assertEquals(999.0, latency.get("p999"));
+        assertEquals(1000.0, latency.get("max"));
+    }
+}
@@ -0,0 +1,39 @@
+package com.employee.perf;
+
+import com.employee.entity.Employee;
+import com.employee.validation.EmployeeValidator;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PerfDataGeneratorTests {
+
+    private static final LocalDate REFERENCE_DATE = LocalDate.of(2025, 3, 31);
+
+    @Test
+    public void testSameSeedAndIndexGiveSameEmployee() {
+        Employee first = new PerfDataGenerator(42, REFERENCE_DATE).employee(1234);
+        Employee again = new PerfDataGenerator(42, REFERENCE_DATE).employee(1234);
+        Employee otherSeed = new PerfDataGenerator(43, REFERENCE_DATE).employee(1234);
+
+        assertEquals(first, again);
+        assertEquals(first.getPhoneNumbers(), again.getPhoneNumbers());
+        assertEquals("E001234", first.getEmployeeId());
+        assertNotEquals(first.getSalary(), otherSeed.getSalary());
+    }
+
+    @Test
+    public void testGeneratedEmployeesPassValidation() {
+        PerfDataGenerator generator = new PerfDataGenerator(42, REFERENCE_DATE);
+        EmployeeValidator validator = new EmployeeValidator("E", 3, 9);
+
+        for (long i = 1; i <= 5000; i++) {
+            Employee employee = generator.employee(i);
+            assertEquals(0, validator.validate(employee, REFERENCE_DATE).size(), employee.getEmployeeId());
+            assertTrue(employee.getPhoneNumbers().size() >= 1 && employee.getPhoneNumbers().size() <= 3);
+            assertTrue(employee.getSalary() >= 20000 && employee.getSalary() <= 400000);
+        }
+    }
+}
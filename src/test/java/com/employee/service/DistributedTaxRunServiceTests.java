@@ -0,0 +1,230 @@
+package com.employee.service;
+
+import com.employee.dto.EmployeeTaxView;
+import com.employee.entity.TaxRun;
+import com.employee.entity.TaxRunPartition;
+import com.employee.entity.TaxRunPartitionStatus;
+import com.employee.entity.TaxRunStatus;
+import com.employee.repository.EmployeeRepository;
+import com.employee.repository.TaxRunPartitionRepository;
+import com.employee.repository.TaxRunRepository;
+import com.employee.tax.TaxEngine;
+import com.employee.tax.TaxRegimeProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.Mockito.*;
+
+public class DistributedTaxRunServiceTests {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private TaxRunRepository taxRunRepository;
+
+    @Mock
+    private TaxRunPartitionRepository partitionRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private TaxEngine taxEngine = new TaxEngine(new TaxRegimeProperties());
+
+    @InjectMocks
+    private DistributedTaxRunService distributedTaxRunService;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(distributedTaxRunService, "chunkSize", 2);
+        ReflectionTestUtils.setField(distributedTaxRunService, "nodeId", "node-a");
+        ReflectionTestUtils.setField(distributedTaxRunService, "enabled", true);
+    }
+
+    private TaxRun run() {
+        TaxRun run = new TaxRun();
+        run.setRunId("run-1");
+        run.setAsOf(LocalDate.of(2025, 3, 31));
+        run.setStatus(TaxRunStatus.RUNNING);
+        run.setStartedAt(LocalDateTime.now());
+        run.setPartitions(1);
+        return run;
+    }
+
+    private TaxRunPartition partition(int fromBucket, int toBucket) {
+        TaxRunPartition partition = new TaxRunPartition();
+        partition.setRunId("run-1");
+        partition.setFromBucket(fromBucket);
+        partition.setToBucket(toBucket);
+        partition.setCursorBucket(fromBucket);
+        partition.setLastEmployeeId("");
+        partition.setStatus(TaxRunPartitionStatus.LEASED);
+        partition.setOwner("node-a");
+        return partition;
+    }
+
+    private EmployeeTaxView employee(String id, double salary) {
+        return new EmployeeTaxView(id, "John", "Doe", salary, LocalDate.of(2020, 1, 1));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testStartRun_PartitionsCoverEveryBucketOnce() {
+        distributedTaxRunService.startRun(LocalDate.of(2025, 3, 31), 7);
+
+        ArgumentCaptor<List<TaxRunPartition>> captor = ArgumentCaptor.forClass(List.class);
+        verify(partitionRepository).saveAll(captor.capture());
+        List<TaxRunPartition> partitions = captor.getValue();
+        assertEquals(7, partitions.size());
+        assertEquals(0, partitions.get(0).getFromBucket());
+        for (int p = 1; p < partitions.size(); p++) {
+            assertEquals(partitions.get(p - 1).getToBucket(), partitions.get(p).getFromBucket());
+        }
+        assertEquals(TaxRunPartition.BUCKETS, partitions.get(6).getToBucket());
+        assertEquals(TaxRunPartitionStatus.PENDING, partitions.get(3).getStatus());
+    }
+
+    @Test
+    public void testStartRun_RejectsTooManyPartitions() {
+        assertThrows(IllegalArgumentException.class,
+                () -> distributedTaxRunService.startRun(null, TaxRunPartition.BUCKETS + 1));
+    }
+
+    @Test
+    public void testStartRun_RejectedWhenDisabled() {
+        ReflectionTestUtils.setField(distributedTaxRunService, "enabled", false);
+
+        assertThrows(IllegalStateException.class, () -> distributedTaxRunService.startRun(null, 4));
+        verifyNoInteractions(partitionRepository);
+    }
+
+    @Test
+    public void testProcess_WalksBucketsAndCompletesRun() {
+        TaxRun run = run();
+        TaxRunPartition partition = partition(5, 7);
+        when(partitionRepository.save(any(TaxRunPartition.class))).then(returnsFirstArg());
+        when(employeeRepository.findTaxViewsInBucketAfter(eq(5), eq(""), any(Pageable.class)))
+                .thenReturn(Arrays.asList(employee("E001", 50000), employee("E002", 100000)));
+        when(employeeRepository.findTaxViewsInBucketAfter(eq(5), eq("E002"), any(Pageable.class)))
+                .thenReturn(Collections.emptyList());
+        when(employeeRepository.findTaxViewsInBucketAfter(eq(6), eq(""), any(Pageable.class)))
+                .thenReturn(Collections.singletonList(employee("E003", 10000)));
+        when(partitionRepository.findByRunIdOrderByPartitionNo("run-1")).thenReturn(Collections.singletonList(partition));
+
+        distributedTaxRunService.process(run, partition);
+
+        assertEquals(TaxRunPartitionStatus.COMPLETED, partition.getStatus());
+        assertEquals(7, partition.getCursorBucket());
+        assertEquals(3, partition.getEmployeesProcessed());
+        // 12 months each: 600000 -> 22500, 1200000 -> 102500, 120000 -> 0
+        assertEquals(22500 + 102500, partition.getTotalTaxAmount(), 0.001);
+        verify(partitionRepository, times(3)).save(partition);
+        assertEquals(TaxRunStatus.COMPLETED, run.getStatus());
+        assertEquals(3, run.getEmployeesProcessed());
+        verify(taxRunRepository).save(run);
+    }
+
+    @Test
+    public void testProcess_StopsWhenLeaseTakenOver() {
+        TaxRun run = run();
+        TaxRunPartition partition = partition(5, 6);
+        when(employeeRepository.findTaxViewsInBucketAfter(eq(5), eq(""), any(Pageable.class)))
+                .thenReturn(Collections.singletonList(employee("E001", 50000)));
+        when(partitionRepository.save(any(TaxRunPartition.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(TaxRunPartition.class, "run-1:0"));
+
+        distributedTaxRunService.process(run, partition);
+
+        assertEquals(TaxRunStatus.RUNNING, run.getStatus());
+        verify(taxRunRepository, never()).save(any());
+        verify(partitionRepository, never()).findByRunIdOrderByPartitionNo(anyString());
+    }
+
+    @Test
+    public void testClaim_TakesOverExpiredLease() {
+        TaxRunPartition partition = partition(0, 16);
+        partition.setOwner("node-b");
+        partition.setLeaseExpiresAt(1000);
+        when(partitionRepository.save(partition)).thenReturn(partition);
+
+        Optional<TaxRunPartition> claimed = distributedTaxRunService.claim(partition, 5000);
+
+        assertTrue(claimed.isPresent());
+        assertEquals("node-a", claimed.get().getOwner());
+        assertEquals(TaxRunPartitionStatus.LEASED, claimed.get().getStatus());
+        assertTrue(claimed.get().getLeaseExpiresAt() > 5000);
+    }
+
+    @Test
+    public void testClaimNext_SkipsPartitionClaimedByAnotherNode() {
+        TaxRun run = run();
+        TaxRunPartition taken = partition(0, 512);
+        TaxRunPartition free = partition(512, 1024);
+        free.setPartitionNo(1);
+        when(taxRunRepository.findByStatusAndPartitionsGreaterThan(TaxRunStatus.RUNNING, 0))
+                .thenReturn(Collections.singletonList(run));
+        when(partitionRepository.findClaimable(eq("run-1"), anyLong())).thenReturn(Arrays.asList(taken, free));
+        when(partitionRepository.save(taken))
+                .thenThrow(new ObjectOptimisticLockingFailureException(TaxRunPartition.class, "run-1:0"));
+        when(partitionRepository.save(free)).thenReturn(free);
+
+        Optional<DistributedTaxRunService.Lease> lease = distributedTaxRunService.claimNext();
+
+        assertTrue(lease.isPresent());
+        assertEquals(1, lease.get().partition().getPartitionNo());
+    }
+
+    @Test
+    public void testClaimNext_FailsPartitionOutOfAttempts() {
+        TaxRun run = run();
+        TaxRunPartition partition = partition(0, 1024);
+        partition.setLeaseExpiresAt(1000);
+        partition.setAttempts(3);
+        when(taxRunRepository.findByStatusAndPartitionsGreaterThan(TaxRunStatus.RUNNING, 0))
+                .thenReturn(Collections.singletonList(run));
+        when(partitionRepository.findClaimable(eq("run-1"), anyLong())).thenReturn(Collections.singletonList(partition));
+        when(partitionRepository.findByRunIdOrderByPartitionNo("run-1")).thenReturn(Collections.singletonList(partition));
+
+        Optional<DistributedTaxRunService.Lease> lease = distributedTaxRunService.claimNext();
+
+        assertFalse(lease.isPresent());
+        assertEquals(TaxRunPartitionStatus.FAILED, partition.getStatus());
+        assertEquals(3, partition.getAttempts());
+        assertEquals(TaxRunStatus.FAILED, run.getStatus());
+        assertEquals("Partition 0 failed after 3 attempts", run.getFailureReason());
+        verify(taxRunRepository).save(run);
+    }
+
+    @Test
+    public void testBucketOf_SpreadsSequentialIdsEvenly() {
+        int[] counts = new int[TaxRunPartition.BUCKETS];
+        int ids = 200_000;
+        for (int i = 0; i < ids; i++) {
+            counts[TaxRunPartition.bucketOf(String.format("E%06d", i))]++;
+        }
+        int mean = ids / TaxRunPartition.BUCKETS;
+        for (int count : counts) {
+            assertTrue(count > mean * 0.6 && count < mean * 1.4, "bucket count " + count);
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.employee.service;
+
+import com.employee.entity.Employee;
+import com.employee.entity.EmployeeChange;
+import com.employee.entity.EmployeeChangeType;
+import com.employee.event.EmployeeSavedEvent;
+import com.employee.repository.EmployeeChangeRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class EmployeeChangeFeedServiceTests {
+
+    @Mock
+    private EmployeeChangeRepository employeeChangeRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @InjectMocks
+    private EmployeeChangeFeedService changeFeedService;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(changeFeedService, "pollMillis", 50L);
+    }
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 6, 1, 12, 0);
+
+    private EmployeeChange change(long seq, LocalDateTime recordedAt) {
+        EmployeeChange change = new EmployeeChange();
+        change.setSeq(seq);
+        change.setEmployeeId("E" + seq);
+        change.setChangeType(EmployeeChangeType.CREATED);
+        change.setRecordedAt(recordedAt);
+        change.setPayload("{}");
+        return change;
+    }
+
+    private List<EmployeeChange> settled(long... seqs) {
+        return Arrays.stream(seqs).mapToObj(seq -> change(seq, NOW.minusHours(1))).toList();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testRecord_WritesOneBatchWithJsonPayloads() {
+        Employee employee = new Employee();
+        employee.setEmployeeId("E001");
+        employee.setFirstName("John");
+        employee.setDoj(LocalDate.of(2023, 5, 16));
+        Employee other = new Employee();
+        other.setEmployeeId("E002");
+
+        changeFeedService.record(List.of(employee, other), EmployeeChangeType.CREATED);
+
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(1)).batchUpdate(eq(EmployeeChangeFeedService.INSERT_SQL), rows.capture());
+        assertEquals(2, rows.getValue().size());
+        assertEquals("E001", rows.getValue().get(0)[0]);
+        assertEquals("CREATED", rows.getValue().get(0)[1]);
+        assertTrue(((String) rows.getValue().get(0)[2]).contains("\"doj\":\"2023-05-16\""));
+    }
+
+    @Test
+    public void testRecord_NothingToWrite() {
+        changeFeedService.record(Collections.emptyList(), EmployeeChangeType.CREATED);
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    public void testReadAfter_StopsBeforeRecentGapAndPassesSettledGap() {
+        when(jdbcTemplate.queryForObject(EmployeeChangeFeedService.NOW_SQL, LocalDateTime.class)).thenReturn(NOW);
+        when(employeeChangeRepository.findBySeqGreaterThanOrderBySeqAsc(eq(10L), any(Pageable.class)))
+                .thenReturn(List.of(change(11, NOW), change(13, NOW.minusSeconds(6)), change(14, NOW),
+                        change(16, NOW.minusSeconds(1)), change(17, NOW)));
+
+        List<EmployeeChange> changes = changeFeedService.readAfter(10, 100);
+
+        assertEquals(List.of(11L, 13L, 14L), changes.stream().map(EmployeeChange::getSeq).toList());
+        verify(jdbcTemplate, times(1)).queryForObject(EmployeeChangeFeedService.NOW_SQL, LocalDateTime.class);
+    }
+
+    @Test
+    public void testReadAfter_NoGapDoesNotReadDatabaseClock() {
+        when(employeeChangeRepository.findBySeqGreaterThanOrderBySeqAsc(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(change(1, NOW), change(2, NOW)));
+
+        assertEquals(2, changeFeedService.readAfter(0, 100).size());
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    public void testReadAfter_CapsBatchSize() {
+        when(employeeChangeRepository.findBySeqGreaterThanOrderBySeqAsc(anyLong(), any(Pageable.class)))
+                .thenReturn(Collections.emptyList());
+
+        changeFeedService.readAfter(0, 1_000_000);
+        changeFeedService.readAfter(0, 0);
+
+        verify(employeeChangeRepository).findBySeqGreaterThanOrderBySeqAsc(0L, PageRequest.of(0, 1000));
+        verify(employeeChangeRepository).findBySeqGreaterThanOrderBySeqAsc(0L, PageRequest.of(0, 1));
+    }
+
+    @Test
+    public void testSettledSeq_LastChangeOlderThanGapWait() {
+        when(jdbcTemplate.queryForObject(EmployeeChangeFeedService.NOW_SQL, LocalDateTime.class)).thenReturn(NOW);
+        when(employeeChangeRepository.findFirstByRecordedAtBeforeOrderBySeqDesc(NOW.minusSeconds(5)))
+                .thenReturn(Optional.of(change(42, NOW.minusSeconds(6))));
+
+        assertEquals(42, changeFeedService.settledSeq());
+    }
+
+    @Test
+    public void testSettledSeq_ZeroWithoutSettledChanges() {
+        when(jdbcTemplate.queryForObject(EmployeeChangeFeedService.NOW_SQL, LocalDateTime.class)).thenReturn(NOW);
+        when(employeeChangeRepository.findFirstByRecordedAtBeforeOrderBySeqDesc(any(LocalDateTime.class)))
+                .thenReturn(Optional.empty());
+
+        assertEquals(0, changeFeedService.settledSeq());
+    }
+
+    @Test
+    public void testPoll_ReturnsEmptyAfterWaiting() {
+        when(employeeChangeRepository.findBySeqGreaterThanOrderBySeqAsc(anyLong(), any(Pageable.class)))
+                .thenReturn(Collections.emptyList());
+
+        long start = System.nanoTime();
+        List<EmployeeChange> changes = changeFeedService.poll(5, 100, Duration.ofMillis(200)).block(Duration.ofSeconds(5));
+
+        assertTrue(changes.isEmpty());
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(200));
+        verify(employeeChangeRepository, atLeast(2)).findBySeqGreaterThanOrderBySeqAsc(eq(5L), any(Pageable.class));
+    }
+
+    @Test
+    public void testPoll_WakesOnLocalWrite() {
+        ReflectionTestUtils.setField(changeFeedService, "pollMillis", 60_000L);
+        when(employeeChangeRepository.findBySeqGreaterThanOrderBySeqAsc(anyLong(), any(Pageable.class)))
+                .thenReturn(Collections.emptyList())
+                .thenReturn(settled(1));
+
+        CompletableFuture<List<EmployeeChange>> result = changeFeedService.poll(0, 100, Duration.ofSeconds(30)).toFuture();
+        verify(employeeChangeRepository, timeout(5000)).findBySeqGreaterThanOrderBySeqAsc(eq(0L), any(Pageable.class));
+        changeFeedService.onEmployeeSaved(new EmployeeSavedEvent("E001"));
+
+        assertEquals(1, result.orTimeout(5, TimeUnit.SECONDS).join().size());
+    }
+
+    @Test
+    public void testStream_ContinuesFromLastSeq() {
+        when(employeeChangeRepository.findBySeqGreaterThanOrderBySeqAsc(eq(0L), any(Pageable.class)))
+                .thenReturn(settled(1, 2));
+        when(employeeChangeRepository.findBySeqGreaterThanOrderBySeqAsc(eq(2L), any(Pageable.class)))
+                .thenReturn(settled(3));
+
+        List<List<EmployeeChange>> batches = changeFeedService.stream(0, 100, Duration.ofSeconds(1))
+                .take(2).collectList().block(Duration.ofSeconds(5));
+
+        assertEquals(List.of(1L, 2L), batches.get(0).stream().map(EmployeeChange::getSeq).toList());
+        assertEquals(List.of(3L), batches.get(1).stream().map(EmployeeChange::getSeq).toList());
+    }
+}
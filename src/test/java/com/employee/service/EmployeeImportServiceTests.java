@@ -0,0 +1,152 @@
+package com.employee.service;
+
+import com.employee.cache.EmployeeContactIndex;
+import com.employee.dto.ImportReport;
+import com.employee.entity.Employee;
+import com.employee.entity.EmployeeChangeType;
+import com.employee.repository.EmployeeRepository;
+import com.employee.validation.EmployeeValidator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class EmployeeImportServiceTests {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private EmployeeChangeFeedService changeFeedService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Spy
+    private EmployeeValidator employeeValidator = new EmployeeValidator("E", 3, 9);
+
+    @Spy
+    private EmployeeContactIndex contactIndex = new EmployeeContactIndex();
+
+    @InjectMocks
+    private EmployeeImportService employeeImportService;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(contactIndex, "employeeRepository", employeeRepository);
+    }
+
+    @Test
+    public void testImportCsv_ReportsInvalidAndDuplicateRows() throws Exception {
+        String csv = "employeeId,firstName,lastName,email,phoneNumbers,doj,salary\n"
+                + "E001,John,Doe,john@example.com,1234567890;0987654321,2023-05-16,50000\n"
+                + "E002,Jane,Doe,jane@example.com,12345,2023-05-16,60000\n"
+                + "E003,Jim,Doe,jim@example.com,1234567890,2023-05-16,70000\n"
+                + "E004,Joe,Doe,joe@example.com,1234567890,not-a-date,70000\n";
+        when(employeeRepository.findExistingEmployeeIds(anyCollection())).thenReturn(Collections.singleton("E003"));
+
+        ImportReport report = employeeImportService.importEmployees(
+                new MockMultipartFile("file", "employees.csv", "text/csv", csv.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(4, report.getTotalRows());
+        assertEquals(1, report.getImportedRows());
+        assertEquals(3, report.getFailedRows());
+        assertEquals(Arrays.asList(2L, 4L, 3L), report.getErrors().stream().map(ImportReport.RowError::getRow).toList());
+        assertEquals("Employee ID already exists", report.getErrors().get(2).getMessages().get(0));
+        verify(entityManager, times(1)).persist(any(Employee.class));
+        verify(employeeRepository, times(1)).findExistingEmployeeIds(anyCollection());
+        verify(changeFeedService).record(argThat(employees -> employees.size() == 1
+                && "E001".equals(employees.get(0).getEmployeeId())), eq(EmployeeChangeType.CREATED));
+    }
+
+    @Test
+    public void testImportJson() throws Exception {
+        String json = "[{\"employeeId\":\"E001\",\"firstName\":\"John\",\"lastName\":\"Doe\",\"email\":\"john@example.com\","
+                + "\"phoneNumbers\":[\"1234567890\"],\"doj\":\"2023-05-16\",\"salary\":50000},"
+                + "{\"employeeId\":\"E002\",\"salary\":\"lots\"}]";
+        when(employeeRepository.findExistingEmployeeIds(anyCollection())).thenReturn(Collections.emptySet());
+
+        ImportReport report = employeeImportService.importEmployees(
+                new MockMultipartFile("file", "employees.json", "application/json", json.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(2, report.getTotalRows());
+        assertEquals(1, report.getImportedRows());
+        assertEquals("E002", report.getErrors().get(0).getEmployeeId());
+    }
+
+    @Test
+    public void testImportList_ValidatesAndWritesOneBatch() {
+        Employee valid = new Employee();
+        valid.setEmployeeId("E1000001");
+        valid.setFirstName("John");
+        valid.setLastName("Doe");
+        valid.setEmail("john@example.com");
+        valid.setPhoneNumbers(Collections.singletonList("1234567890"));
+        valid.setDoj(LocalDate.of(2023, 5, 16));
+        valid.setSalary(50000.0);
+        Employee invalid = new Employee();
+        invalid.setEmployeeId("X1");
+        when(employeeRepository.findExistingEmployeeIds(anyCollection())).thenReturn(Collections.emptySet());
+
+        ImportReport report = employeeImportService.importEmployees(Arrays.asList(valid, invalid, null));
+
+        assertEquals(3, report.getTotalRows());
+        assertEquals(1, report.getImportedRows());
+        assertEquals(2, report.getFailedRows());
+        assertTrue(report.getErrors().get(0).getMessages().contains("Employee ID must be 'E' followed by 3 to 9 digits"));
+        verify(entityManager, times(1)).persist(valid);
+    }
+
+    @Test
+    public void testImportCsv_RejectsDuplicateEmails() throws Exception {
+        String csv = "employeeId,firstName,lastName,email,phoneNumbers,doj,salary\n"
+                + "E001,John,Doe,john@example.com,1234567890,2023-05-16,50000\n"
+                + "E002,Jane,Doe,JOHN@example.com,1234567890,2023-05-16,60000\n"
+                + "E003,Jim,Doe,taken@example.com,1234567890,2023-05-16,70000\n";
+        when(employeeRepository.findExistingEmployeeIds(anyCollection())).thenReturn(Collections.emptySet());
+        when(employeeRepository.existsByEmail("taken@example.com")).thenReturn(true);
+
+        ImportReport report = employeeImportService.importEmployees(
+                new MockMultipartFile("file", "employees.csv", "text/csv", csv.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(1, report.getImportedRows());
+        assertEquals(Arrays.asList(2L, 3L), report.getErrors().stream().map(ImportReport.RowError::getRow).toList());
+        assertEquals("Email already exists", report.getErrors().get(0).getMessages().get(0));
+        ReflectionTestUtils.invokeMethod(contactIndex, "markLoaded");
+        assertEquals(Collections.singletonList("E001"), contactIndex.findByPhoneNumber("1234567890"));
+        verify(entityManager, times(1)).persist(any(Employee.class));
+    }
+
+    @Test
+    public void testParseCsvLine_HandlesQuotes() {
+        assertEquals(Arrays.asList("E001", "Smith, Jr.", "say \"hi\""),
+                EmployeeImportService.parseCsvLine("E001,\"Smith, Jr.\",\"say \"\"hi\"\"\""));
+    }
+}
@@ -0,0 +1,65 @@
+package com.employee.service;
+
+import com.employee.dto.EmployeeTaxView;
+import com.employee.repository.EmployeeRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class EmployeeLookupCoalescerTests {
+
+    private final EmployeeRepository employeeRepository = mock(EmployeeRepository.class);
+
+    private EmployeeLookupCoalescer coalescer(Duration window) {
+        EmployeeLookupCoalescer coalescer = new EmployeeLookupCoalescer(window, 500);
+        ReflectionTestUtils.setField(coalescer, "employeeRepository", employeeRepository);
+        return coalescer;
+    }
+
+    @Test
+    public void testLookup_WithoutWindowQueriesDirectly() {
+        EmployeeTaxView employee = new EmployeeTaxView("E001", "John", "Doe", 50000.0, LocalDate.now());
+        when(employeeRepository.findTaxViewById("E001")).thenReturn(Optional.of(employee));
+
+        assertSame(employee, coalescer(Duration.ZERO).lookup("E001").get());
+        verify(employeeRepository, never()).findTaxViewsByIds(anyCollection());
+    }
+
+    @Test
+    public void testLookup_MergesConcurrentRequests() throws Exception {
+        EmployeeTaxView employee = new EmployeeTaxView("E001", "John", "Doe", 50000.0, LocalDate.now());
+        when(employeeRepository.findTaxViewsByIds(anyCollection())).thenReturn(Collections.singletonList(employee));
+        EmployeeLookupCoalescer coalescer = coalescer(Duration.ofMillis(200));
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<Optional<EmployeeTaxView>>> lookups = new ArrayList<>();
+        for (String id : new String[] {"E001", "E001", "E404"}) {
+            lookups.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                return coalescer.lookup(id);
+            }));
+        }
+        start.countDown();
+
+        assertSame(employee, lookups.get(0).get().get());
+        assertSame(employee, lookups.get(1).get().get());
+        assertFalse(lookups.get(2).get().isPresent());
+        verify(employeeRepository, times(1)).findTaxViewsByIds(anyCollection());
+        verify(employeeRepository, never()).findTaxViewById(anyString());
+    }
+}
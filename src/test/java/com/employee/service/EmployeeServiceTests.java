@@ -1,16 +1,27 @@
 package com.employee.service;
 
+import com.employee.cache.EmployeeContactIndex;
+import com.employee.cache.EmployeeIdFilter;
 import com.employee.entity.Employee;
+import com.employee.entity.EmployeeChangeType;
+import com.employee.event.EmployeeSavedEvent;
 import com.employee.exception.EmployeeNotFoundException;
 import com.employee.repository.EmployeeRepository;
+import com.employee.tax.TaxEngine;
+import com.employee.tax.TaxRegimeProperties;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.LocalDate;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -22,12 +33,42 @@ public class EmployeeServiceTests {
     @Mock
     private EmployeeRepository employeeRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private EmployeeWriteBehindService writeBehindService;
+
+    @Mock
+    private EmployeeChangeFeedService changeFeedService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private EmployeeIdFilter employeeIdFilter = new EmployeeIdFilter(1000, 0.01);
+
+    @Spy
+    private TaxEngine taxEngine = new TaxEngine(new TaxRegimeProperties());
+
+    @Spy
+    private EmployeeContactIndex contactIndex = new EmployeeContactIndex();
+
     @InjectMocks
     private EmployeeService employeeService;
 
     @BeforeEach
     public void setUp() {
         MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(contactIndex, "employeeRepository", employeeRepository);
+    }
+
+    private Employee employee(String employeeId, String email) {
+        Employee employee = new Employee();
+        employee.setEmployeeId(employeeId);
+        employee.setEmail(email);
+        employee.setPhoneNumbers(List.of("1234567890"));
+        return employee;
     }
 
     @Test
@@ -41,6 +82,9 @@ public class EmployeeServiceTests {
         assertNotNull(savedEmployee);
         assertEquals(employee.getEmployeeId(), savedEmployee.getEmployeeId());
         verify(employeeRepository, times(1)).save(employee);
+        verify(changeFeedService).record(List.of(employee), EmployeeChangeType.CREATED);
+        verify(transactionManager).commit(any());
+        verify(eventPublisher).publishEvent(any(EmployeeSavedEvent.class));
     }
 
     @Test
@@ -56,6 +100,48 @@ public class EmployeeServiceTests {
         verify(employeeRepository, never()).save(employee);
     }
 
+    @Test
+    public void testSaveEmployee_DuplicateEmailRejectedWithoutQuery() {
+        contactIndex.add(employee("E001", "john@example.com"));
+        ReflectionTestUtils.invokeMethod(contactIndex, "markLoaded");
+
+        RuntimeException thrown = assertThrows(RuntimeException.class, () -> {
+            employeeService.saveEmployee(employee("E002", "John@Example.com"));
+        });
+
+        assertEquals("Email already exists", thrown.getMessage());
+        verify(employeeRepository, never()).existsByEmail(anyString());
+        verify(employeeRepository, never()).save(any(Employee.class));
+    }
+
+    @Test
+    public void testSaveEmployee_FailedSaveReleasesEmail() {
+        Employee employee = employee("E001", "john@example.com");
+        when(employeeRepository.save(employee)).thenThrow(new RuntimeException("connection reset"));
+
+        assertThrows(RuntimeException.class, () -> employeeService.saveEmployee(employee));
+
+        assertTrue(contactIndex.reserveEmail("john@example.com", "E002"));
+        verify(transactionManager).rollback(any());
+        verify(changeFeedService, never()).record(anyList(), any());
+    }
+
+    @Test
+    public void testFindByPhoneNumber_UsesIndexedIds() {
+        Employee saved = employee("E001", "john@example.com");
+        when(employeeRepository.save(saved)).thenReturn(saved);
+        employeeService.saveEmployee(saved);
+        ReflectionTestUtils.invokeMethod(contactIndex, "markLoaded");
+        when(employeeRepository.findWithPhoneNumbersByEmployeeIdInOrderByEmployeeIdAsc(List.of("E001")))
+                .thenReturn(List.of(saved));
+
+        assertEquals(List.of(saved), employeeService.findByPhoneNumber("1234567890"));
+        assertEquals(List.of(saved), employeeService.findByEmail("JOHN@example.com"));
+        assertTrue(employeeService.findByPhoneNumber("0000000000").isEmpty());
+        verify(employeeRepository, never()).findEmployeeIdsByPhoneNumber("1234567890");
+        verify(employeeRepository, times(1)).findEmployeeIdsByPhoneNumber("0000000000");
+    }
+
     @Test
     public void testCalculateTaxDeductions() {
         Employee employee = new Employee("E123", "John", "Doe", 50000, LocalDate.of(2022, 4, 1));
@@ -103,4 +189,16 @@ public class EmployeeServiceTests {
             employeeService.getEmployeeById("1");
         });
     }
+
+    @Test
+    public void testGetEmployeeById_FilterRejectsWithoutQuery() {
+        when(employeeIdFilter.mightContain("404")).thenReturn(false);
+
+        EmployeeNotFoundException ex = assertThrows(EmployeeNotFoundException.class, () -> {
+            employeeService.getEmployeeById("404");
+        });
+
+        assertEquals(0, ex.getStackTrace().length);
+        verify(employeeRepository, never()).findById(anyString());
+    }
 }
@@ -0,0 +1,250 @@
+package com.employee.service;
+
+import com.employee.cache.EmployeeContactIndex;
+import com.employee.dto.WriteBehindStatus;
+import com.employee.entity.Employee;
+import com.employee.entity.EmployeeChangeType;
+import com.employee.event.EmployeeSavedEvent;
+import com.employee.repository.EmployeeRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class EmployeeWriteBehindServiceTests {
+
+    @TempDir
+    Path dir;
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private EmployeeChangeFeedService changeFeedService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Spy
+    private EmployeeContactIndex contactIndex = new EmployeeContactIndex();
+
+    @InjectMocks
+    private EmployeeWriteBehindService writeBehindService;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(contactIndex, "employeeRepository", employeeRepository);
+        configure(writeBehindService);
+        writeBehindService.open();
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        writeBehindService.close();
+    }
+
+    private void configure(EmployeeWriteBehindService service) {
+        ReflectionTestUtils.setField(service, "enabled", true);
+        ReflectionTestUtils.setField(service, "directory", dir.toString());
+        ReflectionTestUtils.setField(service, "fsync", false);
+    }
+
+    private Employee employee(String employeeId) {
+        Employee employee = new Employee();
+        employee.setEmployeeId(employeeId);
+        employee.setFirstName("John");
+        employee.setLastName("Doe");
+        employee.setEmail(employeeId + "@example.com");
+        employee.setPhoneNumbers(Collections.singletonList("1234567890"));
+        employee.setDoj(LocalDate.of(2023, 5, 16));
+        employee.setSalary(50000.0);
+        return employee;
+    }
+
+    @Test
+    public void testAccept_ServesPendingAndRejectsDuplicate() {
+        WriteBehindStatus status = writeBehindService.accept(employee("E001")).get();
+
+        assertEquals(WriteBehindStatus.State.PENDING, status.getState());
+        assertEquals("E001", writeBehindService.getPending("E001").get().getEmployeeId());
+        assertFalse(writeBehindService.accept(employee("E001")).isPresent());
+        verifyNoInteractions(entityManager);
+    }
+
+    @Test
+    public void testDrain_PersistsAndCheckpoints() throws Exception {
+        String persisted = writeBehindService.accept(employee("E001")).get().getTrackingId();
+        String duplicate = writeBehindService.accept(employee("E002")).get().getTrackingId();
+        when(employeeRepository.findExistingEmployeeIds(anyCollection())).thenReturn(Collections.singleton("E002"));
+
+        writeBehindService.drain();
+
+        assertEquals(WriteBehindStatus.State.PERSISTED, writeBehindService.getStatus(persisted).get().getState());
+        assertEquals(WriteBehindStatus.State.FAILED, writeBehindService.getStatus(duplicate).get().getState());
+        assertFalse(writeBehindService.getPending("E001").isPresent());
+        assertEquals(0, writeBehindService.pendingCount());
+        assertEquals("2", Files.readString(dir.resolve(EmployeeWriteBehindService.CHECKPOINT_FILE)));
+        verify(entityManager, times(1)).persist(any(Employee.class));
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof EmployeeSavedEvent
+                && "E001".equals(((EmployeeSavedEvent) event).getEmployeeId())));
+        verify(changeFeedService).record(argThat(employees -> employees.size() == 1
+                && "E001".equals(employees.get(0).getEmployeeId())), eq(EmployeeChangeType.CREATED));
+    }
+
+    @Test
+    public void testDrain_FailsDuplicateEmail() {
+        writeBehindService.accept(employee("E001"));
+        Employee sameEmail = employee("E002");
+        sameEmail.setEmail("E001@example.com");
+        String duplicate = writeBehindService.accept(sameEmail).get().getTrackingId();
+        when(employeeRepository.findExistingEmployeeIds(anyCollection())).thenReturn(Collections.emptySet());
+
+        writeBehindService.drain();
+
+        assertEquals(WriteBehindStatus.State.FAILED, writeBehindService.getStatus(duplicate).get().getState());
+        assertEquals("Email already exists", writeBehindService.getStatus(duplicate).get().getMessage());
+        verify(entityManager, times(1)).persist(any(Employee.class));
+    }
+
+    @Test
+    public void testDrain_KeepsBatchPendingWhenDatabaseIsDown() {
+        writeBehindService.accept(employee("E001"));
+        writeBehindService.accept(employee("E002"));
+        when(employeeRepository.findExistingEmployeeIds(anyCollection()))
+                .thenThrow(new DataAccessResourceFailureException("database down"));
+
+        writeBehindService.drain();
+
+        assertEquals(2, writeBehindService.pendingCount());
+        assertTrue(writeBehindService.getPending("E001").isPresent());
+        verify(employeeRepository, times(1)).findExistingEmployeeIds(anyCollection());
+    }
+
+    @Test
+    public void testDrain_FailsRejectedRowAndWritesTheRest() throws Exception {
+        String written = writeBehindService.accept(employee("E001")).get().getTrackingId();
+        String rejected = writeBehindService.accept(employee("E002")).get().getTrackingId();
+        writeBehindService.accept(employee("E003"));
+        when(employeeRepository.findExistingEmployeeIds(anyCollection())).thenReturn(Collections.emptySet());
+        doThrow(new PersistenceException("Duplicate entry for key 'uk_employee_email'"))
+                .when(entityManager).persist(argThat((Employee employee) -> "E002".equals(employee.getEmployeeId())));
+
+        writeBehindService.drain();
+
+        assertEquals(WriteBehindStatus.State.PERSISTED, writeBehindService.getStatus(written).get().getState());
+        assertEquals(WriteBehindStatus.State.FAILED, writeBehindService.getStatus(rejected).get().getState());
+        assertTrue(writeBehindService.getStatus(rejected).get().getMessage().contains("uk_employee_email"));
+        assertEquals(0, writeBehindService.pendingCount());
+        assertEquals("3", Files.readString(dir.resolve(EmployeeWriteBehindService.CHECKPOINT_FILE)));
+        assertTrue(contactIndex.reserveEmail("E002@example.com", "E009"));
+        verify(eventPublisher, times(2)).publishEvent(any(EmployeeSavedEvent.class));
+    }
+
+    @Test
+    public void testDrain_CountsReplayedExistingIdAsPersisted() throws Exception {
+        String replayed = writeBehindService.accept(employee("E001")).get().getTrackingId();
+
+        EmployeeWriteBehindService restarted = new EmployeeWriteBehindService();
+        ReflectionTestUtils.setField(restarted, "employeeRepository", employeeRepository);
+        ReflectionTestUtils.setField(restarted, "entityManager", entityManager);
+        ReflectionTestUtils.setField(restarted, "transactionManager", transactionManager);
+        ReflectionTestUtils.setField(restarted, "eventPublisher", eventPublisher);
+        ReflectionTestUtils.setField(restarted, "objectMapper", objectMapper);
+        ReflectionTestUtils.setField(restarted, "contactIndex", contactIndex);
+        ReflectionTestUtils.setField(restarted, "changeFeedService", changeFeedService);
+        configure(restarted);
+        restarted.open();
+        String duplicate = restarted.accept(employee("E002")).get().getTrackingId();
+        when(employeeRepository.findExistingEmployeeIds(anyCollection())).thenReturn(Set.of("E001", "E002"));
+        when(employeeRepository.findAllById(List.of("E001"))).thenReturn(List.of(employee("E001")));
+
+        restarted.drain();
+        restarted.close();
+
+        assertEquals(WriteBehindStatus.State.PERSISTED, restarted.getStatus(replayed).get().getState());
+        assertEquals("Employee ID already exists", restarted.getStatus(duplicate).get().getMessage());
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof EmployeeSavedEvent
+                && "E001".equals(((EmployeeSavedEvent) event).getEmployeeId())));
+        verify(entityManager, never()).persist(any(Employee.class));
+    }
+
+    @Test
+    public void testDrain_FailsReplayedIdOwnedByAnotherEmployee() throws Exception {
+        String replayed = writeBehindService.accept(employee("E001")).get().getTrackingId();
+
+        EmployeeWriteBehindService restarted = new EmployeeWriteBehindService();
+        ReflectionTestUtils.setField(restarted, "employeeRepository", employeeRepository);
+        ReflectionTestUtils.setField(restarted, "entityManager", entityManager);
+        ReflectionTestUtils.setField(restarted, "transactionManager", transactionManager);
+        ReflectionTestUtils.setField(restarted, "eventPublisher", eventPublisher);
+        ReflectionTestUtils.setField(restarted, "objectMapper", objectMapper);
+        ReflectionTestUtils.setField(restarted, "contactIndex", contactIndex);
+        ReflectionTestUtils.setField(restarted, "changeFeedService", changeFeedService);
+        configure(restarted);
+        restarted.open();
+        Employee other = employee("E001");
+        other.setEmail("someone.else@example.com");
+        when(employeeRepository.findExistingEmployeeIds(anyCollection())).thenReturn(Set.of("E001"));
+        when(employeeRepository.findAllById(List.of("E001"))).thenReturn(List.of(other));
+
+        restarted.drain();
+        restarted.close();
+
+        assertEquals(WriteBehindStatus.State.FAILED, restarted.getStatus(replayed).get().getState());
+        assertEquals("Employee ID already exists", restarted.getStatus(replayed).get().getMessage());
+        verify(eventPublisher, never()).publishEvent(any(EmployeeSavedEvent.class));
+    }
+
+    @Test
+    public void testOpen_ReplaysRecordsAfterCheckpoint() throws Exception {
+        writeBehindService.accept(employee("E001"));
+        when(employeeRepository.findExistingEmployeeIds(anyCollection())).thenReturn(Collections.emptySet());
+        writeBehindService.drain();
+        writeBehindService.accept(employee("E002"));
+        writeBehindService.accept(employee("E003"));
+        Files.writeString(dir.resolve(EmployeeWriteBehindService.QUEUE_FILE), "{\"seq\":4,\"tracki",
+                java.nio.file.StandardOpenOption.APPEND);
+
+        EmployeeWriteBehindService restarted = new EmployeeWriteBehindService();
+        ReflectionTestUtils.setField(restarted, "objectMapper", objectMapper);
+        configure(restarted);
+        restarted.open();
+
+        assertEquals(2, restarted.pendingCount());
+        assertTrue(restarted.getPending("E003").isPresent());
+        assertFalse(restarted.getPending("E001").isPresent());
+        assertEquals("E004", restarted.accept(employee("E004")).get().getEmployeeId());
+    }
+}
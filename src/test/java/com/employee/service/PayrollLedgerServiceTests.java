@@ -0,0 +1,109 @@
+package com.employee.service;
+
+import com.employee.dto.EmployeeTaxView;
+import com.employee.entity.PayrollLedgerEntry;
+import com.employee.repository.PayrollLedgerRepository;
+import com.employee.tax.TaxEngine;
+import com.employee.tax.TaxRegime;
+import com.employee.tax.TaxRegimeProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class PayrollLedgerServiceTests {
+
+    @Mock
+    private PayrollLedgerRepository payrollLedgerRepository;
+
+    @Spy
+    private EmployeeService employeeService;
+
+    @Spy
+    private TaxEngine taxEngine = new TaxEngine(new TaxRegimeProperties());
+
+    @InjectMocks
+    private PayrollLedgerService payrollLedgerService;
+
+    private EmployeeTaxView employee;
+
+    private TaxRegime regime;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        employee = new EmployeeTaxView("E123", "John", "Doe", 100000.0, LocalDate.of(2020, 1, 1));
+        regime = taxEngine.regime("old", 2024);
+    }
+
+    private PayrollLedgerEntry entry(int payMonth, int financialYear, double ytdGross) {
+        PayrollLedgerEntry entry = new PayrollLedgerEntry();
+        entry.setEmployeeId("E123");
+        entry.setPayMonth(payMonth);
+        entry.setFinancialYear(financialYear);
+        entry.setYtdGross(ytdGross);
+        entry.setYtdTax(regime.tax(ytdGross));
+        entry.setYtdCess(regime.cess(ytdGross));
+        return entry;
+    }
+
+    @Test
+    public void testNextEntry_AddsToPreviousMonth() {
+        PayrollLedgerEntry next = payrollLedgerService.nextEntry(employee, entry(202405, 2024, 950000), 202406, 2024,
+                LocalDate.of(2024, 6, 30), regime);
+
+        assertEquals(1050000, next.getYtdGross());
+        assertEquals(regime.tax(1050000), next.getYtdTax());
+        assertEquals(202406, next.getPayMonth());
+    }
+
+    @Test
+    public void testNextEntry_ResetsAtFinancialYearStart() {
+        PayrollLedgerEntry next = payrollLedgerService.nextEntry(employee, entry(202503, 2024, 1200000), 202504, 2025,
+                LocalDate.of(2025, 4, 30), regime);
+
+        assertEquals(100000, next.getYtdGross());
+    }
+
+    @Test
+    public void testNextEntry_BootstrapsWithoutHistory() {
+        PayrollLedgerEntry next = payrollLedgerService.nextEntry(employee, null, 202406, 2024,
+                LocalDate.of(2024, 6, 30), regime);
+
+        assertEquals(300000, next.getYtdGross());
+    }
+
+    @Test
+    public void testGetYearToDate_ReadsClosedMonth() {
+        PayrollLedgerEntry closed = entry(202406, 2024, 300000);
+        when(payrollLedgerRepository.findFirstByEmployeeIdAndFinancialYearAndPayMonthLessThanEqualOrderByPayMonthDesc(
+                "E123", 2024, 202406)).thenReturn(Optional.of(closed));
+
+        assertSame(closed, payrollLedgerService.getYearToDate(employee, LocalDate.of(2024, 6, 15)).get());
+    }
+
+    @Test
+    public void testGetYearToDate_ExtendsPreviousMonth() {
+        when(payrollLedgerRepository.findFirstByEmployeeIdAndFinancialYearAndPayMonthLessThanEqualOrderByPayMonthDesc(
+                "E123", 2024, 202407)).thenReturn(Optional.of(entry(202406, 2024, 300000)));
+
+        assertEquals(400000, payrollLedgerService.getYearToDate(employee, LocalDate.of(2024, 7, 15)).get().getYtdGross());
+    }
+
+    @Test
+    public void testGetYearToDate_EmptyWhenLedgerIsStale() {
+        when(payrollLedgerRepository.findFirstByEmployeeIdAndFinancialYearAndPayMonthLessThanEqualOrderByPayMonthDesc(
+                "E123", 2024, 202409)).thenReturn(Optional.of(entry(202406, 2024, 300000)));
+
+        assertFalse(payrollLedgerService.getYearToDate(employee, LocalDate.of(2024, 9, 15)).isPresent());
+    }
+}
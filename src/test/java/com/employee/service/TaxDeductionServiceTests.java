@@ -0,0 +1,115 @@
+package com.employee.service;
+
+import com.employee.cache.EmployeeIdFilter;
+import com.employee.dto.EmployeeTaxInfo;
+import com.employee.dto.EmployeeTaxView;
+import com.employee.entity.PayrollLedgerEntry;
+import com.employee.repository.EmployeeRepository;
+import com.employee.tax.FinancialYearCalendar;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class TaxDeductionServiceTests {
+
+    @Mock
+    private EmployeeService employeeService;
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private PayrollLedgerService payrollLedgerService;
+
+    @Spy
+    private EmployeeIdFilter employeeIdFilter = new EmployeeIdFilter(1000, 0.01);
+
+    @Spy
+    private FinancialYearCalendar financialYearCalendar = new FinancialYearCalendar();
+
+    @InjectMocks
+    private TaxDeductionService taxDeductionService;
+
+    private EmployeeTaxView employee;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        employee = new EmployeeTaxView("E123", "John", "Doe", (double) 50000, LocalDate.now().withDayOfMonth(1));
+    }
+
+    @Test
+    public void testGetTaxDeductions_ComputedWithoutLedger() {
+        when(employeeService.getTaxViewById("E123")).thenReturn(Optional.of(employee));
+        when(employeeService.calculateTaxPaise(5_000_000L)).thenReturn(3_750_000L);
+
+        EmployeeTaxInfo response = taxDeductionService.getTaxDeductions("E123").get();
+
+        assertEquals(new EmployeeTaxInfo("E123", "John", "Doe", 50000.0, 37500.0, 0.0), response);
+    }
+
+    @Test
+    public void testGetTaxDeductions_ReadsLedger() {
+        PayrollLedgerEntry ledger = new PayrollLedgerEntry();
+        ledger.setYtdGross(600000);
+        ledger.setYtdTax(22500);
+        when(employeeService.getTaxViewById("E123")).thenReturn(Optional.of(employee));
+        when(payrollLedgerService.getYearToDate(eq(employee), any(LocalDate.class))).thenReturn(Optional.of(ledger));
+
+        EmployeeTaxInfo response = taxDeductionService.getTaxDeductions("E123").get();
+
+        assertEquals(600000.0, response.yearlySalary());
+        assertEquals(22500.0, response.taxAmount());
+        verify(employeeService, never()).calculateTaxPaise(anyLong());
+    }
+
+    @Test
+    public void testGetTaxDeductions_AsOfPreviousYearUsesThatYearsRegime() {
+        EmployeeTaxView joiner = new EmployeeTaxView("E123", "John", "Doe", (double) 50000, LocalDate.of(2023, 1, 15));
+        LocalDate asOf = LocalDate.of(2023, 6, 30);
+        when(employeeService.getTaxViewById("E123")).thenReturn(Optional.of(joiner));
+        when(payrollLedgerService.getYearToDate(joiner, asOf)).thenReturn(Optional.empty());
+        when(employeeService.calculateTaxPaise(15_000_000L, asOf)).thenReturn(0L);
+
+        EmployeeTaxInfo response = taxDeductionService.getTaxDeductions("E123", asOf).get();
+
+        // April to June of FY 2023 only; January to March belong to FY 2022
+        assertEquals(150000.0, response.yearlySalary());
+        verify(employeeService).calculateTaxPaise(15_000_000L, asOf);
+        verify(employeeService, never()).calculateTaxPaise(anyLong());
+    }
+
+    @Test
+    public void testGetTaxDeductions_NotFound() {
+        when(employeeService.getTaxViewById("E404")).thenReturn(Optional.empty());
+
+        assertFalse(taxDeductionService.getTaxDeductions("E404").isPresent());
+    }
+
+    @Test
+    public void testGetTaxDeductions_BatchKeepsOrderAndReportsMissing() {
+        when(employeeRepository.findTaxViewsByIds(Arrays.asList("E404", "E123")))
+                .thenReturn(Collections.singletonList(employee));
+        when(payrollLedgerService.getYearToDate(anyCollection(), any(LocalDate.class))).thenReturn(Collections.emptyMap());
+
+        List<EmployeeTaxInfo> results = taxDeductionService.getTaxDeductions(Arrays.asList("E404", "E123"));
+
+        assertEquals(2, results.size());
+        assertEquals("E404", results.get(0).employeeId());
+        assertEquals(TaxDeductionService.NOT_FOUND_MESSAGE, results.get(0).error());
+        assertEquals("John", results.get(1).firstName());
+        verify(employeeRepository, times(1)).findTaxViewsByIds(anyList());
+    }
+}
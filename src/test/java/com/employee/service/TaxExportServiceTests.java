@@ -0,0 +1,92 @@
+package com.employee.service;
+
+import com.employee.entity.Employee;
+import com.employee.repository.EmployeeRepository;
+import com.employee.tax.TaxEngine;
+import com.employee.tax.TaxRegimeProperties;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class TaxExportServiceTests {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Spy
+    private EmployeeService employeeService;
+
+    @Spy
+    private TaxEngine taxEngine = new TaxEngine(new TaxRegimeProperties());
+
+    @InjectMocks
+    private TaxExportService taxExportService;
+
+    private Employee first;
+    private Employee second;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        first = new Employee();
+        first.setEmployeeId("E001");
+        first.setFirstName("John");
+        first.setLastName("Doe");
+        first.setSalary(10000.0);
+        first.setDoj(LocalDate.now());
+
+        second = new Employee();
+        second.setEmployeeId("E002");
+        second.setFirstName("Jane");
+        second.setLastName("Smith, Jr.");
+        second.setSalary(20000.0);
+        second.setDoj(LocalDate.now());
+
+        when(employeeRepository.streamAllOrderByEmployeeId()).thenReturn(Stream.of(first, second));
+    }
+
+    @Test
+    public void testExportNdjson() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        taxExportService.exportTaxDeductions(out, TaxExportService.Format.NDJSON);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("{\"employeeId\":\"E001\",\"firstName\":\"John\",\"lastName\":\"Doe\","
+                + "\"yearlySalary\":10000.0,\"taxAmount\":0.0,\"cessAmount\":0.0}", lines[0]);
+        verify(entityManager).detach(first);
+        verify(entityManager).detach(second);
+    }
+
+    @Test
+    public void testExportCsv() throws Exception {
+        first.setSalary(12_000_000.0);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        taxExportService.exportTaxDeductions(out, TaxExportService.Format.CSV);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, lines.length);
+        assertEquals(TaxExportService.CSV_HEADER, lines[0]);
+        assertTrue(lines[1].startsWith("E001,John,Doe,12000000.00,"), lines[1]);
+        assertFalse(lines[1].contains("E7"), lines[1]);
+        assertEquals("E002,Jane,\"Smith, Jr.\",20000.00,0.00,0.00", lines[2]);
+    }
+}
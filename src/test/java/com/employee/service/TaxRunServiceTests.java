@@ -0,0 +1,112 @@
+package com.employee.service;
+
+import com.employee.entity.Employee;
+import com.employee.entity.TaxRun;
+import com.employee.entity.TaxRunStatus;
+import com.employee.repository.EmployeeRepository;
+import com.employee.tax.TaxEngine;
+import com.employee.tax.TaxRegimeProperties;
+import com.employee.repository.TaxRunRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class TaxRunServiceTests {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private TaxRunRepository taxRunRepository;
+
+    @Spy
+    private EmployeeService employeeService;
+
+    @Spy
+    private TaxEngine taxEngine = new TaxEngine(new TaxRegimeProperties());
+
+    @InjectMocks
+    private TaxRunService taxRunService;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(taxRunService, "chunkSize", 2);
+    }
+
+    private Employee employee(String id, double salary) {
+        Employee employee = new Employee();
+        employee.setEmployeeId(id);
+        employee.setSalary(salary);
+        employee.setDoj(LocalDate.of(2020, 1, 1));
+        return employee;
+    }
+
+    private TaxRun newRun() {
+        TaxRun run = new TaxRun();
+        run.setRunId("run-1");
+        run.setStatus(TaxRunStatus.RUNNING);
+        run.setAsOf(LocalDate.of(2025, 3, 31));
+        return run;
+    }
+
+    @Test
+    public void testExecute_ProcessesAllChunks() {
+        when(employeeRepository.findByEmployeeIdGreaterThanOrderByEmployeeIdAsc("", PageRequest.of(0, 2)))
+                .thenReturn(Arrays.asList(employee("E001", 50000), employee("E002", 100000)));
+        when(employeeRepository.findByEmployeeIdGreaterThanOrderByEmployeeIdAsc("E002", PageRequest.of(0, 2)))
+                .thenReturn(Collections.singletonList(employee("E003", 250000)));
+
+        TaxRun run = newRun();
+        taxRunService.execute(run);
+
+        assertEquals(TaxRunStatus.COMPLETED, run.getStatus());
+        assertEquals(2, run.getChunksCompleted());
+        assertEquals(3, run.getEmployeesProcessed());
+        assertEquals("E003", run.getLastEmployeeId());
+        assertEquals(12 * 400000, run.getTotalYearlySalary());
+        assertEquals(22500 + 102500 + 462500, run.getTotalTaxAmount(), 0.001);
+        assertEquals(10000, run.getTotalCessAmount(), 0.001);
+    }
+
+    @Test
+    public void testExecute_ResumesFromLastCompletedChunk() {
+        when(employeeRepository.findByEmployeeIdGreaterThanOrderByEmployeeIdAsc("E002", PageRequest.of(0, 2)))
+                .thenReturn(Collections.singletonList(employee("E003", 50000)));
+
+        TaxRun run = newRun();
+        run.setLastEmployeeId("E002");
+        run.setEmployeesProcessed(2);
+        taxRunService.execute(run);
+
+        assertEquals(TaxRunStatus.COMPLETED, run.getStatus());
+        assertEquals(3, run.getEmployeesProcessed());
+        verify(employeeRepository, never()).findByEmployeeIdGreaterThanOrderByEmployeeIdAsc(eq(""), any());
+    }
+
+    @Test
+    public void testExecute_FailureKeepsCursor() {
+        when(employeeRepository.findByEmployeeIdGreaterThanOrderByEmployeeIdAsc(anyString(), any()))
+                .thenThrow(new RuntimeException("Connection lost"));
+
+        TaxRun run = newRun();
+        run.setLastEmployeeId("E002");
+        taxRunService.execute(run);
+
+        assertEquals(TaxRunStatus.FAILED, run.getStatus());
+        assertEquals("E002", run.getLastEmployeeId());
+        assertEquals("Connection lost", run.getFailureReason());
+    }
+}
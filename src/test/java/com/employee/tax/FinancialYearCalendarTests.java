@@ -0,0 +1,52 @@
+package com.employee.tax;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FinancialYearCalendarTests {
+
+    @Test
+    public void testFinancialYearBoundaries() {
+        assertEquals(2023, FinancialYearCalendar.financialYearOfMonth(FinancialYearCalendar.monthIndex(LocalDate.of(2024, 3, 31))));
+        assertEquals(2024, FinancialYearCalendar.financialYearOfMonth(FinancialYearCalendar.monthIndex(LocalDate.of(2024, 4, 1))));
+        assertEquals(FinancialYearCalendar.monthIndex(LocalDate.of(2024, 4, 1)), FinancialYearCalendar.startMonth(2024));
+        assertEquals(FinancialYearCalendar.monthIndex(LocalDate.of(2025, 3, 1)), FinancialYearCalendar.endMonth(2024));
+    }
+
+    @Test
+    public void testMonthsWorked() {
+        LocalDate asOf = LocalDate.of(2024, 6, 10);
+        assertEquals(3, FinancialYearCalendar.monthsWorked(LocalDate.of(2020, 1, 1), asOf));
+        assertEquals(1, FinancialYearCalendar.monthsWorked(LocalDate.of(2024, 6, 30), asOf));
+        assertEquals(0, FinancialYearCalendar.monthsWorked(LocalDate.of(2024, 7, 1), asOf));
+        assertEquals(12, FinancialYearCalendar.monthsWorked(LocalDate.of(2020, 1, 1), LocalDate.of(2025, 3, 31)));
+    }
+
+    @Test
+    public void testMonthsToFinancialYearEnd() {
+        assertEquals(12, FinancialYearCalendar.monthsToFinancialYearEnd(FinancialYearCalendar.monthIndex(LocalDate.of(2024, 4, 15))));
+        assertEquals(1, FinancialYearCalendar.monthsToFinancialYearEnd(FinancialYearCalendar.monthIndex(LocalDate.of(2025, 3, 1))));
+        assertEquals(3, FinancialYearCalendar.monthsToFinancialYearEnd(FinancialYearCalendar.monthIndex(LocalDate.of(2025, 1, 20))));
+    }
+
+    @Test
+    public void testMonthsInFinancialYear() {
+        int joinMonth = FinancialYearCalendar.monthIndex(LocalDate.of(2024, 10, 1));
+        assertEquals(6, FinancialYearCalendar.monthsInFinancialYear(joinMonth, 2024));
+        assertEquals(12, FinancialYearCalendar.monthsInFinancialYear(joinMonth, 2025));
+        assertEquals(0, FinancialYearCalendar.monthsInFinancialYear(joinMonth, 2023));
+    }
+
+    @Test
+    public void testTodayMatchesClock() {
+        FinancialYearCalendar calendar = new FinancialYearCalendar();
+        LocalDate today = LocalDate.now();
+
+        assertEquals(today, calendar.today());
+        assertEquals(FinancialYearCalendar.monthIndex(today), calendar.currentMonth());
+        assertEquals(TaxEngine.financialYearOf(today), calendar.currentFinancialYear());
+    }
+}
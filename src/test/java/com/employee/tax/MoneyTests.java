@@ -0,0 +1,73 @@
+package com.employee.tax;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MoneyTests {
+
+    @Test
+    public void testOfRupees_RoundsHalfAwayFromZero() {
+        assertEquals(5_000_000, Money.ofRupees(50000));
+        assertEquals(29, Money.ofRupees(0.29));
+        assertEquals(1, Money.ofRupees(0.005));
+        assertEquals(-1, Money.ofRupees(-0.005));
+        assertEquals(-123_456, Money.ofRupees(-1234.56));
+        assertEquals(1234.56, Money.toRupees(Money.ofRupees(1234.56)));
+    }
+
+    @Test
+    public void testOfRupees_RejectsNonFiniteAndHugeAmounts() {
+        assertThrows(IllegalArgumentException.class, () -> Money.ofRupees(Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> Money.ofRupees(Double.POSITIVE_INFINITY));
+        assertThrows(IllegalArgumentException.class, () -> Money.ofRupees(1e20));
+    }
+
+    @Test
+    public void testApplyRate_RoundsOnceToThePaisa() {
+        assertEquals(5, Money.applyRate(100, Money.ratePpm(0.05)));
+        assertEquals(1, Money.applyRate(10, Money.ratePpm(0.05)));
+        assertEquals(0, Money.applyRate(9, Money.ratePpm(0.05)));
+        assertEquals(-1, Money.applyRate(-10, Money.ratePpm(0.05)));
+        assertEquals(1_250_000, Money.applyRate(Money.ofRupees(250000), Money.ratePpm(0.05)));
+    }
+
+    @Test
+    public void testRoundToTenRupees() {
+        assertEquals(Money.ofRupees(1230), Money.roundToTenRupees(Money.ofRupees(1234.99)));
+        assertEquals(Money.ofRupees(1240), Money.roundToTenRupees(Money.ofRupees(1235)));
+        assertEquals(Money.ofRupees(-1240), Money.roundToTenRupees(Money.ofRupees(-1235)));
+        assertEquals(0, Money.roundToTenRupees(Money.ofRupees(4.99)));
+    }
+
+    @Test
+    public void testArithmetic_ThrowsOnOverflow() {
+        assertThrows(ArithmeticException.class, () -> Money.plus(Long.MAX_VALUE, 1));
+        assertThrows(ArithmeticException.class, () -> Money.times(Long.MAX_VALUE / 2, 3));
+        assertThrows(ArithmeticException.class, () -> Money.scaledProduct(Long.MAX_VALUE / 1000, Money.RATE_SCALE));
+    }
+
+    @Test
+    public void testFormat() {
+        assertEquals("22500.00", Money.format(2_250_000));
+        assertEquals("0.05", Money.format(5));
+        assertEquals("-1234.50", Money.format(-123_450));
+    }
+
+    @Test
+    public void testSumOfMillionsOfRowsIsExact() {
+        SplittableRandom random = new SplittableRandom(7);
+        long paise = 0;
+        BigDecimal exact = BigDecimal.ZERO;
+        for (int i = 0; i < 2_000_000; i++) {
+            long amount = random.nextLong(1, 50_000_000);
+            paise = Money.plus(paise, amount);
+            exact = exact.add(BigDecimal.valueOf(amount, 2));
+        }
+
+        assertEquals(exact, BigDecimal.valueOf(paise, 2));
+    }
+}
@@ -0,0 +1,65 @@
+package com.employee.tax;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TaxEngineTests {
+
+    private final TaxEngine taxEngine = new TaxEngine(new TaxRegimeProperties());
+
+    @Test
+    public void testTax_MatchesSlabs() {
+        TaxRegime regime = taxEngine.currentRegime();
+
+        assertEquals(0, regime.tax(0));
+        assertEquals(0, regime.tax(250000));
+        assertEquals(12500, regime.tax(500000), 0.001);
+        assertEquals(22500, regime.tax(600000), 0.001);
+        assertEquals(62500, regime.tax(1000000), 0.001);
+        assertEquals(102500, regime.tax(1200000), 0.001);
+    }
+
+    @Test
+    public void testCess() {
+        TaxRegime regime = taxEngine.currentRegime();
+
+        assertEquals(0, regime.cess(2500000));
+        assertEquals(10000, regime.cess(3000000), 0.001);
+    }
+
+    @Test
+    public void testRegime_PicksVersionForFinancialYear() {
+        TaxRegimeProperties properties = new TaxRegimeProperties();
+        TaxRegimeProperties.Regime fy2025 = new TaxRegimeProperties.Regime();
+        fy2025.setName("old");
+        fy2025.setFinancialYear(2025);
+        fy2025.getSlabs().add(new TaxRegimeProperties.Slab(400000, 0.05));
+        properties.getRegimes().add(fy2025);
+        TaxEngine engine = new TaxEngine(properties);
+
+        assertEquals(2000, engine.regimeFor(LocalDate.of(2025, 3, 31)).getFinancialYear());
+        assertEquals(2025, engine.regimeFor(LocalDate.of(2025, 4, 1)).getFinancialYear());
+        assertEquals(5000, engine.regime("old", 2030).tax(500000), 0.001);
+    }
+
+    @Test
+    public void testCompile_RejectsDescendingSlabs() {
+        assertThrows(IllegalArgumentException.class, () ->
+                TaxRegime.compile("bad", 2024, new double[] {500000, 250000}, new double[] {0.05, 0.10}, 0, 0));
+    }
+
+    @Test
+    public void testTax_StatutoryRoundingToTenRupees() {
+        TaxRegime regime = TaxRegime.compile("old", 2024, new double[] {250000, 500000, 1000000},
+                new double[] {0.05, 0.10, 0.20}, 2500000, 0.02, true, 0);
+
+        assertEquals(22500, regime.tax(600004.99));
+        assertEquals(10, regime.tax(250104));
+        assertEquals(0, regime.tax(250094));
+        assertEquals(10000, regime.cess(3000004));
+        assertEquals(2, taxEngine.currentRegime().tax(250040));
+    }
+}
@@ -0,0 +1,93 @@
+package com.employee.tax;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TaxMemoTests {
+
+    private static TaxRegime regime(int memoCapacity) {
+        return TaxRegime.compile("old", 2000, new double[] {250000, 500000, 1000000}, new double[] {0.05, 0.10, 0.20},
+                2500000, 0.02, memoCapacity);
+    }
+
+    @Test
+    public void testTax_RepeatedSalaryIsAHit() {
+        TaxRegime regime = regime(64);
+
+        assertEquals(22500, regime.tax(600000), 0.001);
+        assertEquals(22500, regime.tax(600000), 0.001);
+        assertEquals(102500, regime.tax(1200000), 0.001);
+
+        assertEquals(1, regime.getMemoHits());
+        assertEquals(2, regime.getMemoMisses());
+    }
+
+    @Test
+    public void testTax_SalariesInTheSamePaisaShareAnEntry() {
+        TaxRegime regime = regime(64);
+
+        assertEquals(22500, regime.tax(600000.001));
+        assertEquals(22500, regime.tax(600000.004));
+
+        assertEquals(1, regime.getMemoHits());
+        assertEquals(1, regime.getMemoMisses());
+    }
+
+    @Test
+    public void testTax_MatchesUnmemoisedRegimeWhenFull() {
+        TaxRegime memoised = regime(16);
+        TaxRegime plain = regime(0);
+
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 1000; i++) {
+                double salary = 240000 + i * 1250.25;
+                assertEquals(plain.tax(salary), memoised.tax(salary));
+            }
+        }
+        assertEquals(0, plain.getMemoHits() + plain.getMemoMisses());
+        assertEquals(3000, memoised.getMemoHits() + memoised.getMemoMisses());
+    }
+
+    @Test
+    public void testCapacity_RoundsUpToPowerOfTwo() {
+        assertEquals(16, new TaxMemo(16).capacity());
+        assertEquals(32, new TaxMemo(17).capacity());
+        assertEquals(TaxMemo.PROBES, new TaxMemo(1).capacity());
+    }
+
+    @Test
+    public void testTax_ConcurrentPayGradesStayCorrect() throws Exception {
+        TaxRegime memoised = regime(256);
+        TaxRegime plain = regime(0);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int seed = t;
+                results.add(pool.submit(() -> {
+                    int wrong = 0;
+                    for (int i = 0; i < 100_000; i++) {
+                        double salary = 12 * (20000 + ((i * 31 + seed) % 100) * 500.0);
+                        if (memoised.tax(salary) != plain.tax(salary)) {
+                            wrong++;
+                        }
+                    }
+                    return wrong;
+                }));
+            }
+            for (Future<Integer> result : results) {
+                assertEquals(0, result.get());
+            }
+        } finally {
+            pool.shutdown();
+        }
+        assertTrue(memoised.getMemoHits() > memoised.getMemoMisses());
+    }
+}
@@ -0,0 +1,100 @@
+package com.employee.validation;
+
+import com.employee.entity.Employee;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EmployeeValidatorTests {
+
+    private final EmployeeValidator validator = new EmployeeValidator("E", 3, 9);
+
+    private final LocalDate today = LocalDate.of(2024, 6, 15);
+
+    private Employee employee() {
+        Employee employee = new Employee();
+        employee.setEmployeeId("E123");
+        employee.setFirstName("John");
+        employee.setLastName("Doe");
+        employee.setEmail("john.doe@example.com");
+        employee.setPhoneNumbers(Arrays.asList("1234567890", "0987654321"));
+        employee.setDoj(LocalDate.of(2023, 5, 16));
+        employee.setSalary(50000.0);
+        return employee;
+    }
+
+    @Test
+    public void testValidate_ValidEmployeeReturnsSharedEmptyList() {
+        assertSame(Collections.emptyList(), validator.validate(employee(), today));
+    }
+
+    @Test
+    public void testValidate_ReportsEveryViolationInFieldOrder() {
+        Employee employee = employee();
+        employee.setEmployeeId("E12");
+        employee.setLastName(" ");
+        employee.setEmail("not-an-email");
+        employee.setPhoneNumbers(Arrays.asList("1234567890", "12345"));
+        employee.setDoj(today.plusDays(1));
+        employee.setSalary(0.0);
+
+        List<String> errors = validator.validate(employee, today);
+
+        assertEquals(Arrays.asList(
+                "Employee ID must be 'E' followed by 3 to 9 digits",
+                "Last name is mandatory",
+                "Email should be valid",
+                "Phone number should be a valid 10-digit number",
+                "Date of joining cannot be in the future",
+                "Salary must be a positive number"), errors);
+    }
+
+    @Test
+    public void testValidate_MissingFields() {
+        List<String> errors = validator.validate(new Employee(), today);
+
+        assertTrue(errors.contains("Employee ID is mandatory"));
+        assertTrue(errors.contains("Phone number list cannot be empty"));
+        assertTrue(errors.contains("Salary is mandatory"));
+        assertEquals(7, errors.size());
+    }
+
+    @Test
+    public void testIsValidEmployeeId_ConfigurableScheme() {
+        assertTrue(validator.isValidEmployeeId("E123"));
+        assertTrue(validator.isValidEmployeeId("E123456789"));
+        assertFalse(validator.isValidEmployeeId("E1234567890"));
+        assertFalse(validator.isValidEmployeeId("E12a"));
+        assertFalse(validator.isValidEmployeeId("e123"));
+
+        EmployeeValidator custom = new EmployeeValidator("EMP-", 6, 6);
+        assertTrue(custom.isValidEmployeeId("EMP-000042"));
+        assertFalse(custom.isValidEmployeeId("E000042"));
+    }
+
+    @Test
+    public void testIsValidPhoneNumber() {
+        assertTrue(EmployeeValidator.isValidPhoneNumber("0123456789"));
+        assertFalse(EmployeeValidator.isValidPhoneNumber("012345678"));
+        assertFalse(EmployeeValidator.isValidPhoneNumber("01234567890"));
+        assertFalse(EmployeeValidator.isValidPhoneNumber("01234-6789"));
+        assertFalse(EmployeeValidator.isValidPhoneNumber(null));
+    }
+
+    @Test
+    public void testIsValidEmail() {
+        for (String email : new String[] {"a@b", "john.doe@example.com", "x+tag@mail.example.co.in", "o'neil@my-host.org"}) {
+            assertTrue(EmployeeValidator.isValidEmail(email), email);
+        }
+        for (String email : new String[] {"@example.com", "john@", "john@@example.com", "john..doe@example.com",
+                ".john@example.com", "john.@example.com", "john@-example.com", "john@example-.com", "john@exa mple.com",
+                "john@example..com"}) {
+            assertFalse(EmployeeValidator.isValidEmail(email), email);
+        }
+    }
+}